@@ -0,0 +1,42 @@
+package com.example.demo;
+
+import javafx.stage.Stage;
+
+/**
+ * The LevelFactory interface creates one kind of level. Factories are found through {@link java.util.ServiceLoader}:
+ * a module makes its levels available by declaring {@code provides com.example.demo.LevelFactory with ...}
+ * in its module descriptor, and the {@link LevelRegistry} picks them up when the game starts.
+ *
+ * @author Talya
+ */
+public interface LevelFactory {
+
+	/**
+	 * Gets the id the level is looked up by. By convention this is the fully qualified name of the level's class,
+	 * which is also what levels pass to {@link LevelParent#goToNextLevel(String)}.
+	 *
+	 * @return The level id.
+	 */
+	String getId();
+
+	/**
+	 * Gets the level that follows this one, so the registry can check that it exists and the controller can
+	 * preload it. By default a level has no next level.
+	 *
+	 * @return The id of the next level, or {@code null} if there is none.
+	 */
+	default String getNextLevelId() {
+		return null;
+	}
+
+	/**
+	 * Creates a new instance of the level. The level is constructed but not yet prepared.
+	 *
+	 * @param screenHeight The height of the screen.
+	 * @param screenWidth The width of the screen.
+	 * @param stage The stage the level is shown on, or {@code null} when running headless.
+	 * @return The new level.
+	 */
+	LevelParent create(double screenHeight, double screenWidth, Stage stage);
+
+}
@@ -0,0 +1,31 @@
+package com.example.demo;
+
+/**
+ * The LevelOutcome enum describes how far a level has progressed. Every level starts out
+ * {@link #IN_PROGRESS} and switches to one of the other values exactly once, when it ends.
+ *
+ * @author Talya
+ */
+public enum LevelOutcome {
+
+	/**
+	 * The level is still being played.
+	 */
+	IN_PROGRESS,
+
+	/**
+	 * The player reached the level's goal and moves on to the next level.
+	 */
+	COMPLETED,
+
+	/**
+	 * The player won the game.
+	 */
+	WON,
+
+	/**
+	 * The player's plane was destroyed.
+	 */
+	LOST
+
+}
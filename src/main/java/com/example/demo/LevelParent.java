@@ -1,23 +1,49 @@
 package com.example.demo;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.random.RandomGenerator;
 
+import com.example.demo.actors.ActiveActor;
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.Boss;
 import com.example.demo.actors.FighterPlane;
+import com.example.demo.actors.PowerUp;
+import com.example.demo.actors.PowerUpType;
 import com.example.demo.actors.UserPlane;
+import com.example.demo.assets.ImageLoader;
+import com.example.demo.collisions.CollisionDetector;
+import com.example.demo.collisions.OffScreenCuller;
 import com.example.demo.displays.BossLivesDisplay;
 import com.example.demo.displays.PlanesLeftDisplay;
+import com.example.demo.events.EnemyKilledEvent;
+import com.example.demo.events.EventBus;
+import com.example.demo.events.LevelTransitionEvent;
+import com.example.demo.events.PlayerHitEvent;
+import com.example.demo.events.PowerUpCollectedEvent;
+import com.example.demo.events.ProjectileFiredEvent;
 import com.example.demo.levels.LevelView;
-import javafx.animation.*;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import com.example.demo.logging.LogLevel;
+import com.example.demo.profiling.TickProfiler;
+import com.example.demo.random.RandomService;
+import com.example.demo.random.RandomStream;
+import com.example.demo.rendering.CanvasRenderer;
+import com.example.demo.replay.InputRecording;
+import com.example.demo.replay.RecordedKey;
+import com.example.demo.simulation.FixedStepLoop;
+import com.example.demo.simulation.GameScheduler;
+import com.example.demo.simulation.HeadlessMode;
+import com.example.demo.simulation.ParallelActorUpdater;
 import javafx.event.EventHandler;
 import javafx.scene.Group;
 import javafx.scene.Scene;
 import javafx.scene.image.*;
 import javafx.scene.input.*;
 import javafx.stage.Stage;
-import javafx.util.Duration;
 
 /**
  * The LevelParent class is the base class for all game levels.
@@ -28,32 +54,102 @@ import javafx.util.Duration;
  * It defines the game loop, handling the core functionality needed for any level.
  * Subclasses implement level-specific behavior such as spawning enemies or displaying level details.
  * </p>
+ * <p>
+ * Every random decision is drawn from the level's {@link RandomService}, so the same seed and the same input
+ * always play out the same way.
+ * </p>
+ * <p>
+ * The scene is split into {@link SceneLayers}, one group per {@link SceneLayer}. Nodes are added to the
+ * layer of their category through {@link #getLayer(SceneLayer)} rather than to the root directly; actors are
+ * added through {@link #addActorToScene(SceneLayer, ActiveActor)}. A level that renders in
+ * {@link RenderMode#CANVAS} mode keeps its actors out of the scene and draws them all into one canvas instead.
+ * </p>
+ * <p>
+ * The game loop is a {@link FixedStepLoop}: the level is simulated at a fixed number of ticks per second,
+ * chosen by {@link #getTicksPerSecond()}, independently of the display's refresh rate. Actors are drawn
+ * between their last two simulated positions, so motion stays smooth at any rate.
+ * </p>
+ * <p>
+ * Game logic that runs at a rate of its own, such as handing out a power-up every so often, is scheduled on the
+ * level's {@link GameScheduler} rather than on a timeline of its own. The scheduler is ticked by the game loop,
+ * and when the level ends it is disposed together with the loop, so nothing the level started keeps running.
+ * </p>
+ * <p>
+ * A level is built in two steps. {@link #prepare()} builds its nodes and actors and may run on a background
+ * thread, since nothing is attached to a showing window yet; {@link #initializeScene()} then only has to wrap
+ * the prepared root in a scene on the JavaFX application thread. This lets the next level be preloaded while
+ * the current one is played.
+ * </p>
+ * <p>
+ * When {@link HeadlessMode} is enabled the level creates no scene and starts no game loop. The game logic
+ * is then advanced one tick at a time through {@link #updateScene()}, and the end of the level is reported
+ * through {@link #getOutcome()} instead of a game over or victory screen.
+ * </p>
+ * <p>
+ * When the {@code skybattle.record} system property names a directory, every key press and release that
+ * reaches the level is recorded with the tick it arrived before. When the level ends the recording is written
+ * to that directory together with the level's seed and end state, so the session can be replayed exactly.
+ * </p>
+ * <p>
+ * What happens in the level is published on its {@link EventBus}: level transitions, kills, hits on the user,
+ * projectiles fired and power-ups collected. The gameplay events are reused from tick to tick, so publishing
+ * them allocates nothing.
+ * </p>
  *
  * @author Talya
  */
-public abstract class LevelParent extends Observable {
+public abstract class LevelParent {
 
 	private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
-	private static final int MILLISECOND_DELAY = 50;
+	private static final int DEFAULT_TICKS_PER_SECOND = 60;
+	private static final double COLLISION_CELL_SIZE = 100;
+	private static final TickPhase[] TICK_PHASES = TickPhase.values();
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+	private static final String RECORD_DIRECTORY_PROPERTY = "skybattle.record";
+	private static final String RECORDING_EXTENSION = ".sbr";
 	private final double screenHeight;
 	private final double screenWidth;
 	private final double enemyMaximumYPosition;
+	private final boolean headless;
+	private final RenderMode renderMode;
 
 	private final Group root;
-	private final Timeline timeline;
+	private final SceneLayers layers;
+	private final FixedStepLoop gameLoop;
+	private final GameScheduler scheduler;
 	private final UserPlane user;
-	private final Scene scene;
+	private Scene scene;
+	private CanvasRenderer canvasRenderer;
+	private long lastFrameNanos;
 	private final ImageView background;
+	private final CollisionDetector collisionDetector;
+	private final OffScreenCuller offScreenCuller;
+	private final RandomService random;
+	private final TickProfiler tickProfiler;
+	private final InputRecording recording;
+	private final ParallelActorUpdater actorUpdater;
+	private final EventBus eventBus;
+	private final EnemyKilledEvent enemyKilledEvent;
+	private final PlayerHitEvent playerHitEvent;
+	private final ProjectileFiredEvent projectileFiredEvent;
+	private final PowerUpCollectedEvent powerUpCollectedEvent;
 
 	protected final List<ActiveActorDestructible> friendlyUnits;
 	private final List<ActiveActorDestructible> enemyUnits;
 	private final List<ActiveActorDestructible> userProjectiles;
 	private final List<ActiveActorDestructible> enemyProjectiles;
+	private final List<ActiveActorDestructible> powerUps;
+	private final List<ActiveActorDestructible> queuedUserProjectiles;
+	private final List<QueuedPowerUp> queuedPowerUps;
+	private final List<ActiveActorDestructible> removedActors;
 	
 	private int currentNumberOfEnemies;
 	private LevelView levelView;
 	private PlanesLeftDisplay planesLeftDisplay; // Add PlanesLeftDisplay field
 	private BossLivesDisplay bossLivesDisplay; // Add BossLivesDisplay field
+	private LevelOutcome outcome;
+	private long tickCount;
+	private boolean prepared;
 
 	/**
 	 * Constructs a new level with the specified background image, screen dimensions,
@@ -64,23 +160,48 @@ public abstract class LevelParent extends Observable {
 	 * @param screenWidth The width of the screen for the level.
 	 * @param playerInitialHealth The initial health of the player.
 	 */
+	// The render mode, tick rate and level view hooks are documented not to depend on subclass state
+	@SuppressWarnings("this-escape")
 	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth) {
+		this.headless = HeadlessMode.isEnabled();
+		this.renderMode = getRenderMode();
+		this.random = RandomService.forLevel(getClass());
 		this.root = new Group();
-		this.scene = new Scene(root, screenWidth, screenHeight);
-		this.timeline = new Timeline();
+		this.layers = new SceneLayers(root);
+		this.gameLoop = new FixedStepLoop(getTicksPerSecond(), this::updateScene, this::renderScene);
+		this.scheduler = new GameScheduler(getClass().getSimpleName(), getTicksPerSecond());
+		this.tickProfiler = new TickProfiler(NANOS_PER_SECOND / getTicksPerSecond());
+		this.actorUpdater = ParallelActorUpdater.shared();
+		this.eventBus = new EventBus();
+		this.enemyKilledEvent = new EnemyKilledEvent();
+		this.playerHitEvent = new PlayerHitEvent();
+		this.projectileFiredEvent = new ProjectileFiredEvent();
+		this.powerUpCollectedEvent = new PowerUpCollectedEvent();
+		this.recording = System.getProperty(RECORD_DIRECTORY_PROPERTY) == null ? null
+				: new InputRecording(getClass().getName(), RandomService.getSessionSeed(), random.getSeed(),
+						getTicksPerSecond());
 		this.user = new UserPlane(playerInitialHealth);
 		this.friendlyUnits = new ArrayList<>();
 		this.enemyUnits = new ArrayList<>();
 		this.userProjectiles = new ArrayList<>();
 		this.enemyProjectiles = new ArrayList<>();
+		this.powerUps = new ArrayList<>();
+		this.queuedUserProjectiles = new ArrayList<>();
+		this.queuedPowerUps = new ArrayList<>();
+		this.removedActors = new ArrayList<>();
 
-		this.background = new ImageView(new Image(getClass().getResource(backgroundImageName).toExternalForm()));
+		this.background = new ImageView(ImageLoader.load(backgroundImageName, screenWidth, screenHeight));
 		this.screenHeight = screenHeight;
 		this.screenWidth = screenWidth;
 		this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
+		this.collisionDetector = new CollisionDetector(screenWidth, screenHeight, COLLISION_CELL_SIZE);
+		this.offScreenCuller = new OffScreenCuller(screenWidth, screenHeight);
 		this.levelView = instantiateLevelView();
+		this.levelView.listenTo(eventBus);
 		this.currentNumberOfEnemies = 0;
-		initializeTimeline();
+		this.outcome = LevelOutcome.IN_PROGRESS;
+		GameLog.info(LogCategory.LEVEL, "Game loop initialized at {} ticks per second.", getTicksPerSecond());
+		GameLog.info(LogCategory.LEVEL, "Random seed: {}", random.getSeed());
 		friendlyUnits.add(user);
 
 
@@ -104,8 +225,7 @@ public abstract class LevelParent extends Observable {
 	 */
 	// Initialize planes left display
 	protected void initializePlanesLeftDisplay(int totalEnemies) {
-		planesLeftDisplay = new PlanesLeftDisplay(root, screenWidth, 25, user, totalEnemies);
-		planesLeftDisplay.start();
+		planesLeftDisplay = new PlanesLeftDisplay(getLayer(SceneLayer.HUD), screenWidth, 25, eventBus, totalEnemies);
 	}
 
 	/**
@@ -115,8 +235,7 @@ public abstract class LevelParent extends Observable {
 	 */
 	// Initialize boss lives container
 	protected void initializeBossLivesDisplay(Boss boss) {
-		bossLivesDisplay = new BossLivesDisplay(root, screenWidth, 25, boss);
-		bossLivesDisplay.start();
+		bossLivesDisplay = new BossLivesDisplay(getLayer(SceneLayer.HUD), screenWidth, 25, boss, eventBus);
 	}
 
 
@@ -146,74 +265,208 @@ public abstract class LevelParent extends Observable {
 
 	/**
 	 * Abstract method to instantiate and return the level view, which controls the visual display of the level.
+	 * This is called from the constructor and must not depend on subclass state.
 	 *
 	 * @return The level view object.
 	 */
 	protected abstract LevelView instantiateLevelView();
 
 	/**
-	 * Initializes the scene for the level by setting up the background, friendly units, and other necessary containers.
-	 *
-	 * @return The scene object for the level.
+	 * Builds the level's scene graph: the background, friendly units, and other necessary containers.
+	 * Nothing is shown and no animation is started, so this may be called from a background thread to
+	 * preload the level. Subclasses that add nodes of their own override this and call it first.
+	 * Calling it again has no effect.
 	 */
-	public Scene initializeScene() {
+	public void prepare() {
+		if (prepared) {
+			return;
+		}
+		prepared = true;
 		initializeBackground();
+		initializeCanvasRenderer();
 		initializeFriendlyUnits();
 		initializeContainers(); // Initialize containers in subclasses
 		levelView.showHeartDisplay();
+		ImageLoader.logFootprint(getClass().getSimpleName());
+	}
+
+	/**
+	 * Checks whether {@link #prepare()} has run.
+	 *
+	 * @return {@code true} if the level's scene graph has been built.
+	 */
+	public boolean isPrepared() {
+		return prepared;
+	}
+
+	/**
+	 * Initializes the scene for the level, preparing the level first if that has not happened yet.
+	 * Unless the level is headless, this must be called on the JavaFX application thread.
+	 *
+	 * @return The scene object for the level, or {@code null} when running in headless mode.
+	 */
+	public Scene initializeScene() {
+		prepare();
+		if (scene == null && !headless) {
+			scene = new Scene(root, screenWidth, screenHeight);
+		}
 		return scene;
 	}
 
 
 
 	/**
-	 * Starts the game by starting the animation timeline, which begins updating the game state.
+	 * Starts the game by starting the game loop, which begins updating the game state.
 	 */
 	public void startGame() {
 		background.requestFocus();
-		timeline.play();
-		System.out.println("Game started and timeline playing.");
+		gameLoop.start();
+		GameLog.info(LogCategory.LEVEL, "Game started and game loop running.");
 		 	}
 
 
 	/**
-	 * Transitions to the next level by notifying observers of the change.
+	 * Gets the scheduler that runs the level's periodic tasks. Tasks scheduled on it run from the level's tick
+	 * and are cancelled when the level is disposed.
 	 *
-	 * @param levelName The name of the next level.
+	 * @return The level's scheduler.
+	 */
+	public GameScheduler getScheduler() {
+		return scheduler;
+	}
+
+	/**
+	 * Stops the level's game loop and cancels every task on its scheduler, so nothing keeps running, or keeps
+	 * the level in memory, once it has ended. This happens automatically at the end of the tick in which the
+	 * level is won, lost or completed. Calling it again has no effect.
+	 */
+	public void dispose() {
+		if (scheduler.isDisposed()) {
+			return;
+		}
+		gameLoop.stop();
+		scheduler.dispose();
+		GameLog.info(LogCategory.LEVEL, "{} disposed after {} ticks.", getClass().getSimpleName(), tickCount);
+	}
+
+	/**
+	 * Transitions to the next level by publishing a {@link LevelTransitionEvent}.
+	 *
+	 * @param levelName The fully qualified class name of the next level.
 	 */
 	public void goToNextLevel(String levelName) {
-		System.out.println("Transitioning to next level: " + levelName);
-		setChanged();
-		notifyObservers(levelName);
+		GameLog.info(LogCategory.GAME, "Transitioning to next level: {}", levelName);
+		eventBus.publish(new LevelTransitionEvent(levelName));
+	}
+
+	/**
+	 * Gets the bus the level publishes its events on.
+	 *
+	 * @return The level's event bus.
+	 */
+	public EventBus getEventBus() {
+		return eventBus;
 	}
 
 	/**
 	 * Updates the game state, including spawning enemies, updating actors, checking collisions,
-	 * and removing destroyed actors.
+	 * and removing destroyed actors. This advances the level by exactly one tick of {@link #getStepSeconds()}
+	 * and does not touch the JavaFX scene graph's rendering, so it can be called directly when running headless.
+	 * The work is split into the {@link TickPhase}s, which run in their declared order and are each timed
+	 * by the level's {@link TickProfiler}, after which {@link #onTickCompleted()} is called. The profile is written
+	 * to the log after the tick in which the level ends,
+	 * the input recording, if there is one, is saved at the same point, and the level is then {@link #dispose()
+	 * disposed}.
+	 */
+	public void updateScene() {
+		LevelOutcome outcomeBefore = outcome;
+		long phaseStart = System.nanoTime();
+		for (TickPhase phase : TICK_PHASES) {
+			runPhase(phase);
+			long phaseEnd = System.nanoTime();
+			tickProfiler.recordPhase(phase, phaseEnd - phaseStart);
+			phaseStart = phaseEnd;
+		}
+		tickProfiler.endTick();
+		onTickCompleted();
+		tickCount++;
+		if (outcomeBefore == LevelOutcome.IN_PROGRESS && outcome != LevelOutcome.IN_PROGRESS) {
+			logTickProfile();
+			saveRecording();
+			dispose();
+		}
+	}
+
+	/**
+	 * Called at the end of every tick, once the {@link TickProfiler} has recorded it, so the profiler's last
+	 * tick time is the tick that has just run. {@link #getTickCount()} still returns that tick's index, and a
+	 * level completed or lost from here ends with this tick. By default this does nothing.
+	 */
+	protected void onTickCompleted() {
+	}
+
+	/**
+	 * Runs a single phase of a tick. The game itself only runs phases through {@link #updateScene()};
+	 * this is public so the phases can be measured one at a time.
+	 *
+	 * @param phase The phase to run.
+	 */
+	public void runPhase(TickPhase phase) {
+		switch (phase) {
+			case SPAWN -> {
+				spawnQueuedActors();
+				spawnEnemyUnits();
+			}
+			case UPDATE -> {
+				savePreviousPositions();
+				updateActors();
+			}
+			case SCHEDULED_TASKS -> scheduler.tick();
+			case FIRE -> {
+				generateEnemyFire();
+				updateNumberOfEnemies();
+			}
+			case PENETRATION -> handleEnemyPenetration();
+			case CULL -> cullOffScreenProjectiles();
+			case USER_PROJECTILE_COLLISIONS -> handleUserProjectileCollisions();
+			case ENEMY_PROJECTILE_COLLISIONS -> handleEnemyProjectileCollisions();
+			case PLANE_COLLISIONS -> handlePlaneCollisions();
+			case POWER_UPS -> collectPowerUps();
+			case REMOVAL -> removeAllDestroyedActors();
+			case KILL_COUNT -> updateKillCount();
+			case VIEW_UPDATE -> updateLevelView();
+			case GAME_OVER_CHECK -> checkIfGameOver();
+		}
+	}
+
+	/**
+	 * Gets the number of ticks per second the level is simulated at. Levels override this to run their
+	 * logic at a different rate; all velocities and rates are per second, so gameplay speed is unaffected.
+	 * This is called from the constructor and must not depend on subclass state.
+	 *
+	 * @return The simulation rate, in ticks per second.
+	 */
+	protected int getTicksPerSecond() {
+		return DEFAULT_TICKS_PER_SECOND;
+	}
+
+	/**
+	 * Gets the level's source of randomness. All random decisions in the level must draw from one of its
+	 * streams, so a level can be reproduced from its seed.
+	 *
+	 * @return The level's random number service.
 	 */
-	private void updateScene() {
-		spawnEnemyUnits();
-		updateActors();
-		generateEnemyFire();
-		updateNumberOfEnemies();
-		handleEnemyPenetration();
-		handleUserProjectileCollisions();
-		handleEnemyProjectileCollisions();
-		handlePlaneCollisions();
-		removeAllDestroyedActors();
-		updateKillCount();
-		updateLevelView();
-		checkIfGameOver();
+	public RandomService getRandom() {
+		return random;
 	}
 
 	/**
-	 * Initializes the timeline for the game loop, which updates the game state at regular intervals.
+	 * Gets the length of one simulation tick.
+	 *
+	 * @return The tick length, in seconds.
 	 */
-	private void initializeTimeline() {
-		timeline.setCycleCount(Timeline.INDEFINITE);
-		KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> updateScene());
-		timeline.getKeyFrames().add(gameLoop);
-		System.out.println("Timeline initialized.");
+	public double getStepSeconds() {
+		return gameLoop.getStepSeconds();
 	}
 
 	/**
@@ -225,84 +478,304 @@ public abstract class LevelParent extends Observable {
 		background.setFitWidth(screenWidth);
 		background.setOnKeyPressed(new EventHandler<KeyEvent>() {
 			public void handle(KeyEvent e) {
-				KeyCode kc = e.getCode();
-				if (kc == KeyCode.UP) user.moveUp();
-				if (kc == KeyCode.DOWN) user.moveDown();
-				if (kc == KeyCode.SPACE) fireProjectile();
+				handleKeyPressed(e.getCode());
 				e.consume(); // Prevent further handling of the event
 			}
 		});
 		background.setOnKeyReleased(new EventHandler<KeyEvent>() {
 			public void handle(KeyEvent e) {
-				KeyCode kc = e.getCode();
-				if (kc == KeyCode.UP || kc == KeyCode.DOWN) user.stop();
+				handleKeyReleased(e.getCode());
 				e.consume(); // Prevent further handling of the event
 			}
 		});
-		root.getChildren().add(background);
-		System.out.println("Background initialized.");
+		layers.add(SceneLayer.BACKGROUND, background);
+		layers.setCached(SceneLayer.BACKGROUND, true);
+		GameLog.debug(LogCategory.LEVEL, "Background initialized.");
+	}
+
+	/**
+	 * Applies a key press to the user plane. This is what the background's key handler calls, and it can
+	 * also be called directly to drive the level without a keyboard.
+	 *
+	 * @param kc The key that was pressed.
+	 */
+	public void handleKeyPressed(KeyCode kc) {
+		recordKey(kc, true);
+		if (kc == KeyCode.UP) user.moveUp();
+		if (kc == KeyCode.DOWN) user.moveDown();
+		if (kc == KeyCode.SPACE) fireProjectile();
 	}
 
 	/**
-	 * Fires a projectile from the user plane and adds it to the scene.
+	 * Applies a key release to the user plane. This is what the background's key handler calls, and it can
+	 * also be called directly to drive the level without a keyboard.
+	 *
+	 * @param kc The key that was released.
+	 */
+	public void handleKeyReleased(KeyCode kc) {
+		recordKey(kc, false);
+		if (kc == KeyCode.UP || kc == KeyCode.DOWN) user.stop();
+	}
+
+	/**
+	 * Adds a key event to the input recording, if the level is being recorded and the key affects the level.
+	 *
+	 * @param kc The key.
+	 * @param pressed {@code true} for a press, {@code false} for a release.
+	 */
+	private void recordKey(KeyCode kc, boolean pressed) {
+		RecordedKey key = RecordedKey.of(kc);
+		if (recording != null && key != null && outcome == LevelOutcome.IN_PROGRESS) {
+			recording.record(tickCount, key, pressed);
+		}
+	}
+
+	/**
+	 * Fires a projectile from the user plane and adds it to the scene. Every wingman fires as well; their
+	 * projectiles are queued and join the level at the start of the next tick.
 	 */
 	private void fireProjectile() {
-		ActiveActorDestructible projectile = user.fireProjectile();
-		root.getChildren().add(projectile);
+		addUserProjectile(user.fireProjectile());
+		for (ActiveActorDestructible actor : powerUps) {
+			PowerUp powerUp = (PowerUp) actor;
+			if (powerUp.isAttached()) {
+				queuedUserProjectiles.add(powerUp.fireProjectile());
+			}
+		}
+	}
+
+	/**
+	 * Queues a power-up to join the level at the start of the next tick. It then flies towards the user
+	 * until it is collected. The power-up is only taken from its pool when it joins the level, on the game
+	 * loop thread, so this can be called while the level is still being built on another thread.
+	 *
+	 * @param type The type of power-up.
+	 * @param x The initial x-coordinate of the power-up.
+	 * @param y The initial y-coordinate of the power-up.
+	 */
+	protected void spawnPowerUp(PowerUpType type, double x, double y) {
+		queuedPowerUps.add(new QueuedPowerUp(type, x, y));
+		GameLog.debug(LogCategory.LEVEL, "{} power-up queued.", type);
+	}
+
+	/**
+	 * Adds the actors queued since the previous tick to the level and the scene, in the order they were queued.
+	 * Actors are queued rather than added where they are created, so no actor list changes while a pass of
+	 * the tick is walking it.
+	 */
+	private void spawnQueuedActors() {
+		for (int i = 0; i < queuedUserProjectiles.size(); i++) {
+			addUserProjectile(queuedUserProjectiles.get(i));
+		}
+		queuedUserProjectiles.clear();
+		for (int i = 0; i < queuedPowerUps.size(); i++) {
+			QueuedPowerUp queued = queuedPowerUps.get(i);
+			PowerUp powerUp = PowerUp.obtain(queued.type, queued.x, queued.y, user);
+			addActorToScene(SceneLayer.FRIENDLIES, powerUp);
+			powerUps.add(powerUp);
+		}
+		queuedPowerUps.clear();
+	}
+
+	/**
+	 * Collects every power-up that has reached the user and applies its effect, then publishes a
+	 * {@link PowerUpCollectedEvent} for it.
+	 */
+	private void collectPowerUps() {
+		for (int i = 0; i < powerUps.size(); i++) {
+			PowerUp powerUp = (PowerUp) powerUps.get(i);
+			if (powerUp.isCollectable() && powerUp.intersects(user)) {
+				powerUp.collect();
+				if (powerUp.getType() == PowerUpType.BARRIER) {
+					enemyProjectiles.forEach(ActiveActorDestructible::destroy);
+				}
+				GameLog.info(LogCategory.COMBAT, "{} power-up collected.", powerUp.getType());
+				eventBus.publish(powerUpCollectedEvent.set(powerUp));
+			}
+		}
+	}
+
+	/**
+	 * Adds a projectile fired by the user's side to the level and the scene.
+	 *
+	 * @param projectile The projectile to add.
+	 */
+	protected void addUserProjectile(ActiveActorDestructible projectile) {
+		addActorToScene(SceneLayer.PROJECTILES, projectile);
 		userProjectiles.add(projectile);
+		eventBus.publish(projectileFiredEvent.set(projectile, true));
 	}
 
 	/**
-	 * Generates enemy projectiles by having each enemy fire one.
+	 * Generates enemy projectiles by giving each enemy the chance to fire during the current tick.
 	 */
 	private void generateEnemyFire() {
-		enemyUnits.forEach(enemy -> spawnEnemyProjectile(((FighterPlane) enemy).fireProjectile()));
+		double stepSeconds = getStepSeconds();
+		RandomGenerator fireRandom = random.stream(RandomStream.ENEMY_FIRE);
+		enemyUnits.forEach(enemy -> spawnEnemyProjectile(((FighterPlane) enemy).fireDuringStep(stepSeconds, fireRandom)));
 	}
 
 	/**
 	 * Spawns an enemy projectile and adds it to the scene.
 	 *
-	 * @param projectile The projectile to be spawned.
+	 * @param projectile The projectile to be spawned, or {@code null} if there is none.
 	 */
-	private void spawnEnemyProjectile(ActiveActorDestructible projectile) {
+	protected void spawnEnemyProjectile(ActiveActorDestructible projectile) {
 		if (projectile != null) {
-			root.getChildren().add(projectile);
+			addActorToScene(SceneLayer.PROJECTILES, projectile);
 			enemyProjectiles.add(projectile);
-			System.out.println("Enemy fired a projectile.");
+			eventBus.publish(projectileFiredEvent.set(projectile, false));
+			GameLog.trace(LogCategory.COMBAT, "Enemy fired a projectile.");
 		}
 	}
 
 	/**
-	 * Updates all actors in the game (planes, projectiles) to their next state.
+	 * Updates all actors in the game (planes, projectiles) to their next state. Long lists are split across
+	 * the {@link ParallelActorUpdater}'s threads; the result is the same with any number of threads.
 	 */
-
 	private void updateActors() {
-		friendlyUnits.forEach(plane -> plane.updateActor());
-		enemyUnits.forEach(enemy -> enemy.updateActor());
-		userProjectiles.forEach(projectile -> projectile.updateActor());
-		enemyProjectiles.forEach(projectile -> projectile.updateActor());
+		double stepSeconds = getStepSeconds();
+		actorUpdater.update(friendlyUnits, stepSeconds);
+		actorUpdater.update(enemyUnits, stepSeconds);
+		actorUpdater.update(userProjectiles, stepSeconds);
+		actorUpdater.update(enemyProjectiles, stepSeconds);
+		actorUpdater.update(powerUps, stepSeconds);
+	}
+
+	/**
+	 * Remembers where every actor was before the current tick, so it can be drawn between the two positions.
+	 */
+	private void savePreviousPositions() {
+		friendlyUnits.forEach(plane -> plane.savePreviousPosition());
+		enemyUnits.forEach(enemy -> enemy.savePreviousPosition());
+		userProjectiles.forEach(projectile -> projectile.savePreviousPosition());
+		enemyProjectiles.forEach(projectile -> projectile.savePreviousPosition());
+		powerUps.forEach(powerUp -> powerUp.savePreviousPosition());
+	}
+
+	/**
+	 * Draws all actors at a point between their previous and current positions: by moving their JavaFX nodes,
+	 * or, in {@link RenderMode#CANVAS} mode, by drawing them into the level's canvas. Nodes that follow an
+	 * actor are then placed by {@link #renderEffects(double)}. The time since the previous frame is recorded
+	 * by the tick profiler.
+	 *
+	 * @param alpha How far the display is into the next tick, from 0 to 1.
+	 */
+	private void renderScene(double alpha) {
+		long now = System.nanoTime();
+		if (lastFrameNanos != 0) {
+			tickProfiler.recordFrame(now - lastFrameNanos);
+		}
+		lastFrameNanos = now;
+		if (canvasRenderer != null) {
+			canvasRenderer.draw(alpha);
+		} else {
+			friendlyUnits.forEach(plane -> plane.render(alpha));
+			enemyUnits.forEach(enemy -> enemy.render(alpha));
+			userProjectiles.forEach(projectile -> projectile.render(alpha));
+			enemyProjectiles.forEach(projectile -> projectile.render(alpha));
+			powerUps.forEach(powerUp -> powerUp.render(alpha));
+		}
+		renderEffects(alpha);
+	}
+
+	/**
+	 * Places the nodes that follow an actor without being one, such as a boss's shield, at the same point
+	 * between two ticks as the actors were drawn. This runs once per frame in both render modes; by default
+	 * it does nothing.
+	 *
+	 * @param alpha How far the display is into the next tick, from 0 to 1.
+	 */
+	protected void renderEffects(double alpha) {
+	}
+
+	/**
+	 * Gets how the level draws its actors. This is called from the constructor and must not depend on
+	 * subclass state.
+	 *
+	 * @return The render mode; by default the one configured through {@link RenderMode#configured()}.
+	 */
+	protected RenderMode getRenderMode() {
+		return RenderMode.configured();
 	}
 
 	/**
-	 * Removes all destroyed actors from the scene and from the corresponding lists.
+	 * Creates the canvas the actors are drawn into when the level renders in {@link RenderMode#CANVAS} mode.
+	 * The canvas takes the place of the enemy, projectile and friendly layers, which it draws in the same
+	 * order, so effects and the HUD still appear above the actors.
+	 */
+	private void initializeCanvasRenderer() {
+		if (renderMode != RenderMode.CANVAS || headless) {
+			return;
+		}
+		canvasRenderer = new CanvasRenderer(screenWidth, screenHeight);
+		canvasRenderer.addBatch(enemyUnits);
+		canvasRenderer.addBatch(userProjectiles);
+		canvasRenderer.addBatch(enemyProjectiles);
+		canvasRenderer.addBatch(friendlyUnits);
+		canvasRenderer.addBatch(powerUps);
+		layers.add(SceneLayer.ENEMIES, canvasRenderer.getCanvas());
+		GameLog.info(LogCategory.LEVEL, "{} renders its actors into a canvas.", getClass().getSimpleName());
+	}
+
+	/**
+	 * Adds an actor's node to a scene layer. Levels that draw into a canvas leave the node out of the scene,
+	 * since the canvas draws the actor from its list instead.
+	 *
+	 * @param layer The layer the actor belongs to.
+	 * @param actor The actor.
+	 */
+	protected void addActorToScene(SceneLayer layer, ActiveActor actor) {
+		if (renderMode == RenderMode.SCENE_GRAPH) {
+			layers.add(layer, actor);
+		}
+	}
+
+	/**
+	 * Removes all destroyed actors from the corresponding lists, then takes them out of the scene in a
+	 * single batch so each layer sees at most one change per tick. Only then are the removed actors
+	 * recycled, so a pooled actor is never handed out again while its node is still in the scene.
 	 */
 	private void removeAllDestroyedActors() {
-		removeDestroyedActors(friendlyUnits);
-		removeDestroyedActors(enemyUnits);
-		removeDestroyedActors(userProjectiles);
-		removeDestroyedActors(enemyProjectiles);
+		removeDestroyedActors(friendlyUnits, SceneLayer.FRIENDLIES);
+		removeDestroyedActors(enemyUnits, SceneLayer.ENEMIES);
+		removeDestroyedActors(userProjectiles, SceneLayer.PROJECTILES);
+		removeDestroyedActors(enemyProjectiles, SceneLayer.PROJECTILES);
+		removeDestroyedActors(powerUps, SceneLayer.FRIENDLIES);
+		layers.flushRemovals();
+		for (int i = 0; i < removedActors.size(); i++) {
+			removedActors.get(i).recycle();
+		}
+		removedActors.clear();
 	}
 
 	/**
-	 * Removes all destroyed actors from the given list and the scene.
+	 * Compacts the given list in place, keeping the surviving actors in order. Destroyed actors are queued for
+	 * removal from the scene and set aside to be recycled once the removals have been applied.
 	 *
 	 * @param actors The list of actors to check for destruction.
+	 * @param layer The scene layer the actors were added to.
 	 */
-	private void removeDestroyedActors(List<ActiveActorDestructible> actors) {
-		List<ActiveActorDestructible> destroyedActors = actors.stream().filter(actor -> actor.isDestroyed())
-				.collect(Collectors.toList());
-		root.getChildren().removeAll(destroyedActors);
-		actors.removeAll(destroyedActors);
+	private void removeDestroyedActors(List<ActiveActorDestructible> actors, SceneLayer layer) {
+		int size = actors.size();
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			ActiveActorDestructible actor = actors.get(i);
+			if (actor.isDestroyed()) {
+				if (renderMode == RenderMode.SCENE_GRAPH) {
+					layers.queueRemoval(layer, actor);
+				}
+				removedActors.add(actor);
+			} else {
+				if (kept != i) {
+					actors.set(kept, actor);
+				}
+				kept++;
+			}
+		}
+		if (kept < size) {
+			actors.subList(kept, size).clear();
+		}
 	}
 
 	/**
@@ -330,24 +803,31 @@ public abstract class LevelParent extends Observable {
 	/**
 	 * Handles collisions between two lists of actors and applies damage to both actors in each collision.
 	 * If the user projectile hits an enemy, the kill count is incremented.
+	 * Overlapping pairs are found through the collision detector's spatial hash, in the same order
+	 * as a nested scan over both lists.
 	 *
 	 * @param actors1 The first list of actors.
 	 * @param actors2 The second list of actors.
 	 */
 	private void handleCollisions(List<ActiveActorDestructible> actors1,
 								  List<ActiveActorDestructible> actors2) {
-		for (ActiveActorDestructible actor : actors2) {
-			for (ActiveActorDestructible otherActor : actors1) {
-				if (actor.getBoundsInParent().intersects(otherActor.getBoundsInParent())) {
-					actor.takeDamage();
-					otherActor.takeDamage();
-					if (!actor.isDestroyed() && !otherActor.isDestroyed()) {
-						// Increment kill count and update planes left text if user projectile hits enemy plane
-						if (actors1 == userProjectiles && actors2 == enemyUnits) {
-							getUser().incrementKillCount();
-						}
-						System.out.println("Collision detected between " + actor + " and " + otherActor); // Debug
-					}
+		int collisions = collisionDetector.findCollisions(actors1, actors2);
+		for (int i = 0; i < collisions; i++) {
+			ActiveActorDestructible actor = actors2.get(collisionDetector.getSecondActorIndex(i));
+			ActiveActorDestructible otherActor = actors1.get(collisionDetector.getFirstActorIndex(i));
+			actor.takeDamage();
+			otherActor.takeDamage();
+			if (actor == user || otherActor == user) {
+				publishPlayerHit();
+			}
+			if (!actor.isDestroyed() && !otherActor.isDestroyed()) {
+				// Increment kill count and update planes left text if user projectile hits enemy plane
+				if (actors1 == userProjectiles && actors2 == enemyUnits) {
+					incrementKillCount();
+				}
+				if (GameLog.isEnabled(LogCategory.COMBAT, LogLevel.DEBUG)) {
+					GameLog.debug(LogCategory.COMBAT, "Collision detected between {} and {}",
+							actor.getClass().getSimpleName(), otherActor.getClass().getSimpleName());
 				}
 			}
 		}
@@ -362,16 +842,42 @@ public abstract class LevelParent extends Observable {
 		for (ActiveActorDestructible enemy : enemyUnits) {
 			if (enemyHasPenetratedDefenses(enemy)) {
 				user.takeDamage();
+				publishPlayerHit();
 				enemy.destroy();
 			}
 		}
 	}
 
 	/**
-	 * Updates the level view by removing hearts based on the user's health.
+	 * Destroys projectiles that have left the playfield, so they are removed and recycled with the
+	 * rest of the destroyed actors instead of flying on forever.
+	 */
+	private void cullOffScreenProjectiles() {
+		offScreenCuller.cull(userProjectiles);
+		offScreenCuller.cull(enemyProjectiles);
+	}
+
+	/**
+	 * Gets the number of actors retired for leaving the playfield so far, per actor type.
+	 *
+	 * @return A read-only map of the counts, keyed by simple class name.
+	 */
+	public Map<String, Long> getCulledActorCounts() {
+		return offScreenCuller.getCulledCounts();
+	}
+
+	/**
+	 * Refreshes the heads-up displays. Each one only touches its nodes if an event changed its value
+	 * during the tick, so the display changes in the same tick as the value.
 	 */
 	private void updateLevelView() {
-		levelView.removeHearts(user.getHealth());
+		levelView.refresh();
+		if (planesLeftDisplay != null) {
+			planesLeftDisplay.refresh();
+		}
+		if (bossLivesDisplay != null) {
+			bossLivesDisplay.refresh();
+		}
 	}
 
 	/**
@@ -379,10 +885,25 @@ public abstract class LevelParent extends Observable {
 	 */
 	private void updateKillCount() {
 		for (int i = 0; i < currentNumberOfEnemies - enemyUnits.size(); i++) {
-			user.incrementKillCount();
+			incrementKillCount();
 		}
 	}
 
+	/**
+	 * Adds one kill to the user's count and publishes an {@link EnemyKilledEvent}.
+	 */
+	private void incrementKillCount() {
+		user.incrementKillCount();
+		eventBus.publish(enemyKilledEvent.set(user.getNumberOfKills()));
+	}
+
+	/**
+	 * Publishes a {@link PlayerHitEvent} with the user's remaining health.
+	 */
+	private void publishPlayerHit() {
+		eventBus.publish(playerHitEvent.set(user.getHealth()));
+	}
+
 	/**
 	 * Checks if an enemy has penetrated the user's defenses.
 	 *
@@ -390,7 +911,7 @@ public abstract class LevelParent extends Observable {
 	 * @return True if the enemy has passed beyond the left edge of the screen, false otherwise.
 	 */
 	private boolean enemyHasPenetratedDefenses(ActiveActorDestructible enemy) {
-		return Math.abs(enemy.getTranslateX()) > screenWidth;
+		return Math.abs(enemy.getHorizontalDisplacement()) > screenWidth;
 	}
 
 
@@ -400,10 +921,14 @@ public abstract class LevelParent extends Observable {
 	 * @param primaryStage The stage where the victory screen will be displayed.
 	 */
 	protected void winGame(Stage primaryStage) {
-		timeline.stop();
+		gameLoop.stop();
+		outcome = LevelOutcome.WON;
+
 		background.setOnKeyPressed(null); // Disable key actions
-		levelView.showYouWonScreen(primaryStage);
-		 	}
+		if (!headless) {
+			levelView.showYouWonScreen(primaryStage);
+		}
+	}
 
 
 	/**
@@ -412,9 +937,130 @@ public abstract class LevelParent extends Observable {
 	 * @param primaryStage The stage where the game over screen will be displayed.
 	 */
 	protected void loseGame(Stage primaryStage) {
-		timeline.stop();
+		gameLoop.stop();
+		outcome = LevelOutcome.LOST;
+
 		background.setOnKeyPressed(null); // Disable key actions
-		levelView.showGameOverScreen(primaryStage);
+		if (!headless) {
+			levelView.showGameOverScreen(primaryStage);
+		}
+	}
+
+	/**
+	 * Marks the level as completed, meaning the player has reached its goal and moves on to the next level.
+	 */
+	protected void completeLevel() {
+		outcome = LevelOutcome.COMPLETED;
+
+	}
+
+	/**
+	 * Gets the timings of the level's ticks, broken down by phase.
+	 *
+	 * @return The level's tick profiler.
+	 */
+	public TickProfiler getTickProfiler() {
+		return tickProfiler;
+	}
+
+	/**
+	 * Writes the level's tick timings to the log, once the level has ended.
+	 */
+	private void logTickProfile() {
+		GameLog.info(LogCategory.LEVEL, "{} tick profile:\n{}", getClass().getSimpleName(), tickProfiler.report());
+	}
+
+	/**
+	 * Writes the input recording to the recording directory, once the level has ended.
+	 * A recording that cannot be written is reported in the log and otherwise ignored.
+	 */
+	private void saveRecording() {
+		if (recording == null) {
+			return;
+		}
+		recording.finish(tickCount, outcome, getStateFingerprint());
+		Path file = Path.of(System.getProperty(RECORD_DIRECTORY_PROPERTY), getClass().getSimpleName() + "-"
+				+ Long.toHexString(random.getSeed()) + "-" + System.currentTimeMillis() + RECORDING_EXTENSION);
+		try {
+			Files.createDirectories(file.getParent());
+			recording.write(file);
+			GameLog.info(LogCategory.LEVEL, "Input recorded to {}", file);
+		} catch (IOException e) {
+			GameLog.warn(LogCategory.LEVEL, "Could not write input recording {}: {}", file, e.getMessage());
+		}
+	}
+
+	/**
+	 * Gets the number of actors in the level: the user's plane and other friendly units, enemies,
+	 * projectiles and power-ups.
+	 *
+	 * @return The actor count.
+	 */
+	public int getActorCount() {
+		return friendlyUnits.size() + enemyUnits.size() + userProjectiles.size() + enemyProjectiles.size()
+				+ powerUps.size();
+	}
+
+	/**
+	 * Gets the number of ticks the level has been simulated for.
+	 *
+	 * @return The tick count.
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	/**
+	 * Computes a fingerprint of the level's simulated state: its outcome and tick count, the user's health and
+	 * kills, and the exact position of every actor. Two runs that reach the same fingerprint are, for all
+	 * practical purposes, in the same state; this is how a replay checks that it matched the recorded session.
+	 *
+	 * @return The fingerprint.
+	 */
+	public long getStateFingerprint() {
+		long hash = outcome.ordinal();
+		hash = hash * 31 + tickCount;
+		hash = hash * 31 + user.getHealth();
+		hash = hash * 31 + user.getNumberOfKills();
+		hash = fingerprint(hash, friendlyUnits);
+		hash = fingerprint(hash, enemyUnits);
+		hash = fingerprint(hash, userProjectiles);
+		hash = fingerprint(hash, enemyProjectiles);
+		return fingerprint(hash, powerUps);
+	}
+
+	/**
+	 * Adds the number and exact positions of a list of actors to a fingerprint.
+	 *
+	 * @param hash The fingerprint so far.
+	 * @param actors The actors.
+	 * @return The extended fingerprint.
+	 */
+	private static long fingerprint(long hash, List<ActiveActorDestructible> actors) {
+		hash = hash * 31 + actors.size();
+		for (ActiveActorDestructible actor : actors) {
+			hash = hash * 31 + Double.doubleToLongBits(actor.getPositionX());
+			hash = hash * 31 + Double.doubleToLongBits(actor.getPositionY());
+		}
+		return hash;
+	}
+
+	/**
+	 * Gets how far the level has progressed.
+	 *
+	 * @return {@link LevelOutcome#IN_PROGRESS} while the level is being played, otherwise how it ended.
+	 */
+	public LevelOutcome getOutcome() {
+		return outcome;
+	}
+
+	/**
+	 * Checks whether the level runs without a JavaFX toolkit.
+	 *
+	 * @return {@code true} if the level was created in headless mode, {@code false} otherwise.
+	 */
+	protected boolean isHeadless() {
+		return headless;
 	}
 
 
@@ -428,7 +1074,7 @@ public abstract class LevelParent extends Observable {
 	}
 
 	/**
-	 * Gets the root group of the level, which holds all graphical elements.
+	 * Gets the root group of the level, which holds the layer groups.
 	 *
 	 * @return The root group.
 	 */
@@ -436,6 +1082,25 @@ public abstract class LevelParent extends Observable {
 		return root;
 	}
 
+	/**
+	 * Gets the group that holds one layer of the level's scene.
+	 *
+	 * @param layer The layer.
+	 * @return The layer's group.
+	 */
+	public Group getLayer(SceneLayer layer) {
+		return layers.getLayer(layer);
+	}
+
+	/**
+	 * Gets the layers of the level's scene, for example to hide or cache a whole layer.
+	 *
+	 * @return The scene layers.
+	 */
+	public SceneLayers getSceneLayers() {
+		return layers;
+	}
+
 	/**
 	 * Gets the current number of active enemy units in the level.
 	 *
@@ -446,13 +1111,13 @@ public abstract class LevelParent extends Observable {
 	}
 
 	/**
-	 * Adds an enemy unit to the level and adds it to the root group.
+	 * Adds an enemy unit to the level and adds it to the enemies layer.
 	 *
 	 * @param enemy The enemy unit to add.
 	 */
 	protected void addEnemyUnit(ActiveActorDestructible enemy) {
 		enemyUnits.add(enemy);
-		root.getChildren().add(enemy);
+		addActorToScene(SceneLayer.ENEMIES, enemy);
 	}
 
 	/**
@@ -489,4 +1154,28 @@ public abstract class LevelParent extends Observable {
 		currentNumberOfEnemies = enemyUnits.size();
 	}
 
+	/**
+	 * A power-up waiting to join the level at the start of the next tick.
+	 */
+	private static final class QueuedPowerUp {
+
+		private final PowerUpType type;
+		private final double x;
+		private final double y;
+
+		/**
+		 * Constructs a QueuedPowerUp.
+		 *
+		 * @param type The type of power-up.
+		 * @param x The initial x-coordinate of the power-up.
+		 * @param y The initial y-coordinate of the power-up.
+		 */
+		QueuedPowerUp(PowerUpType type, double x, double y) {
+			this.type = type;
+			this.x = x;
+			this.y = y;
+		}
+
+	}
+
 }
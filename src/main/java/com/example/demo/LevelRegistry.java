@@ -0,0 +1,134 @@
+package com.example.demo;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+import javafx.stage.Stage;
+
+/**
+ * The LevelRegistry class holds every {@link LevelFactory} available to the game, keyed by level id.
+ * <p>
+ * The registry is built once, from the factories {@link ServiceLoader} finds on the module path, and never
+ * changes afterwards, so looking a level up is a plain map read with no reflection. {@link #validate(String)}
+ * checks when the game starts that the first level and every level named as a next level are present,
+ * so a missing level is reported straight away instead of at the end of a level.
+ * </p>
+ *
+ * @author Talya
+ */
+public final class LevelRegistry {
+
+	private static volatile LevelRegistry instance;
+
+	private final Map<String, LevelFactory> factories;
+
+	/**
+	 * Constructs a LevelRegistry from the given factories.
+	 *
+	 * @param factories The factories.
+	 * @throws IllegalStateException If two factories have the same id.
+	 */
+	public LevelRegistry(Iterable<LevelFactory> factories) {
+		Map<String, LevelFactory> byId = new LinkedHashMap<>();
+		for (LevelFactory factory : factories) {
+			LevelFactory previous = byId.putIfAbsent(factory.getId(), factory);
+			if (previous != null) {
+				throw new IllegalStateException("Level " + factory.getId() + " is provided by both "
+						+ previous.getClass().getName() + " and " + factory.getClass().getName());
+			}
+		}
+		this.factories = Collections.unmodifiableMap(byId);
+	}
+
+	/**
+	 * Gets the registry of all levels on the module path, building it on first use.
+	 *
+	 * @return The registry.
+	 */
+	public static LevelRegistry getInstance() {
+		LevelRegistry registry = instance;
+		if (registry == null) {
+			synchronized (LevelRegistry.class) {
+				registry = instance;
+				if (registry == null) {
+					registry = new LevelRegistry(ServiceLoader.load(LevelFactory.class));
+					instance = registry;
+				}
+			}
+		}
+		return registry;
+	}
+
+	/**
+	 * Checks that a level is registered.
+	 *
+	 * @param id The level id.
+	 * @return {@code true} if a factory is registered under the id.
+	 */
+	public boolean contains(String id) {
+		return factories.containsKey(id);
+	}
+
+	/**
+	 * Gets the factory for a level.
+	 *
+	 * @param id The level id.
+	 * @return The factory.
+	 * @throws IllegalArgumentException If no level is registered under the id.
+	 */
+	public LevelFactory get(String id) {
+		LevelFactory factory = factories.get(id);
+		if (factory == null) {
+			throw new IllegalArgumentException("No level registered as " + id + "; registered levels: "
+					+ factories.keySet());
+		}
+		return factory;
+	}
+
+	/**
+	 * Creates a new instance of a level.
+	 *
+	 * @param id The level id.
+	 * @param screenHeight The height of the screen.
+	 * @param screenWidth The width of the screen.
+	 * @param stage The stage the level is shown on, or {@code null} when running headless.
+	 * @return The new level, not yet prepared.
+	 * @throws IllegalArgumentException If no level is registered under the id.
+	 */
+	public LevelParent create(String id, double screenHeight, double screenWidth, Stage stage) {
+		return get(id).create(screenHeight, screenWidth, stage);
+	}
+
+	/**
+	 * Gets every registered factory, in the order they were found.
+	 *
+	 * @return A read-only view of the factories.
+	 */
+	public Collection<LevelFactory> getFactories() {
+		return factories.values();
+	}
+
+	/**
+	 * Checks that the first level and every level that any registered level leads to are registered.
+	 *
+	 * @param firstLevelId The id of the level the game starts with.
+	 * @throws IllegalStateException If a level is missing.
+	 */
+	public void validate(String firstLevelId) {
+		if (!contains(firstLevelId)) {
+			throw new IllegalStateException("First level " + firstLevelId + " is not registered; registered levels: "
+					+ factories.keySet());
+		}
+		for (LevelFactory factory : factories.values()) {
+			String next = factory.getNextLevelId();
+			if (next != null && !contains(next)) {
+				throw new IllegalStateException("Level " + factory.getId() + " leads to " + next
+						+ ", which is not registered");
+			}
+		}
+	}
+
+}
@@ -0,0 +1,44 @@
+package com.example.demo;
+
+import java.util.Locale;
+
+/**
+ * The RenderMode enum lists the ways a level can draw its actors.
+ * <p>
+ * Each level picks its mode through {@link LevelParent#getRenderMode()}. By default that is the mode named by
+ * the {@code skybattle.renderer} system property, {@code scene_graph} or {@code canvas}, so both modes can be
+ * compared on the same level without rebuilding it.
+ * </p>
+ *
+ * @author Talya
+ */
+public enum RenderMode {
+
+	/**
+	 * Every actor is its own node in the level's scene layers, moved by setting its translation every frame.
+	 */
+	SCENE_GRAPH,
+
+	/**
+	 * All actors are drawn into one canvas every frame, layer by layer. The actors' own nodes never join the
+	 * scene, so JavaFX does no per-node styling, bounds or synchronisation work for them.
+	 */
+	CANVAS;
+
+	private static final String PROPERTY = "skybattle.renderer";
+
+	/**
+	 * Gets the mode named by the {@code skybattle.renderer} system property.
+	 *
+	 * @return The configured mode, or {@link #SCENE_GRAPH} if the property is not set.
+	 * @throws IllegalArgumentException If the property does not name a mode.
+	 */
+	public static RenderMode configured() {
+		String value = System.getProperty(PROPERTY);
+		if (value == null || value.isBlank()) {
+			return SCENE_GRAPH;
+		}
+		return valueOf(value.trim().toUpperCase(Locale.ROOT));
+	}
+
+}
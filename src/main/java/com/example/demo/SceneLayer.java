@@ -0,0 +1,41 @@
+package com.example.demo;
+
+/**
+ * The SceneLayer enum lists the layers a level's scene is made of, from back to front.
+ * Every node in a level belongs to exactly one layer, and a layer always draws above the ones declared before it.
+ *
+ * @author Talya
+ */
+public enum SceneLayer {
+
+	/**
+	 * The level's background image.
+	 */
+	BACKGROUND,
+
+	/**
+	 * Enemy planes, including the boss.
+	 */
+	ENEMIES,
+
+	/**
+	 * Projectiles fired by the user, its followers and the enemies.
+	 */
+	PROJECTILES,
+
+	/**
+	 * The user's plane, power-ups and follower planes.
+	 */
+	FRIENDLIES,
+
+	/**
+	 * Visual effects drawn over the planes, such as the boss's shield.
+	 */
+	EFFECTS,
+
+	/**
+	 * Heads-up displays such as hearts, planes left and the boss's lives.
+	 */
+	HUD
+
+}
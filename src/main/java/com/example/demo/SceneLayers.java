@@ -0,0 +1,112 @@
+package com.example.demo;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+/**
+ * The SceneLayers class splits a level's root {@link Group} into one child group per {@link SceneLayer}.
+ * <p>
+ * Adding or removing a node only touches the list of its own layer, so spawning a projectile no longer
+ * scans past the background, the HUD and every plane. Z-order follows the layer order rather than the
+ * order nodes happened to be added in. A whole layer can be hidden, or cached as a bitmap when its
+ * contents rarely change.
+ * </p>
+ * <p>
+ * Removals can be queued with {@link #queueRemoval(SceneLayer, Node)} and applied together with
+ * {@link #flushRemovals()}, which changes each affected layer exactly once.
+ * </p>
+ *
+ * @author Talya
+ */
+public class SceneLayers {
+
+	private final Map<SceneLayer, Group> layers;
+	private final Map<SceneLayer, Set<Node>> pendingRemovals;
+
+	/**
+	 * Creates the layer groups and adds them to the root, back to front.
+	 *
+	 * @param root The root group of the level's scene.
+	 */
+	public SceneLayers(Group root) {
+		this.layers = new EnumMap<>(SceneLayer.class);
+		this.pendingRemovals = new EnumMap<>(SceneLayer.class);
+		for (SceneLayer layer : SceneLayer.values()) {
+			Group group = new Group();
+			layers.put(layer, group);
+			pendingRemovals.put(layer, Collections.newSetFromMap(new IdentityHashMap<>()));
+			root.getChildren().add(group);
+		}
+	}
+
+	/**
+	 * Gets the group that holds a layer's nodes.
+	 *
+	 * @param layer The layer.
+	 * @return The layer's group.
+	 */
+	public Group getLayer(SceneLayer layer) {
+		return layers.get(layer);
+	}
+
+	/**
+	 * Adds a node on top of a layer.
+	 *
+	 * @param layer The layer to add the node to.
+	 * @param node The node to add.
+	 */
+	public void add(SceneLayer layer, Node node) {
+		layers.get(layer).getChildren().add(node);
+	}
+
+	/**
+	 * Marks a node to be removed from a layer by the next {@link #flushRemovals()}.
+	 *
+	 * @param layer The layer the node was added to.
+	 * @param node The node to remove.
+	 */
+	public void queueRemoval(SceneLayer layer, Node node) {
+		pendingRemovals.get(layer).add(node);
+	}
+
+	/**
+	 * Removes all queued nodes, with a single change to each layer that had any.
+	 */
+	public void flushRemovals() {
+		for (Map.Entry<SceneLayer, Set<Node>> entry : pendingRemovals.entrySet()) {
+			Set<Node> removals = entry.getValue();
+			if (!removals.isEmpty()) {
+				layers.get(entry.getKey()).getChildren().removeAll(removals);
+				removals.clear();
+			}
+		}
+	}
+
+	/**
+	 * Shows or hides a whole layer.
+	 *
+	 * @param layer The layer.
+	 * @param visible {@code true} to show the layer, {@code false} to hide it.
+	 */
+	public void setVisible(SceneLayer layer, boolean visible) {
+		layers.get(layer).setVisible(visible);
+	}
+
+	/**
+	 * Turns bitmap caching of a whole layer on or off. Caching pays off for layers that rarely change,
+	 * such as the background and the HUD.
+	 *
+	 * @param layer The layer.
+	 * @param cached {@code true} to cache the layer, {@code false} to draw it from scratch every frame.
+	 */
+	public void setCached(SceneLayer layer, boolean cached) {
+		layers.get(layer).setCache(cached);
+	}
+
+}
@@ -0,0 +1,83 @@
+package com.example.demo;
+
+/**
+ * The TickPhase enum lists the phases of one game tick in the order {@link LevelParent#updateScene()} runs them.
+ * Each phase can also be run on its own through {@link LevelParent#runPhase(TickPhase)}, which is how the
+ * benchmarks measure them.
+ *
+ * @author Talya
+ */
+public enum TickPhase {
+
+	/**
+	 * Actors spawned since the previous tick, such as wingman shots and power-ups, join the level, and then
+	 * the level spawns new enemies.
+	 */
+	SPAWN,
+
+	/**
+	 * Every actor moves and updates its own state.
+	 */
+	UPDATE,
+
+	/**
+	 * The tasks on the level's scheduler that are due run, each at its own rate.
+	 */
+	SCHEDULED_TASKS,
+
+	/**
+	 * Enemies get their chance to fire, and the enemy count is brought up to date.
+	 */
+	FIRE,
+
+	/**
+	 * Enemies that got past the user are destroyed and damage the user.
+	 */
+	PENETRATION,
+
+	/**
+	 * Projectiles that have left the playfield are destroyed.
+	 */
+	CULL,
+
+	/**
+	 * User projectiles are checked against enemies.
+	 */
+	USER_PROJECTILE_COLLISIONS,
+
+	/**
+	 * Enemy projectiles are checked against friendly planes.
+	 */
+	ENEMY_PROJECTILE_COLLISIONS,
+
+	/**
+	 * Friendly planes are checked against enemy planes.
+	 */
+	PLANE_COLLISIONS,
+
+	/**
+	 * Power-ups that reached the user are collected and take effect.
+	 */
+	POWER_UPS,
+
+	/**
+	 * Destroyed actors are removed from the level and recycled.
+	 */
+	REMOVAL,
+
+	/**
+	 * The user's kill count is brought up to date.
+	 */
+	KILL_COUNT,
+
+	/**
+	 * The heads-up displays that changed during the tick are brought up to date.
+	 */
+	VIEW_UPDATE,
+
+	/**
+	 * The level checks whether it has been won, lost or completed.
+	 */
+	GAME_OVER_CHECK
+
+}
@@ -1,11 +1,22 @@
 package com.example.demo.actors;
 
+import com.example.demo.assets.ImageLoader;
+import javafx.geometry.Dimension2D;
 import javafx.scene.image.*;
 
 /**
  * Represents an active actor in the Sky Battle Game with the ability to change positions.
  * This abstract class serves as a base for all actors that can move and interact in the game.
  * Subclasses must define the specific behavior for updating their positions.
+ * <p>
+ * The actor's position and size are kept as plain fields, so the game logic never depends on the
+ * JavaFX scene graph. The {@link ImageView} this class extends is only a view of that state and is
+ * brought up to date by {@link #render(double)}; in headless mode it is never rendered at all.
+ * </p>
+ * <p>
+ * The position from before the current simulation step is kept as well, so the view can be drawn
+ * at any point between two steps when the display refreshes faster than the simulation runs.
+ * </p>
  *
  * @author Talya
  */
@@ -16,6 +27,15 @@ public abstract class ActiveActor extends ImageView {
 	 */
 	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
 
+	private double initialXPosition;
+	private double initialYPosition;
+	private double width;
+	private double height;
+	private double positionX;
+	private double positionY;
+	private double previousPositionX;
+	private double previousPositionY;
+
 	/**
 	 * Creates an instance of an ActiveActor with a specified image, size, and initial position.
 	 *
@@ -24,18 +44,31 @@ public abstract class ActiveActor extends ImageView {
 	 * @param initialXPos The initial x-coordinate of the ActiveActor.
 	 * @param initialYPos The initial y-coordinate of the ActiveActor.
 	 */
+	// Only the ImageView side of the actor is set up here, and nothing a subclass declares is touched
+	@SuppressWarnings("this-escape")
 	public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-		this.setImage(new Image(getClass().getResource(IMAGE_LOCATION + imageName).toExternalForm()));
+		Dimension2D imageSize = ImageLoader.getImageSize(IMAGE_LOCATION + imageName);
+		ImageLoader.applySprite(this, IMAGE_LOCATION + imageName, imageHeight);
 		this.setLayoutX(initialXPos);
 		this.setLayoutY(initialYPos);
 		this.setFitHeight(imageHeight);
 		this.setPreserveRatio(true);
+		this.initialXPosition = initialXPos;
+		this.initialYPosition = initialYPos;
+		this.width = imageHeight * imageSize.getWidth() / imageSize.getHeight();
+		this.height = imageHeight;
+		this.positionX = initialXPos;
+		this.positionY = initialYPos;
+		this.previousPositionX = initialXPos;
+		this.previousPositionY = initialYPos;
 	}
 	/**
 	 * Updates the position of the ActiveActor.
 	 * This method must be implemented by subclasses to define specific movement behavior.
+	 *
+	 * @param deltaSeconds The length of the simulation step, in seconds.
 	 */
-	public abstract void updatePosition();
+	public abstract void updatePosition(double deltaSeconds);
 	/**
 	 * Moves the ActiveActor horizontally by a specified amount.
 	 *
@@ -43,7 +76,7 @@ public abstract class ActiveActor extends ImageView {
 	 *                       Positive values move to the right; negative values move to the left.
 	 */
 	protected void moveHorizontally(double horizontalMove) {
-		this.setTranslateX(getTranslateX() + horizontalMove);
+		positionX += horizontalMove;
 	}
 	/**
 	 * Moves the ActiveActor vertically by a specified amount.
@@ -52,7 +85,145 @@ public abstract class ActiveActor extends ImageView {
 	 *                     Positive values move down; negative values move up.
 	 */
 	protected void moveVertically(double verticalMove) {
-		this.setTranslateY(getTranslateY() + verticalMove);
+		positionY += verticalMove;
+	}
+
+	/**
+	 * Gets the current x-coordinate of the ActiveActor's top-left corner.
+	 *
+	 * @return The current x-coordinate.
+	 */
+	public double getPositionX() {
+		return positionX;
+	}
+
+	/**
+	 * Gets the current y-coordinate of the ActiveActor's top-left corner.
+	 *
+	 * @return The current y-coordinate.
+	 */
+	public double getPositionY() {
+		return positionY;
+	}
+
+	/**
+	 * Sets the current y-coordinate of the ActiveActor's top-left corner.
+	 *
+	 * @param positionY The new y-coordinate.
+	 */
+	protected void setPositionY(double positionY) {
+		this.positionY = positionY;
+	}
+
+	/**
+	 * Gets the horizontal distance the ActiveActor has moved since it was created.
+	 *
+	 * @return The horizontal displacement, in pixels.
+	 */
+	public double getHorizontalDisplacement() {
+		return positionX - initialXPosition;
+	}
+
+	/**
+	 * Gets the on-screen width of the ActiveActor.
+	 *
+	 * @return The width in pixels.
+	 */
+	public double getWidth() {
+		return width;
+	}
+
+	/**
+	 * Gets the on-screen height of the ActiveActor.
+	 *
+	 * @return The height in pixels.
+	 */
+	public double getHeight() {
+		return height;
+	}
+
+	/**
+	 * Checks whether this ActiveActor overlaps another one. Edges that touch count as overlapping,
+	 * which matches {@link javafx.geometry.Bounds#intersects(javafx.geometry.Bounds)}.
+	 *
+	 * @param other The other actor.
+	 * @return {@code true} if the two actors overlap, {@code false} otherwise.
+	 */
+	public boolean intersects(ActiveActor other) {
+		return other.positionX <= positionX + width && other.positionX + other.width >= positionX
+				&& other.positionY <= positionY + height && other.positionY + other.height >= positionY;
+	}
+
+	/**
+	 * Changes the image the ActiveActor is shown with, and its size to match.
+	 *
+	 * @param imageName The name of the new image file.
+	 * @param imageHeight The new height in pixels. The width is scaled proportionally.
+	 */
+	protected void setAppearance(String imageName, int imageHeight) {
+		Dimension2D imageSize = ImageLoader.getImageSize(IMAGE_LOCATION + imageName);
+		ImageLoader.applySprite(this, IMAGE_LOCATION + imageName, imageHeight);
+		setFitHeight(imageHeight);
+		width = imageHeight * imageSize.getWidth() / imageSize.getHeight();
+		height = imageHeight;
+	}
+
+	/**
+	 * Moves the ActiveActor back to a new starting point, as if it had just been created there.
+	 *
+	 * @param initialXPos The new initial x-coordinate.
+	 * @param initialYPos The new initial y-coordinate.
+	 */
+	protected void resetPosition(double initialXPos, double initialYPos) {
+		initialXPosition = initialXPos;
+		initialYPosition = initialYPos;
+		positionX = initialXPos;
+		positionY = initialYPos;
+		previousPositionX = initialXPos;
+		previousPositionY = initialYPos;
+		setLayoutX(initialXPos);
+		setLayoutY(initialYPos);
+		setTranslateX(0);
+		setTranslateY(0);
+	}
+
+	/**
+	 * Remembers the current position as the starting point of the next simulation step.
+	 */
+	public void savePreviousPosition() {
+		previousPositionX = positionX;
+		previousPositionY = positionY;
+	}
+
+	/**
+	 * Moves the ActiveActor's JavaFX node to a point between its previous and current positions.
+	 *
+	 * @param alpha How far the display is into the current simulation step, from 0 (previous position)
+	 *              to 1 (current position).
+	 */
+	public void render(double alpha) {
+		setTranslateX(getRenderX(alpha) - initialXPosition);
+		setTranslateY(getRenderY(alpha) - initialYPosition);
+	}
+
+	/**
+	 * Gets the x-coordinate to draw the ActiveActor at, between its previous and current positions.
+	 *
+	 * @param alpha How far the display is into the current simulation step, from 0 to 1.
+	 * @return The x-coordinate of the top-left corner.
+	 */
+	public double getRenderX(double alpha) {
+		return previousPositionX + (positionX - previousPositionX) * alpha;
+	}
+
+	/**
+	 * Gets the y-coordinate to draw the ActiveActor at, between its previous and current positions.
+	 *
+	 * @param alpha How far the display is into the current simulation step, from 0 to 1.
+	 * @return The y-coordinate of the top-left corner.
+	 */
+	public double getRenderY(double alpha) {
+		return previousPositionY + (positionY - previousPositionY) * alpha;
 	}
 
 }
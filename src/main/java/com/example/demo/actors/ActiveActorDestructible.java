@@ -20,6 +20,16 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	 */
 	private boolean isDestroyed;
 
+	/**
+	 * The pool the actor was obtained from, or {@code null} if it was created directly.
+	 */
+	private ActorPool<?> pool;
+
+	/**
+	 * Indicates whether the actor is waiting in its pool.
+	 */
+	private boolean inPool;
+
 	/**
 	 * Creates an instance of a destructible active actor.
 	 *
@@ -36,15 +46,19 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	/**
 	 * Updates the position of the actor.
 	 * This method must be implemented by subclasses to define specific movement behavior.
+	 *
+	 * @param deltaSeconds The length of the simulation step, in seconds.
 	 */
 	@Override
-	public abstract void updatePosition();
+	public abstract void updatePosition(double deltaSeconds);
 
 	/**
 	 * Updates the actor's state.
 	 * This method must be implemented by subclasses to handle specific actor updates.
+	 *
+	 * @param deltaSeconds The length of the simulation step, in seconds.
 	 */
-	public abstract void updateActor();
+	public abstract void updateActor(double deltaSeconds);
 
 	/**
 	 * Handles the logic for taking damage.
@@ -71,6 +85,68 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 		this.isDestroyed = isDestroyed;
 	}
 
+	/**
+	 * Brings a previously destroyed actor back to life at a new starting point, so the same instance
+	 * can be reused instead of allocating a new one.
+	 *
+	 * @param initialXPos The new initial x-coordinate of the actor.
+	 * @param initialYPos The new initial y-coordinate of the actor.
+	 */
+	protected void reinitialize(double initialXPos, double initialYPos) {
+		resetPosition(initialXPos, initialYPos);
+		setDestroyed(false);
+	}
+
+	/**
+	 * Called by the level once a destroyed actor has been removed from the scene and from all actor lists.
+	 * Returns the actor to the {@link ActorPool} it was obtained from, if any.
+	 */
+	public void recycle() {
+		if (pool != null) {
+			pool.release(this);
+		}
+	}
+
+	/**
+	 * Sets the pool this actor returns to when recycled.
+	 *
+	 * @param pool The owning pool.
+	 */
+	void setPool(ActorPool<?> pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Checks whether the actor is currently waiting in its pool.
+	 *
+	 * @return {@code true} if the actor is in its pool, {@code false} if it is in use.
+	 */
+	boolean isInPool() {
+		return inPool;
+	}
+
+	/**
+	 * Marks the actor as waiting in its pool or in use.
+	 *
+	 * @param inPool {@code true} if the actor is in its pool, {@code false} if it is in use.
+	 */
+	void setInPool(boolean inPool) {
+		this.inPool = inPool;
+	}
+
+	/**
+	 * Checks whether updating the actor only reads and writes the actor's own simulation state: no other actor,
+	 * no JavaFX node and no shared random stream. Such actors can be updated on any thread, in any order,
+	 * alongside each other. An isolated actor must never read state that another actor's update may write, not
+	 * even to look at it; that rule is what makes a parallel tick produce exactly the same state as a
+	 * sequential one. By default this returns {@code false}.
+	 *
+	 * @return {@code true} if {@link #updateActor(double)} is isolated, {@code false} otherwise.
+	 */
+	public boolean isUpdateIsolated() {
+		return false;
+	}
+
 	/**
 	 * Checks whether the actor is destroyed.
 	 *
@@ -0,0 +1,21 @@
+package com.example.demo.actors;
+
+/**
+ * The ActorFactory interface creates a new actor when an {@link ActorPool} has none to hand out.
+ *
+ * @param <T> The type of actor created.
+ * @author Talya
+ */
+@FunctionalInterface
+public interface ActorFactory<T extends ActiveActorDestructible> {
+
+	/**
+	 * Creates a new actor at the given position.
+	 *
+	 * @param initialXPos The initial x-coordinate of the actor.
+	 * @param initialYPos The initial y-coordinate of the actor.
+	 * @return The new actor.
+	 */
+	T create(double initialXPos, double initialYPos);
+
+}
@@ -0,0 +1,135 @@
+package com.example.demo.actors;
+
+import java.util.ArrayDeque;
+
+/**
+ * The ActorPool class keeps destroyed actors of one type around so they can be used again instead of
+ * allocating a new JavaFX node for every projectile fired or power-up spawned.
+ * <p>
+ * An actor obtained from the pool returns to it through {@link ActiveActorDestructible#recycle()}, which the
+ * level calls once the destroyed actor has left the scene. Actors that are never recycled, for example
+ * projectiles still in flight when a level ends, are simply left to the garbage collector and keep counting
+ * as in use.
+ * </p>
+ * <p>
+ * The pool also tracks how often a request was served from it (a hit) or needed a new instance (a miss),
+ * and the largest number of its actors that were in use at the same time. Pools are not thread-safe
+ * and must only be used from the thread that runs the game loop.
+ * </p>
+ *
+ * @param <T> The type of actor held by the pool.
+ * @author Talya
+ */
+public class ActorPool<T extends ActiveActorDestructible> {
+
+	private final String name;
+	private final ActorFactory<T> factory;
+	private final ArrayDeque<T> available;
+	private long hits;
+	private long misses;
+	private int inUse;
+	private int highWaterMark;
+
+	/**
+	 * Constructs an empty ActorPool.
+	 *
+	 * @param name The name used when reporting the pool's statistics.
+	 * @param factory Creates new actors when the pool is empty.
+	 */
+	public ActorPool(String name, ActorFactory<T> factory) {
+		this.name = name;
+		this.factory = factory;
+		this.available = new ArrayDeque<>();
+	}
+
+	/**
+	 * Gets an actor at the given position, reusing a recycled one if possible.
+	 *
+	 * @param initialXPos The initial x-coordinate of the actor.
+	 * @param initialYPos The initial y-coordinate of the actor.
+	 * @return A live actor at the given position.
+	 */
+	public T obtain(double initialXPos, double initialYPos) {
+		T actor = available.pollFirst();
+		if (actor == null) {
+			misses++;
+			actor = factory.create(initialXPos, initialYPos);
+			actor.setPool(this);
+		} else {
+			hits++;
+			actor.reinitialize(initialXPos, initialYPos);
+		}
+		actor.setInPool(false);
+		inUse++;
+		highWaterMark = Math.max(highWaterMark, inUse);
+		return actor;
+	}
+
+	/**
+	 * Takes back a destroyed actor so it can be handed out again. Releasing an actor that is already in
+	 * the pool has no effect.
+	 *
+	 * @param actor The actor to return to the pool.
+	 */
+	@SuppressWarnings("unchecked")
+	void release(ActiveActorDestructible actor) {
+		if (actor.isInPool()) {
+			return;
+		}
+		actor.setInPool(true);
+		available.addFirst((T) actor);
+		inUse--;
+	}
+
+	/**
+	 * Gets the number of requests that were served with a recycled actor.
+	 *
+	 * @return The hit count.
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Gets the number of requests that had to create a new actor.
+	 *
+	 * @return The miss count.
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Gets the number of actors handed out and not yet returned.
+	 *
+	 * @return The number of actors in use.
+	 */
+	public int getInUse() {
+		return inUse;
+	}
+
+	/**
+	 * Gets the number of recycled actors waiting to be handed out.
+	 *
+	 * @return The number of available actors.
+	 */
+	public int getAvailable() {
+		return available.size();
+	}
+
+	/**
+	 * Gets the largest number of this pool's actors that were in use at the same time.
+	 *
+	 * @return The high-water mark.
+	 */
+	public int getHighWaterMark() {
+		return highWaterMark;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s pool: hits=%d misses=%d inUse=%d available=%d highWater=%d",
+				name, hits, misses, inUse, available.size(), highWaterMark);
+	}
+
+}
@@ -1,6 +1,12 @@
 package com.example.demo.actors;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
+
+import com.example.demo.events.BossDamagedEvent;
+import com.example.demo.events.BossShieldEvent;
+import com.example.demo.events.EventBus;
+import com.example.demo.random.RandomService;
 
 /**
  * Represents the boss character in the game.
@@ -9,6 +15,9 @@ import java.util.*;
  *
  * This class extends {@link FighterPlane} and implements specific functionalities,
  * such as firing projectiles, updating its position, and managing a shield.
+ * Velocities, fire rate and durations are expressed per second, so they hold at any simulation rate.
+ * Raising and dropping the shield is published on the level's event bus as a {@link BossShieldEvent},
+ * and every hit that gets through as a {@link BossDamagedEvent}.
  *
  * @author Talya
  */
@@ -19,17 +28,17 @@ public class Boss extends FighterPlane {
 	private static final double INITIAL_X_POSITION = 1000.0;
 	private static final double INITIAL_Y_POSITION = 400;
 	private static final double PROJECTILE_Y_POSITION_OFFSET = 75.0;
-	private static final double BOSS_FIRE_RATE = .04;
+	private static final double BOSS_FIRE_RATE = .8; // Shots per second
 	private static final double BOSS_SHIELD_PROBABILITY = .002;
 	private static final int IMAGE_HEIGHT = 100;
-	private static final int VERTICAL_VELOCITY = 8;
+	private static final int VERTICAL_VELOCITY = 160; // Pixels per second
 	private static final int HEALTH = 10;//set to something else (was 100)
 	private static final int MOVE_FREQUENCY_PER_CYCLE = 5;
 	private static final int ZERO = 0;
-	private static final int MAX_FRAMES_WITH_SAME_MOVE = 10;
+	private static final double SECONDS_WITH_SAME_MOVE = .5;
 	private static final int Y_POSITION_UPPER_BOUND = -100;
 	private static final int Y_POSITION_LOWER_BOUND = 475;
-	private static final int MAX_FRAMES_WITH_SHIELD = 50;
+	private static final double SECONDS_WITH_SHIELD = 2.5;
 
 	// Fields
 	private final List<Integer> movePattern;
@@ -38,20 +47,30 @@ public class Boss extends FighterPlane {
 	private int indexOfCurrentMove;
 	private int framesWithShieldActivated;
 	private ShieldImage shieldImage; //for shield(d)
+	private final RandomGenerator movementRandom;
+	private final EventBus eventBus;
+	private final BossShieldEvent shieldEvent;
+	private final BossDamagedEvent damagedEvent;
 
 	/**
 	 * Constructs a Boss object with predefined attributes, including position, size,
 	 * health, and a shield image.
+	 *
+	 * @param movementRandom The generator used to shuffle the Boss's movement pattern.
+	 * @param eventBus The bus to publish shield changes on.
 	 */
-	public Boss() {
+	public Boss(RandomGenerator movementRandom, EventBus eventBus) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
+		this.movementRandom = movementRandom;
+		this.eventBus = eventBus;
+		this.shieldEvent = new BossShieldEvent();
+		this.damagedEvent = new BossDamagedEvent();
 		movePattern = new ArrayList<>();
 		consecutiveMovesInSameDirection = 0;
 		indexOfCurrentMove = 0;
 		framesWithShieldActivated = 0;
 		isShielded = false;
 		shieldImage = new ShieldImage(INITIAL_X_POSITION,INITIAL_Y_POSITION);//d
-		getShieldImage();//d
 		initializeMovePattern();
 	}
 
@@ -65,27 +84,34 @@ public class Boss extends FighterPlane {
 		return shieldImage;
 	}
 
+	/**
+	 * Moves the shield, while it is up, to the point between two ticks where the Boss is drawn, so the two
+	 * move together at the display's frame rate.
+	 *
+	 * @param alpha How far the display is into the next tick, from 0 to 1.
+	 */
+	public void renderShield(double alpha) {
+		if (isShielded) {
+			shieldImage.updatePosition(getRenderX(alpha), getRenderY(alpha));
+		}
+	}
+
 
 
 	/**
 	 * Updates the Boss's position based on its current movement pattern.
 	 * Prevents the Boss from moving out of predefined boundaries.
+	 *
+	 * @param deltaSeconds The length of the simulation step, in seconds.
 	 */
 	@Override
-	public void updatePosition() {
-		double initialTranslateY = getTranslateY();
-		moveVertically(getNextMove());
-		double currentPosition = getLayoutY() + getTranslateY();
+	public void updatePosition(double deltaSeconds) {
+		double initialPositionY = getPositionY();
+		moveVertically(getNextMove(deltaSeconds) * deltaSeconds);
+		double currentPosition = getPositionY();
 		if (currentPosition < Y_POSITION_UPPER_BOUND || currentPosition > Y_POSITION_LOWER_BOUND) {
-			setTranslateY(initialTranslateY);
+			setPositionY(initialPositionY);
 		}
-
-		if (isShielded) {//d
-			shieldImage.updatePosition(getLayoutX(), getLayoutY()); // Update shield position(d)
-			System.out.println("Shield Position Updated(BOSS class): " + getLayoutX() + ", " + getLayoutY());//d
-		}//d
-
-
 	}
 
 
@@ -104,31 +130,44 @@ public class Boss extends FighterPlane {
 
 	/**
 	 * Updates the Boss's state, including its position and shield.
+	 *
+	 * @param deltaSeconds The length of the simulation step, in seconds.
 	 */
 	@Override
-	public void updateActor() {
-		updatePosition();
-		updateShield();
+	public void updateActor(double deltaSeconds) {
+		updatePosition(deltaSeconds);
+		updateShield(deltaSeconds);
 	}
 
 	/**
-	 * Fires a projectile if the Boss is allowed to fire in the current frame.
+	 * Fires a projectile from the Boss's current position.
 	 *
-	 * @return A new {@link BossProjectile} if firing is allowed; {@code null} otherwise.
+	 * @return A pooled {@link BossProjectile}.
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		return bossFiresInCurrentFrame() ? new BossProjectile(getProjectileInitialPosition()) : null;
+		return BossProjectile.obtain(getProjectileInitialPosition());
+	}
+
+	/**
+	 * Gets how often the Boss fires on its own.
+	 *
+	 * @return The average number of shots per second.
+	 */
+	@Override
+	protected double getFireRate() {
+		return BOSS_FIRE_RATE;
 	}
 
 	/**
 	 * Handles damage taken by the Boss.
-	 * Damage is only applied if the shield is not active.
+	 * Damage is only applied if the shield is not active, and is then published with the remaining health.
 	 */
 	@Override
 	public void takeDamage() {
 		if (!isShielded) {
             super.takeDamage();
+            eventBus.publish(damagedEvent.set(this, getHealth()));
         }
 	}
 
@@ -141,18 +180,18 @@ public class Boss extends FighterPlane {
 			movePattern.add(-VERTICAL_VELOCITY);
 			movePattern.add(ZERO);
 		}
-		Collections.shuffle(movePattern);
+		RandomService.shuffle(movePattern, movementRandom);
 	}
 
 	/**
 	 * Updates the shield state, including activation and deactivation based on conditions.
+	 *
+	 * @param deltaSeconds The length of the simulation step, in seconds.
 	 */
-	private void updateShield() {
-		if (isShielded){ framesWithShieldActivated++;
-		shieldImage.updatePosition(getLayoutX() + getTranslateX(),//d
-				getLayoutY() + getTranslateY());}//d
+	private void updateShield(double deltaSeconds) {
+		if (isShielded) framesWithShieldActivated++;
 		else if (shieldShouldBeActivated()) activateShield();	
-		if (shieldExhausted()) deactivateShield();
+		if (shieldExhausted(deltaSeconds)) deactivateShield();
 	}
 
 	
@@ -160,13 +199,14 @@ public class Boss extends FighterPlane {
 	/**
 	 * Retrieves the next move from the movement pattern.
 	 *
-	 * @return The vertical movement value for the current frame.
+	 * @param deltaSeconds The length of the simulation step, in seconds.
+	 * @return The vertical velocity for the current frame, in pixels per second.
 	 */
-	private int getNextMove() {
+	private int getNextMove(double deltaSeconds) {
 		int currentMove = movePattern.get(indexOfCurrentMove);
 		consecutiveMovesInSameDirection++;
-		if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
-			Collections.shuffle(movePattern);
+		if (consecutiveMovesInSameDirection >= framesLasting(SECONDS_WITH_SAME_MOVE, deltaSeconds)) {
+			RandomService.shuffle(movePattern, movementRandom);
 			consecutiveMovesInSameDirection = 0;
 			indexOfCurrentMove++;
 		}
@@ -176,22 +216,13 @@ public class Boss extends FighterPlane {
 		return currentMove;
 	}
 
-	/**
-	 * Determines whether the Boss should fire a projectile in the current frame.
-	 *
-	 * @return {@code true} if the Boss fires; {@code false} otherwise.
-	 */
-	private boolean bossFiresInCurrentFrame() {
-		return Math.random() < BOSS_FIRE_RATE;
-	}
-
 	/**
 	 * Gets the initial y-position for a projectile fired by the Boss.
 	 *
 	 * @return The y-coordinate for the projectile's starting position.
 	 */
 	private double getProjectileInitialPosition() {
-		return getLayoutY() + getTranslateY() + PROJECTILE_Y_POSITION_OFFSET;
+		return getPositionY() + PROJECTILE_Y_POSITION_OFFSET;
 	}
 
 /*
@@ -215,10 +246,22 @@ public class Boss extends FighterPlane {
 	/**
 	 * Determines whether the shield has been active for its maximum duration.
 	 *
+	 * @param deltaSeconds The length of the simulation step, in seconds.
 	 * @return {@code true} if the shield is exhausted; {@code false} otherwise.
 	 */
-	private boolean shieldExhausted() {
-		return framesWithShieldActivated == MAX_FRAMES_WITH_SHIELD;
+	private boolean shieldExhausted(double deltaSeconds) {
+		return framesWithShieldActivated >= framesLasting(SECONDS_WITH_SHIELD, deltaSeconds);
+	}
+
+	/**
+	 * Converts a duration into a whole number of simulation steps.
+	 *
+	 * @param seconds The duration, in seconds.
+	 * @param deltaSeconds The length of the simulation step, in seconds.
+	 * @return The number of steps that make up the duration, at least one.
+	 */
+	private static int framesLasting(double seconds, double deltaSeconds) {
+		return Math.max(1, (int) Math.round(seconds / deltaSeconds));
 	}
 
 	/**
@@ -227,6 +270,7 @@ public class Boss extends FighterPlane {
 	private void activateShield() {
 		isShielded = true;
 		shieldImage.showShield();//d
+		eventBus.publish(shieldEvent.set(this, true));
 	}
 
 	/**
@@ -236,6 +280,7 @@ public class Boss extends FighterPlane {
 		isShielded = false;
 		framesWithShieldActivated = 0;
 		shieldImage.hideShield();//d
+		eventBus.publish(shieldEvent.set(this, false));
 
 	}
 
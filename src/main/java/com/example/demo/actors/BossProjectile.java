@@ -14,8 +14,10 @@ public class BossProjectile extends Projectile {
 	// Constants
 	private static final String IMAGE_NAME = "fireball.png";
 	private static final int IMAGE_HEIGHT = 50;
-	private static final int HORIZONTAL_VELOCITY = -15;
+	private static final int HORIZONTAL_VELOCITY = -300; // Pixels per second
 	private static final int INITIAL_X_POSITION = 950;
+	private static final ActorPool<BossProjectile> POOL =
+			new ActorPool<>("BossProjectile", (initialXPos, initialYPos) -> new BossProjectile(initialYPos));
 
 	/**
 	 * Constructs a BossProjectile at a specified vertical position.
@@ -26,22 +28,45 @@ public class BossProjectile extends Projectile {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, initialYPos);
 	}
 
+	/**
+	 * Gets a BossProjectile at a specified vertical position, reusing a recycled one when possible.
+	 *
+	 * @param initialYPos The initial y-coordinate of the projectile.
+	 * @return A live BossProjectile.
+	 */
+	public static BossProjectile obtain(double initialYPos) {
+		return POOL.obtain(INITIAL_X_POSITION, initialYPos);
+	}
+
+	/**
+	 * Gets the pool that BossProjectiles are recycled through.
+	 *
+	 * @return The BossProjectile pool.
+	 */
+	public static ActorPool<BossProjectile> getPool() {
+		return POOL;
+	}
+
 	/**
 	 * Updates the position of the projectile by moving it horizontally.
 	 * The movement is defined by a constant horizontal velocity.
+	 *
+	 * @param deltaSeconds The length of the simulation step, in seconds.
 	 */
 	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+	public void updatePosition(double deltaSeconds) {
+		moveHorizontally(HORIZONTAL_VELOCITY * deltaSeconds);
 	}
 
 	/**
 	 * Updates the state of the projectile. In this implementation,
 	 * it simply updates its position.
+	 *
+	 * @param deltaSeconds The length of the simulation step, in seconds.
 	 */
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public void updateActor(double deltaSeconds) {
+		updatePosition(deltaSeconds);
 	}
 	
 }
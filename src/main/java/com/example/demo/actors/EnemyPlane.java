@@ -3,6 +3,7 @@ package com.example.demo.actors;
 /**
  * Represents an enemy plane in the game.
  * The EnemyPlane moves horizontally and can fire projectiles at a low rate.
+ * Its velocity and fire rate are expressed per second, so they hold at any simulation rate.
  *
  * This class extends {@link FighterPlane} and implements its specific movement
  * and firing behavior.
@@ -14,11 +15,13 @@ public class EnemyPlane extends FighterPlane {
 	// Constants
 	private static final String IMAGE_NAME = "enemyplane1.png";
 	private static final int IMAGE_HEIGHT = 30;
-	private static final int HORIZONTAL_VELOCITY = -5;
+	private static final int HORIZONTAL_VELOCITY = -100; // Pixels per second
 	private static final double PROJECTILE_X_POSITION_OFFSET = -100.0;
 	private static final double PROJECTILE_Y_POSITION_OFFSET = 50.0;
 	private static final int INITIAL_HEALTH = 1;
-	private static final double FIRE_RATE = .01;
+	private static final double FIRE_RATE = .2; // Shots per second
+
+	private final double fireRate;
 
 	/**
 	 * Constructs an EnemyPlane at the specified position.
@@ -27,39 +30,71 @@ public class EnemyPlane extends FighterPlane {
 	 * @param initialYPos The initial y-coordinate of the EnemyPlane.
 	 */
 	public EnemyPlane(double initialXPos, double initialYPos) {
+		this(initialXPos, initialYPos, FIRE_RATE);
+	}
+
+	/**
+	 * Constructs an EnemyPlane at the specified position that fires at the given rate.
+	 *
+	 * @param initialXPos The initial x-coordinate of the EnemyPlane.
+	 * @param initialYPos The initial y-coordinate of the EnemyPlane.
+	 * @param fireRate The average number of shots per second.
+	 */
+	public EnemyPlane(double initialXPos, double initialYPos, double fireRate) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
+		this.fireRate = fireRate;
 	}
 
 	/**
 	 * Updates the position of the EnemyPlane by moving it horizontally.
+	 *
+	 * @param deltaSeconds The length of the simulation step, in seconds.
 	 */
 	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+	public void updatePosition(double deltaSeconds) {
+		moveHorizontally(HORIZONTAL_VELOCITY * deltaSeconds);
 	}
 
 	/**
-	 * Fires a projectile with a certain probability. The projectile is fired
-	 * from the EnemyPlane's current position with specified offsets.
+	 * Fires a projectile from the EnemyPlane's current position with specified offsets.
 	 *
-	 * @return An {@link EnemyProjectile} if firing occurs, or {@code null} otherwise.
+	 * @return The fired {@link EnemyProjectile}.
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		if (Math.random() < FIRE_RATE) {
-			double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
-			double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-			return new EnemyProjectile(projectileXPosition, projectileYPosition);
-		}
-		return null;
+		double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
+		double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
+		return EnemyProjectile.obtain(projectileXPosition, projectileYPosition);
+	}
+
+	/**
+	 * Gets how often the EnemyPlane fires on its own.
+	 *
+	 * @return The average number of shots per second.
+	 */
+	@Override
+	protected double getFireRate() {
+		return fireRate;
 	}
 
 	/**
 	 * Updates the state of the EnemyPlane. This includes updating its position.
+	 *
+	 * @param deltaSeconds The length of the simulation step, in seconds.
+	 */
+	@Override
+	public void updateActor(double deltaSeconds) {
+		updatePosition(deltaSeconds);
+	}
+
+	/**
+	 * Enemy planes only move themselves; firing happens in a separate phase. They can be updated in parallel.
+	 *
+	 * @return {@code true}.
 	 */
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public boolean isUpdateIsolated() {
+		return true;
 	}
 
 }
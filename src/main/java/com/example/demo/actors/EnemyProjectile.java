@@ -15,7 +15,8 @@ public class EnemyProjectile extends Projectile {
 
 	private static final String IMAGE_NAME = "missile1.png";
 	private static final int IMAGE_HEIGHT = 20;
-	private static final int HORIZONTAL_VELOCITY = -20;
+	private static final int HORIZONTAL_VELOCITY = -400; // Pixels per second
+	private static final ActorPool<EnemyProjectile> POOL = new ActorPool<>("EnemyProjectile", EnemyProjectile::new);
 
 	/**
 	 * Constructs an EnemyProjectile at the specified position.
@@ -27,21 +28,45 @@ public class EnemyProjectile extends Projectile {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
 	}
 
+	/**
+	 * Gets an EnemyProjectile at the specified position, reusing a recycled one when possible.
+	 *
+	 * @param initialXPos The initial x-coordinate of the projectile.
+	 * @param initialYPos The initial y-coordinate of the projectile.
+	 * @return A live EnemyProjectile.
+	 */
+	public static EnemyProjectile obtain(double initialXPos, double initialYPos) {
+		return POOL.obtain(initialXPos, initialYPos);
+	}
+
+	/**
+	 * Gets the pool that EnemyProjectiles are recycled through.
+	 *
+	 * @return The EnemyProjectile pool.
+	 */
+	public static ActorPool<EnemyProjectile> getPool() {
+		return POOL;
+	}
+
 	/**
 	 * Updates the position of the projectile by moving it horizontally.
+	 *
+	 * @param deltaSeconds The length of the simulation step, in seconds.
 	 */
 	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+	public void updatePosition(double deltaSeconds) {
+		moveHorizontally(HORIZONTAL_VELOCITY * deltaSeconds);
 	}
 
 	/**
 	 * Updates the state of the projectile. In this implementation,
 	 * it simply updates its position.
+	 *
+	 * @param deltaSeconds The length of the simulation step, in seconds.
 	 */
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public void updateActor(double deltaSeconds) {
+		updatePosition(deltaSeconds);
 	}
 
 
@@ -1,5 +1,7 @@
 package com.example.demo.actors;
 
+import java.util.random.RandomGenerator;
+
 import com.example.demo.actors.ActiveActorDestructible;
 
 /**
@@ -38,6 +40,28 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 */
 	public abstract ActiveActorDestructible fireProjectile();
 
+	/**
+	 * Gives the fighter plane a chance to fire on its own during one simulation step. The chance grows
+	 * with the length of the step, so the plane fires {@link #getFireRate()} times per second on average
+	 * regardless of the simulation rate.
+	 *
+	 * @param deltaSeconds The length of the simulation step, in seconds.
+	 * @param random The generator that decides whether the plane fires.
+	 * @return The fired projectile, or {@code null} if the plane does not fire during this step.
+	 */
+	public ActiveActorDestructible fireDuringStep(double deltaSeconds, RandomGenerator random) {
+		return random.nextDouble() < getFireRate() * deltaSeconds ? fireProjectile() : null;
+	}
+
+	/**
+	 * Gets how often the fighter plane fires on its own. Planes that only fire on command return zero.
+	 *
+	 * @return The average number of shots per second.
+	 */
+	protected double getFireRate() {
+		return 0;
+	}
+
 	/**
 	 * Reduces the fighter plane's health by 1 when it takes damage.
 	 * If the health reaches zero, the fighter plane is destroyed.
@@ -58,7 +82,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 * @return The x-coordinate of the projectile.
 	 */
 	protected double getProjectileXPosition(double xPositionOffset) {
-		return getLayoutX() + getTranslateX() + xPositionOffset;
+		return getPositionX() + xPositionOffset;
 	}
 
 	/**
@@ -69,7 +93,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 * @return The y-coordinate of the projectile.
 	 */
 	protected double getProjectileYPosition(double yPositionOffset) {
-		return getLayoutY() + getTranslateY() + yPositionOffset;
+		return getPositionY() + yPositionOffset;
 	}
 
 	/**
@@ -1,109 +1,211 @@
 package com.example.demo.actors;
 
-import com.example.demo.LevelParent;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-import javafx.util.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
- * Represents a power-up object in the game that moves towards the player and activates
- * once it collides with the player's plane. It also has the ability to fire a projectile.
- *
- * The PowerUp class provides functionality to move towards the player, activate upon collision,
- * and update its image and size when activated.
+ * Represents a power-up in the game. A power-up flies towards the user's plane and is collected by the level
+ * once the two overlap.
+ * <p>
+ * Power-ups are actors like any other: the level updates them in its update pass, collects them in its own
+ * tick phase, and removes and recycles them in its removal pass. What a power-up does when collected depends
+ * on its {@link PowerUpType}. A {@link PowerUpType#WINGMAN wingman} stays in the level as a plane that follows
+ * the user and fires whenever the user fires; every other type is used up on collection.
+ * </p>
+ * <p>
+ * Power-ups are pooled per type in an {@link ActorPool}: {@link #obtain(PowerUpType, double, double, UserPlane)}
+ * reuses a recycled power-up of the requested type when there is one. Like the projectile pools, the pools are
+ * not thread-safe and must only be used from the thread that runs the game loop.
+ * </p>
  *
  * @author Talya
  */
-    public class PowerUp extends ImageView {
-
-        // Constants for image paths, initial position, and movement speed
-        private static final String IMAGE_NAME = "/com/example/demo/images/powerup.png";
-        private static final String USER_PLANE_IMAGE = "/com/example/demo/images/userplane1.png";
-        private static final double INITIAL_X_POSITION = 800.0; // Initial position of the power-up
-        private static final double INITIAL_Y_POSITION = 300.0;
-        private static final double OFFSET_X = 0.0; // Adjust offset as needed
-        private static final double OFFSET_Y = 50.0; // Adjust offset as needed
-        private static final double SPEED = 8.0;
-
-        // Instance variables
-
-        private final LevelParent level;
-        private final Timeline timeline;
-
-        /**
-         * Constructs a PowerUp that moves towards the player.
-         *
-         * @param level The level in which the power-up exists, used to access the user's plane.
-         */
-        public PowerUp(LevelParent level) {
-            super(new Image(PowerUp.class.getResource(IMAGE_NAME).toExternalForm()));
-            this.level = level;
-            setX(INITIAL_X_POSITION);
-            setY(INITIAL_Y_POSITION);
-            setFitWidth(80); // Set the desired width
-            setFitHeight(80); // Set the desired height
-
-            // Timeline to move the power-up towards the player
-            timeline = new Timeline(new KeyFrame(Duration.millis(50), e -> moveTowardsPlayer()));
-            timeline.setCycleCount(Timeline.INDEFINITE);
-            timeline.play();
-        }
-        /**
-         * Moves the power-up towards the player's plane.
-         * It calculates the direction to the player and moves in that direction.
-         * If the power-up collides with the player's plane, it activates the power-up.
-         */
-        private void moveTowardsPlayer() {
-            double playerX = level.getUser().getLayoutX() + level.getUser().getTranslateX();
-            double playerY = level.getUser().getLayoutY() + level.getUser().getTranslateY();
-            double deltaX = playerX - getX(); double deltaY = playerY - getY();
-            double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
-            double moveX = SPEED * deltaX / distance;
-            double moveY = SPEED * deltaY / distance;
-
-            setX(getX() + moveX);
-            setY(getY() + moveY);
-
-            // Check for collision with player
-            if (getBoundsInParent().intersects(level.getUser().getBoundsInParent())) {
-                activate();
-                timeline.stop();
-            }
-        }
-
-        /**
-         * Makes the power-up follow the user's plane at a specified offset.
-         *
-         * @param userX The x-coordinate of the user's plane.
-         * @param userY The y-coordinate of the user's plane.
-         */
-        public void followUser(double userX, double userY) {
-            setX(userX + OFFSET_X);
-            setY(userY + OFFSET_Y);
-        }
-
-        /**
-         * Fires a projectile from the power-up's location, adding it to the level's root and user projectiles.
-         * The projectile is created as an instance of {@link UserProjectile}.
-         */
-        public void fireProjectile() {
-            //ActiveActorDestructible projectile = new UserProjectile(getX() + PROJECTILE_X_POSITION, getY() + PROJECTILE_Y_POSITION_OFFSET);
-            ActiveActorDestructible projectile = new UserProjectile(getX() + 110, getY());
-            level.getRoot().getChildren().add(projectile);
-            level.getUserProjectiles().add(projectile);
-        }
-
-        /**
-         * Activates the power-up by changing its image to represent the user's plane,
-         * resizing it, and adding it as a follower plane to the user's plane.
-         */
-        public void activate() {
-            setImage(new Image(PowerUp.class.getResource(USER_PLANE_IMAGE).toExternalForm()));
-            setFitWidth(200); // Set new width for the user plane image
-            setFitHeight(50); // Set new height for the user plane image
-            // Add this power-up as a follower plane to the user's plane
-            level.getUser().addFollowerPlane(this);
-            }
-    }
+public class PowerUp extends ActiveActorDestructible {
+
+	private static final String WINGMAN_IMAGE_NAME = "userplane1.png";
+	private static final int IMAGE_HEIGHT = 80;
+	private static final int WINGMAN_IMAGE_HEIGHT = 50;
+	private static final double SPEED = 160.0; // Pixels per second
+	private static final double WINGMAN_OFFSET_X = 0.0;
+	private static final double WINGMAN_OFFSET_Y = 50.0;
+	private static final double PROJECTILE_X_OFFSET = 110.0;
+	private static final Map<PowerUpType, ActorPool<PowerUp>> POOLS = createPools();
+
+	private final PowerUpType type;
+	private UserPlane target;
+	private boolean attached;
+
+	/**
+	 * Constructs a PowerUp of the given type.
+	 *
+	 * @param type The type of power-up.
+	 * @param initialXPos The initial x-coordinate of the power-up.
+	 * @param initialYPos The initial y-coordinate of the power-up.
+	 * @param target The user's plane, which the power-up flies towards.
+	 */
+	public PowerUp(PowerUpType type, double initialXPos, double initialYPos, UserPlane target) {
+		super(type.getImageName(), IMAGE_HEIGHT, initialXPos, initialYPos);
+		this.type = type;
+		this.target = target;
+	}
+
+	/**
+	 * Gets a power-up of the given type at the specified position, reusing a recycled one when possible.
+	 *
+	 * @param type The type of power-up.
+	 * @param initialXPos The initial x-coordinate of the power-up.
+	 * @param initialYPos The initial y-coordinate of the power-up.
+	 * @param target The user's plane, which the power-up flies towards.
+	 * @return A live power-up that has not been collected.
+	 */
+	public static PowerUp obtain(PowerUpType type, double initialXPos, double initialYPos, UserPlane target) {
+		PowerUp powerUp = POOLS.get(type).obtain(initialXPos, initialYPos);
+		powerUp.target = target;
+		return powerUp;
+	}
+
+	/**
+	 * Gets the pool that power-ups of one type are recycled through.
+	 *
+	 * @param type The type of power-up.
+	 * @return The pool for that type.
+	 */
+	public static ActorPool<PowerUp> getPool(PowerUpType type) {
+		return POOLS.get(type);
+	}
+
+	/**
+	 * Gets the pools of every type of power-up, in the order the types are declared.
+	 *
+	 * @return The power-up pools.
+	 */
+	public static Collection<ActorPool<PowerUp>> getPools() {
+		return Collections.unmodifiableCollection(POOLS.values());
+	}
+
+	/**
+	 * Creates an empty pool for every type of power-up. Power-ups created by a pool get their target when they
+	 * are obtained.
+	 *
+	 * @return The pools, by type.
+	 */
+	private static Map<PowerUpType, ActorPool<PowerUp>> createPools() {
+		Map<PowerUpType, ActorPool<PowerUp>> pools = new EnumMap<>(PowerUpType.class);
+		for (PowerUpType type : PowerUpType.values()) {
+			pools.put(type, new ActorPool<>("PowerUp " + type,
+					(initialXPos, initialYPos) -> new PowerUp(type, initialXPos, initialYPos, null)));
+		}
+		return pools;
+	}
+
+	/**
+	 * Gets the type of the power-up.
+	 *
+	 * @return The type.
+	 */
+	public PowerUpType getType() {
+		return type;
+	}
+
+	/**
+	 * Checks whether the power-up has been collected as a wingman and now follows the user's plane.
+	 *
+	 * @return {@code true} if the power-up is an attached wingman, {@code false} otherwise.
+	 */
+	public boolean isAttached() {
+		return attached;
+	}
+
+	/**
+	 * Checks whether the power-up can still be collected.
+	 *
+	 * @return {@code true} if the power-up is neither collected nor destroyed.
+	 */
+	public boolean isCollectable() {
+		return !attached && !isDestroyed();
+	}
+
+	/**
+	 * Moves the power-up. Until it is collected it flies straight towards the user's plane; a wingman
+	 * keeps its place next to the user's plane instead.
+	 *
+	 * @param deltaSeconds The length of the simulation step, in seconds.
+	 */
+	@Override
+	public void updatePosition(double deltaSeconds) {
+		if (attached) {
+			moveHorizontally(target.getPositionX() + WINGMAN_OFFSET_X - getPositionX());
+			moveVertically(target.getPositionY() + WINGMAN_OFFSET_Y - getPositionY());
+			return;
+		}
+		double deltaX = target.getPositionX() - getPositionX();
+		double deltaY = target.getPositionY() - getPositionY();
+		double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+		double step = SPEED * deltaSeconds;
+		if (distance <= step) {
+			moveHorizontally(deltaX);
+			moveVertically(deltaY);
+		} else {
+			moveHorizontally(step * deltaX / distance);
+			moveVertically(step * deltaY / distance);
+		}
+	}
+
+	/**
+	 * Updates the power-up's state, which is only its position.
+	 *
+	 * @param deltaSeconds The length of the simulation step, in seconds.
+	 */
+	@Override
+	public void updateActor(double deltaSeconds) {
+		updatePosition(deltaSeconds);
+	}
+
+	/**
+	 * Collects the power-up. A wingman changes into a plane and starts following the user's plane; any other
+	 * type is destroyed, and the level applies its effect.
+	 */
+	public void collect() {
+		if (type == PowerUpType.WINGMAN) {
+			attached = true;
+			setAppearance(WINGMAN_IMAGE_NAME, WINGMAN_IMAGE_HEIGHT);
+		} else {
+			destroy();
+		}
+	}
+
+	/**
+	 * Fires a projectile from a wingman's position. The caller adds it to the level.
+	 *
+	 * @return A {@link UserProjectile} taken from its pool.
+	 */
+	public ActiveActorDestructible fireProjectile() {
+		return UserProjectile.obtain(getPositionX() + PROJECTILE_X_OFFSET, getPositionY());
+	}
+
+	/**
+	 * Power-ups cannot be damaged.
+	 */
+	@Override
+	public void takeDamage() {
+	}
+
+	/**
+	 * Returns the power-up to the pool of its type. A wingman is turned back into a plain power-up first.
+	 */
+	@Override
+	public void recycle() {
+		if (isInPool()) {
+			return;
+		}
+		if (attached) {
+			attached = false;
+			setAppearance(type.getImageName(), IMAGE_HEIGHT);
+		}
+		target = null;
+		super.recycle();
+	}
+
+}
@@ -0,0 +1,41 @@
+package com.example.demo.actors;
+
+/**
+ * The PowerUpType enum lists the kinds of power-up the user can collect, together with the image each one
+ * is shown with before it is collected.
+ *
+ * @author Talya
+ */
+public enum PowerUpType {
+
+	/**
+	 * Turns into a wingman that follows the user's plane and fires alongside it for the rest of the level.
+	 */
+	WINGMAN("powerup.png"),
+
+	/**
+	 * Destroys every enemy projectile in flight.
+	 */
+	BARRIER("shield.png");
+
+	private final String imageName;
+
+	/**
+	 * Constructs a PowerUpType.
+	 *
+	 * @param imageName The image the power-up is shown with until it is collected.
+	 */
+	PowerUpType(String imageName) {
+		this.imageName = imageName;
+	}
+
+	/**
+	 * Gets the image the power-up is shown with until it is collected.
+	 *
+	 * @return The image name, relative to the actor image directory.
+	 */
+	public String getImageName() {
+		return imageName;
+	}
+
+}
@@ -1,7 +1,5 @@
 package com.example.demo.actors;
 
-import com.example.demo.actors.ActiveActorDestructible;
-
 /**
  * Represents a projectile in the game. The projectile is a type of active actor that is capable of movement
  * and can be destroyed upon taking damage.
@@ -9,6 +7,8 @@ import com.example.demo.actors.ActiveActorDestructible;
  * This class provides a base for various types of projectiles (e.g., bullets, missiles) to inherit common functionality,
  * such as updating position and handling destruction upon damage.
  *
+ * Projectiles created through an {@link ActorPool} remember that pool and go back into it when recycled.
+ *
  * @author Talya
  */
 public abstract class Projectile extends ActiveActorDestructible {
@@ -34,11 +34,23 @@ public abstract class Projectile extends ActiveActorDestructible {
 		this.destroy();
 	}// Destroy the projectile upon taking damage.
 
+	/**
+	 * Projectiles only move themselves, so they can be updated in parallel.
+	 *
+	 * @return {@code true}.
+	 */
+	@Override
+	public boolean isUpdateIsolated() {
+		return true;
+	}
+
 	/**
 	 * Abstract method to update the position of the projectile.
 	 * This must be implemented by subclasses to define how the projectile moves.
+	 *
+	 * @param deltaSeconds The length of the simulation step, in seconds.
 	 */
 	@Override
-	public abstract void updatePosition();
+	public abstract void updatePosition(double deltaSeconds);
 
 }
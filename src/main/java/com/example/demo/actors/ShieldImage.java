@@ -1,6 +1,9 @@
 package com.example.demo.actors;
 
-import javafx.scene.image.Image;
+import com.example.demo.assets.ImageLoader;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import com.example.demo.logging.LogLevel;
 import javafx.scene.image.ImageView;
 
 /**
@@ -11,7 +14,7 @@ import javafx.scene.image.ImageView;
  *
  * @author Talya
  */
-public class ShieldImage extends ImageView {
+public final class ShieldImage extends ImageView {
 	
 	private static final String IMAGE_NAME = "/images/shield.png";
 	private static final int SHIELD_SIZE = 100;
@@ -26,7 +29,7 @@ public class ShieldImage extends ImageView {
 	public ShieldImage(double xPosition, double yPosition) {
 		this.setLayoutX(xPosition);
 		this.setLayoutY(yPosition);
-		this.setImage(new Image(getClass().getResource("/com/example/demo/images/shield.png").toExternalForm()));//jpg changed to png
+		ImageLoader.applySprite(this, "/com/example/demo/images/shield.png", SHIELD_SIZE);//jpg changed to png
 		this.setVisible(true);//was false now true d
 		//this.setVisible(false);
 		this.setFitHeight(SHIELD_SIZE);
@@ -43,7 +46,7 @@ public class ShieldImage extends ImageView {
 		if(!isShielded){//d
 			isShielded = true;//d
 			this.setVisible(true);
-			System.out.println("Shield on (shield image) " + getLayoutX() +"," + getLayoutY());//d
+			GameLog.debug(LogCategory.BOSS, "Shield on (shield image) {},{}", getLayoutX(), getLayoutY());//d
 		}
 	}
 
@@ -52,7 +55,7 @@ public class ShieldImage extends ImageView {
 	 */
 	public void hideShield() {
 		this.setVisible(false);
-		System.out.println("Shield off");//d
+		GameLog.debug(LogCategory.BOSS, "Shield off");//d
 	}
 
 	/**
@@ -66,7 +69,9 @@ public class ShieldImage extends ImageView {
 	public void updatePosition(double xPosition, double yPosition) {
 		setLayoutX(xPosition);
 		setLayoutY(yPosition);
-		System.out.println("Shield Position Updated(Shield Image class): " + getLayoutX() + ", " + getLayoutY());
+		if (GameLog.isEnabled(LogCategory.BOSS, LogLevel.TRACE)) {
+			GameLog.trace(LogCategory.BOSS, "Shield Position Updated(Shield Image class): {}, {}", getLayoutX(), getLayoutY());
+		}
 
 	}
 
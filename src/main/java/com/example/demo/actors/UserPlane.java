@@ -1,15 +1,12 @@
 package com.example.demo.actors;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Represents the user's plane in the game, which is the player's character.
  * The plane can move vertically and fire projectiles. It also has a kill count
- * and can acquire follower planes from power-ups.
+ * and is followed by any wingmen collected from power-ups.
  *
  * The `UserPlane` class extends `FighterPlane` and manages the player's plane's
- * movement, projectiles, and follower planes.
+ * movement and projectiles.
  *
  * @author Talya
  */
@@ -21,12 +18,11 @@ public class UserPlane extends FighterPlane {
 	private static final double INITIAL_X_POSITION = 5.0;
 	private static final double INITIAL_Y_POSITION = 300.0;
 	private static final int IMAGE_HEIGHT = 50;
-	private static final int VERTICAL_VELOCITY = 8;
+	private static final int VERTICAL_VELOCITY = 160; // Pixels per second
 	private static final int PROJECTILE_X_POSITION = 110;
 	private static final int PROJECTILE_Y_POSITION_OFFSET = 20;
 	private int velocityMultiplier;
 	private int numberOfKills;
-	private final List<PowerUp> followerPlanes; // Add list of follower planes
 
 
 	/**
@@ -37,48 +33,45 @@ public class UserPlane extends FighterPlane {
 	public UserPlane(int initialHealth) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth);
 		velocityMultiplier = 0;
-		this.followerPlanes = new ArrayList<>(); // Initialize list
 	}
 
 	/**
 	 * Updates the position of the user plane based on its current movement state.
 	 * If the plane is moving, it will adjust its y-position within the defined bounds.
-	 * It also updates the positions of any follower planes.
+	 *
+	 * @param deltaSeconds The length of the simulation step, in seconds.
 	 */
 	@Override
-	public void updatePosition() {
+	public void updatePosition(double deltaSeconds) {
 		if (isMoving()) {
-			double initialTranslateY = getTranslateY();
-			this.moveVertically(VERTICAL_VELOCITY * velocityMultiplier);
-			double newPosition = getLayoutY() + getTranslateY();
+			double initialPositionY = getPositionY();
+			this.moveVertically(VERTICAL_VELOCITY * velocityMultiplier * deltaSeconds);
+			double newPosition = getPositionY();
 			if (newPosition < Y_UPPER_BOUND || newPosition > Y_LOWER_BOUND) {
-				this.setTranslateY(initialTranslateY);
+				this.setPositionY(initialPositionY);
 			}
 		}
-		updateFollowerPlanesPosition(); // Update followers' positions
 	}
 
 	/**
 	 * Updates the user plane's behavior, including its position.
+	 *
+	 * @param deltaSeconds The length of the simulation step, in seconds.
 	 */
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public void updateActor(double deltaSeconds) {
+		updatePosition(deltaSeconds);
 	}
 
 
 	/**
-	 * Fires a projectile from the user plane. This also notifies follower planes to fire their projectiles.
+	 * Fires a projectile from the user plane. Wingmen are fired by the level.
 	 *
-	 * @return The new `UserProjectile` object representing the fired projectile.
+	 * @return The `UserProjectile` object representing the fired projectile, taken from the projectile pool.
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		// Notify power-up planes to fire
-		for (PowerUp powerUp : followerPlanes) {
-			powerUp.fireProjectile();
-		}
-		return new UserProjectile(PROJECTILE_X_POSITION, getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET));
+		return UserProjectile.obtain(PROJECTILE_X_POSITION, getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET));
 	}
 
 	/**
@@ -126,26 +119,4 @@ public class UserPlane extends FighterPlane {
 	public void incrementKillCount() {
 		numberOfKills++;
 	}
-
-	/**
-	 * Adds a follower plane (from a power-up) to the user plane's follower list.
-	 *
-	 * @param powerUp The power-up plane to add as a follower.
-	 */
-	public void addFollowerPlane(PowerUp powerUp) {
-		followerPlanes.add(powerUp);
-	}
-
-	/**
-	 * Updates the positions of all follower planes to follow the user plane's current position.
-	 */
-	private void updateFollowerPlanesPosition() {
-		double userX = getLayoutX() + getTranslateX();
-		double userY = getLayoutY() + getTranslateY();
-		for (PowerUp powerUp : followerPlanes) {
-			powerUp.followUser(userX, userY);
-		}
-	}
 }
-
-
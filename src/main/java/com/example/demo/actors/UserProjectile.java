@@ -1,7 +1,5 @@
 package com.example.demo.actors;
 
-import com.example.demo.actors.Projectile;
-
 /**
  * Represents a projectile fired by the user's plane in the game.
  * The `UserProjectile` class extends `Projectile` and defines the behavior for the user's fireball-like projectiles.
@@ -14,7 +12,8 @@ public class UserProjectile extends Projectile {
 
 	private static final String IMAGE_NAME = "userfire.png";
 	private static final int IMAGE_HEIGHT = 15;
-	private static final int HORIZONTAL_VELOCITY = 30;
+	private static final int HORIZONTAL_VELOCITY = 600; // Pixels per second
+	private static final ActorPool<UserProjectile> POOL = new ActorPool<>("UserProjectile", UserProjectile::new);
 
 	/**
 	 * Constructs a new UserProjectile with the specified initial position.
@@ -26,20 +25,44 @@ public class UserProjectile extends Projectile {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
 	}
 
+	/**
+	 * Gets a UserProjectile at the specified position, reusing a recycled one when possible.
+	 *
+	 * @param initialXPos The initial x-position of the projectile.
+	 * @param initialYPos The initial y-position of the projectile.
+	 * @return A live UserProjectile.
+	 */
+	public static UserProjectile obtain(double initialXPos, double initialYPos) {
+		return POOL.obtain(initialXPos, initialYPos);
+	}
+
+	/**
+	 * Gets the pool that UserProjectiles are recycled through.
+	 *
+	 * @return The UserProjectile pool.
+	 */
+	public static ActorPool<UserProjectile> getPool() {
+		return POOL;
+	}
+
 	/**
 	 * Updates the position of the projectile, moving it horizontally based on the defined velocity.
+	 *
+	 * @param deltaSeconds The length of the simulation step, in seconds.
 	 */
 	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+	public void updatePosition(double deltaSeconds) {
+		moveHorizontally(HORIZONTAL_VELOCITY * deltaSeconds);
 	}
 
 	/**
 	 * Updates the behavior of the projectile, including its position.
+	 *
+	 * @param deltaSeconds The length of the simulation step, in seconds.
 	 */
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public void updateActor(double deltaSeconds) {
+		updatePosition(deltaSeconds);
 	}
 	
 }
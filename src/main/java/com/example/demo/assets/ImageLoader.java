@@ -0,0 +1,512 @@
+package com.example.demo.assets;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import com.example.demo.simulation.HeadlessMode;
+import javafx.geometry.Dimension2D;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+/**
+ * The ImageLoader class is the single place where game images are loaded from the classpath.
+ * <p>
+ * Every image is decoded once and then shared by all nodes that show it, through a thread-safe cache
+ * keyed by resource path and decoded size. {@link #preload(String...)} decodes images on a background thread
+ * ahead of time, so spawning an actor mid-game never has to read or decode a file on the JavaFX application
+ * thread. Cached images stay resident until they are evicted with {@link #evict(String)} or {@link #evictAll()}.
+ * </p>
+ * <p>
+ * Images are decoded at the size they are shown at rather than at the size of the source file, so an enemy
+ * plane drawn 30 pixels high keeps a 30 pixel bitmap in memory instead of a 289 pixel one. Images are never
+ * decoded larger than their source. The size can be multiplied with {@code -Dskybattle.imageScale} for
+ * high-density displays, and smoothing while scaling can be turned off with
+ * {@code -Dskybattle.smoothImages=false}. How many bytes every decoded image takes is available through
+ * {@link #report()}, and {@link #logFootprint(String)} warns when the total exceeds
+ * {@code -Dskybattle.imageBudgetMB}, 64 MB by default.
+ * </p>
+ * <p>
+ * The sprites used during gameplay can also be packed into a single {@link SpriteAtlas} on first run with
+ * {@link #packAtlas(Map)}. Nodes that are given their image through {@link #applySprite(ImageView, String, double)}
+ * then show the atlas through a viewport on the sprite's region, so all of them share one texture. Packing can
+ * be turned off with {@code -Dskybattle.atlas=false}, in which case every sprite is loaded on its own.
+ * </p>
+ * <p>
+ * In headless mode no image is decoded at all and {@link #load(String)} returns {@code null}.
+ * Actors still need their on-screen size for collision detection, so {@link #getImageSize(String)}
+ * reads the dimensions straight from the PNG or JPEG header without touching the JavaFX toolkit.
+ * </p>
+ *
+ * @author Talya
+ */
+public final class ImageLoader {
+
+	private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+	private static final int IHDR_CHUNK_HEADER_LENGTH = 8;
+	private static final int JPEG_START_OF_IMAGE = 0xFFD8;
+	private static final int JPEG_MARKER_PREFIX = 0xFF;
+	private static final Map<String, Dimension2D> IMAGE_SIZES = new ConcurrentHashMap<>();
+	private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+	private static final String ATLAS_PROPERTY = "skybattle.atlas";
+	private static final String SCALE_PROPERTY = "skybattle.imageScale";
+	private static final String SMOOTH_PROPERTY = "skybattle.smoothImages";
+	private static final String BUDGET_PROPERTY = "skybattle.imageBudgetMB";
+	private static final int ATLAS_WIDTH = 512;
+	private static final int BYTES_PER_PIXEL = 4;
+	private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+	private static final Dimension2D SOURCE_SIZE = new Dimension2D(0, 0);
+	private static final double IMAGE_SCALE = Double.parseDouble(System.getProperty(SCALE_PROPERTY, "1"));
+	private static final boolean SMOOTH = Boolean.parseBoolean(System.getProperty(SMOOTH_PROPERTY, "true"));
+	private static final ExecutorService PRELOADER = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "image-preloader");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private static volatile CompletableFuture<SpriteAtlas> atlas;
+
+	/**
+	 * Prevents instantiation of this utility class.
+	 */
+	private ImageLoader() {
+	}
+
+	/**
+	 * Gets the image at the given resource path at the size of its source file, decoding it only if it is
+	 * not cached yet.
+	 *
+	 * @param resourcePath The absolute classpath location of the image.
+	 * @return The shared image, or {@code null} when running in headless mode.
+	 */
+	public static Image load(String resourcePath) {
+		return load(resourcePath, 0, 0);
+	}
+
+	/**
+	 * Gets the image at the given resource path decoded at the size it is shown at, decoding it only if it is
+	 * not cached at that size yet. Smoothing follows the {@code skybattle.smoothImages} setting.
+	 *
+	 * @param resourcePath The absolute classpath location of the image.
+	 * @param width The width the image is shown at, or 0 to follow the height and keep the aspect ratio.
+	 * @param height The height the image is shown at, or 0 to follow the width and keep the aspect ratio.
+	 * @return The shared image, or {@code null} when running in headless mode.
+	 */
+	public static Image load(String resourcePath, double width, double height) {
+		return load(resourcePath, width, height, SMOOTH);
+	}
+
+	/**
+	 * Gets the image at the given resource path decoded at the size it is shown at, decoding it only if it is
+	 * not cached at that size yet.
+	 *
+	 * @param resourcePath The absolute classpath location of the image.
+	 * @param width The width the image is shown at, or 0 to follow the height and keep the aspect ratio.
+	 * @param height The height the image is shown at, or 0 to follow the width and keep the aspect ratio.
+	 * @param smooth {@code true} to filter the image while scaling it down, {@code false} to pick the nearest
+	 *               pixels, which is faster and keeps hard edges.
+	 * @return The shared image, or {@code null} when running in headless mode.
+	 */
+	public static Image load(String resourcePath, double width, double height, boolean smooth) {
+		if (HeadlessMode.isEnabled()) {
+			return null;
+		}
+		Dimension2D size = getDecodeSize(resourcePath, width, height);
+		return IMAGES.computeIfAbsent(cacheKey(resourcePath, size, smooth), key -> decode(resourcePath, size, smooth));
+	}
+
+	/**
+	 * Decodes the given images into the cache at the size of their source files on a background thread.
+	 * Images that are already cached are skipped. Nothing is decoded in headless mode.
+	 *
+	 * @param resourcePaths The absolute classpath locations of the images.
+	 * @return A future that completes once all images are cached.
+	 */
+	public static CompletableFuture<Void> preload(String... resourcePaths) {
+		return preload(0, 0, resourcePaths);
+	}
+
+	/**
+	 * Decodes the given images into the cache at the size they are shown at, on a background thread.
+	 * Images that are already cached at that size are skipped. Nothing is decoded in headless mode.
+	 *
+	 * @param width The width the images are shown at, or 0 to follow the height.
+	 * @param height The height the images are shown at, or 0 to follow the width.
+	 * @param resourcePaths The absolute classpath locations of the images.
+	 * @return A future that completes once all images are cached.
+	 */
+	public static CompletableFuture<Void> preload(double width, double height, String... resourcePaths) {
+		if (HeadlessMode.isEnabled()) {
+			return CompletableFuture.completedFuture(null);
+		}
+		return CompletableFuture.runAsync(() -> {
+			for (String resourcePath : resourcePaths) {
+				load(resourcePath, width, height);
+			}
+		}, PRELOADER);
+	}
+
+	/**
+	 * Packs the given sprites into the sprite atlas on a background thread, each decoded at the height it is
+	 * shown at. Until packing has finished, {@link #applySprite(ImageView, String, double)} waits for it. If
+	 * atlas packing is turned off, or the game runs headless, the sprites are preloaded separately instead.
+	 *
+	 * @param spriteHeights The height every sprite is shown at, keyed by its absolute classpath location.
+	 * @return A future that completes once the sprites are ready to be shown.
+	 */
+	public static CompletableFuture<Void> packAtlas(Map<String, Integer> spriteHeights) {
+		if (HeadlessMode.isEnabled()) {
+			return CompletableFuture.completedFuture(null);
+		}
+		if (!Boolean.parseBoolean(System.getProperty(ATLAS_PROPERTY, "true"))) {
+			return CompletableFuture.runAsync(() -> spriteHeights.forEach(
+					(resourcePath, height) -> load(resourcePath, 0, height)), PRELOADER);
+		}
+		CompletableFuture<SpriteAtlas> packing = CompletableFuture.supplyAsync(() -> {
+			long start = System.nanoTime();
+			Map<String, Dimension2D> sizes = new LinkedHashMap<>();
+			spriteHeights.forEach((resourcePath, height) -> {
+				Dimension2D size = getDecodeSize(resourcePath, 0, height);
+				sizes.put(resourcePath, size == SOURCE_SIZE ? getImageSize(resourcePath) : size);
+			});
+			SpriteAtlas packed = SpriteAtlas.pack(sizes, ATLAS_WIDTH, SMOOTH);
+			GameLog.info(LogCategory.GAME, "Packed {} sprites into the sprite atlas in {} ms.", sizes.size(),
+					(System.nanoTime() - start) / 1_000_000);
+			return packed;
+		}, PRELOADER);
+		packing.exceptionally(e -> {
+			GameLog.warn(LogCategory.GAME, "Could not pack the sprite atlas, loading sprites separately: {}", e);
+			return null;
+		});
+		atlas = packing;
+		return packing.thenApply(packed -> null);
+	}
+
+	/**
+	 * Gives a node the image of a sprite. A sprite in the atlas is shown as the atlas image with a viewport on
+	 * the sprite's region; any other sprite is {@link #load(String, double, double) loaded} on its own at the
+	 * height it is shown at and shown whole. In headless mode the node gets no image.
+	 *
+	 * @param view The node that shows the sprite.
+	 * @param resourcePath The absolute classpath location of the sprite.
+	 * @param height The height the sprite is shown at.
+	 */
+	public static void applySprite(ImageView view, String resourcePath, double height) {
+		SpriteAtlas packed = HeadlessMode.isEnabled() ? null : getAtlas();
+		Rectangle2D region = packed == null ? null : packed.getRegion(resourcePath);
+		if (region != null) {
+			view.setImage(packed.getImage());
+			view.setViewport(region);
+		} else {
+			view.setImage(load(resourcePath, 0, height));
+			view.setViewport(null);
+		}
+	}
+
+	/**
+	 * Gets the sprite atlas, waiting for it to be packed if packing is still under way.
+	 *
+	 * @return The atlas, or {@code null} if none was requested or packing failed.
+	 */
+	public static SpriteAtlas getAtlas() {
+		CompletableFuture<SpriteAtlas> packing = atlas;
+		if (packing == null) {
+			return null;
+		}
+		try {
+			return packing.join();
+		} catch (CompletionException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Removes every size of an image from the cache. Nodes that already show it keep their copy; the next
+	 * {@link #load(String)} decodes it again.
+	 *
+	 * @param resourcePath The absolute classpath location of the image.
+	 */
+	public static void evict(String resourcePath) {
+		IMAGES.keySet().removeIf(key -> key.equals(resourcePath) || key.startsWith(resourcePath + "@"));
+	}
+
+	/**
+	 * Removes every image from the cache.
+	 */
+	public static void evictAll() {
+		IMAGES.clear();
+	}
+
+	/**
+	 * Checks whether an image is currently cached at any size.
+	 *
+	 * @param resourcePath The absolute classpath location of the image.
+	 * @return {@code true} if the image is cached, {@code false} otherwise.
+	 */
+	public static boolean isCached(String resourcePath) {
+		for (String key : IMAGES.keySet()) {
+			if (key.equals(resourcePath) || key.startsWith(resourcePath + "@")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the number of bytes the decoded images take: every cached image and the sprite atlas, at four
+	 * bytes per pixel.
+	 *
+	 * @return The decoded size, in bytes.
+	 */
+	public static long getDecodedBytes() {
+		long total = 0;
+		for (Image image : IMAGES.values()) {
+			total += decodedBytes(image);
+		}
+		SpriteAtlas packed = getPackedAtlas();
+		if (packed != null) {
+			total += decodedBytes(packed.getImage());
+		}
+		return total;
+	}
+
+	/**
+	 * Builds a table of every decoded image with its size in pixels and bytes, largest first, followed by
+	 * the total.
+	 *
+	 * @return The report, one line per image.
+	 */
+	public static String report() {
+		List<Map.Entry<String, Image>> entries = new ArrayList<>(IMAGES.entrySet());
+		SpriteAtlas packed = getPackedAtlas();
+		if (packed != null) {
+			entries.add(Map.entry("sprite atlas (" + packed.getRegions().size() + " sprites)", packed.getImage()));
+		}
+		entries.sort((first, second) -> Long.compare(decodedBytes(second.getValue()), decodedBytes(first.getValue())));
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("%-60s %11s %10s%n", "image", "pixels", "KB"));
+		for (Map.Entry<String, Image> entry : entries) {
+			Image image = entry.getValue();
+			report.append(String.format("%-60s %11s %10d%n", entry.getKey(),
+					(int) image.getWidth() + "x" + (int) image.getHeight(), decodedBytes(image) / 1024));
+		}
+		report.append(String.format("%d images, %d KB decoded%n", entries.size(), getDecodedBytes() / 1024));
+		return report.toString();
+	}
+
+	/**
+	 * Writes the decoded size of all images to the log, with the full {@link #report()} at debug level, and
+	 * warns if it exceeds the image budget. Nothing is logged in headless mode, where nothing is decoded.
+	 *
+	 * @param owner What the footprint is logged for, such as the level that has just been built.
+	 */
+	public static void logFootprint(String owner) {
+		if (HeadlessMode.isEnabled()) {
+			return;
+		}
+		long bytes = getDecodedBytes();
+		long budget = Long.getLong(BUDGET_PROPERTY, 64) * BYTES_PER_MEGABYTE;
+		GameLog.info(LogCategory.GAME, "{} image footprint: {} KB decoded.", owner, bytes / 1024);
+		GameLog.debug(LogCategory.GAME, "Decoded images:\n{}", report());
+		if (bytes > budget) {
+			GameLog.warn(LogCategory.GAME, owner + " exceeds the image budget: " + bytes / BYTES_PER_MEGABYTE
+					+ " MB decoded, " + budget / BYTES_PER_MEGABYTE + " MB allowed.");
+		}
+	}
+
+	/**
+	 * Gets the sprite atlas if it has been packed, without waiting for it.
+	 *
+	 * @return The atlas, or {@code null} if it is not packed (yet).
+	 */
+	private static SpriteAtlas getPackedAtlas() {
+		CompletableFuture<SpriteAtlas> packing = atlas;
+		return packing != null && packing.isDone() && !packing.isCompletedExceptionally() ? packing.join() : null;
+	}
+
+	/**
+	 * Computes the number of bytes a decoded image takes.
+	 *
+	 * @param image The image.
+	 * @return Its size at four bytes per pixel.
+	 */
+	private static long decodedBytes(Image image) {
+		return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+	}
+
+	/**
+	 * Works out the size to decode an image at: the size it is shown at times the image scale, but never
+	 * larger than the source file in either direction.
+	 *
+	 * @param resourcePath The absolute classpath location of the image.
+	 * @param width The width the image is shown at, or 0 to follow the height.
+	 * @param height The height the image is shown at, or 0 to follow the width.
+	 * @return The size to decode at, or {@link #SOURCE_SIZE} if that is the size of the source file.
+	 */
+	private static Dimension2D getDecodeSize(String resourcePath, double width, double height) {
+		if (width <= 0 && height <= 0) {
+			return SOURCE_SIZE;
+		}
+		Dimension2D source = getImageSize(resourcePath);
+		double targetWidth = width > 0 ? width * IMAGE_SCALE : height * IMAGE_SCALE * source.getWidth() / source.getHeight();
+		double targetHeight = height > 0 ? height * IMAGE_SCALE : width * IMAGE_SCALE * source.getHeight() / source.getWidth();
+		double decodedWidth = Math.min(Math.ceil(targetWidth), source.getWidth());
+		double decodedHeight = Math.min(Math.ceil(targetHeight), source.getHeight());
+		if (decodedWidth == source.getWidth() && decodedHeight == source.getHeight()) {
+			return SOURCE_SIZE;
+		}
+		return new Dimension2D(decodedWidth, decodedHeight);
+	}
+
+	/**
+	 * Builds the cache key of an image decoded at a given size.
+	 *
+	 * @param resourcePath The absolute classpath location of the image.
+	 * @param size The decoded size, or {@link #SOURCE_SIZE}.
+	 * @param smooth Whether the image is smoothed while scaling.
+	 * @return The resource path alone for an image at its source size, otherwise the path with the size.
+	 */
+	private static String cacheKey(String resourcePath, Dimension2D size, boolean smooth) {
+		if (size == SOURCE_SIZE) {
+			return resourcePath;
+		}
+		return resourcePath + "@" + (int) size.getWidth() + "x" + (int) size.getHeight() + (smooth ? "" : " nearest");
+	}
+
+	/**
+	 * Decodes an image from the classpath.
+	 *
+	 * @param resourcePath The absolute classpath location of the image.
+	 * @param size The size to decode at, or {@link #SOURCE_SIZE}.
+	 * @param smooth Whether to smooth the image while scaling it.
+	 * @return The decoded image.
+	 */
+	private static Image decode(String resourcePath, Dimension2D size, boolean smooth) {
+		return new Image(ImageLoader.class.getResource(resourcePath).toExternalForm(), size.getWidth(),
+				size.getHeight(), false, smooth, false);
+	}
+
+	/**
+	 * Decodes an image from the classpath without adding it to the cache, for images that are only needed
+	 * once, such as the sprites copied into the atlas.
+	 *
+	 * @param resourcePath The absolute classpath location of the image.
+	 * @param size The size to decode at.
+	 * @param smooth Whether to smooth the image while scaling it.
+	 * @return The decoded image.
+	 * @throws IllegalArgumentException If the resource does not exist.
+	 */
+	static Image decodeUncached(String resourcePath, Dimension2D size, boolean smooth) {
+		if (ImageLoader.class.getResource(resourcePath) == null) {
+			throw new IllegalArgumentException("Image not found: " + resourcePath);
+		}
+		return decode(resourcePath, size, smooth);
+	}
+
+	/**
+	 * Gets the pixel dimensions of the source file of the image at the given resource path. An image cached at
+	 * its source size is measured directly; otherwise the size is read from the PNG or JPEG header without
+	 * decoding the image. Results are remembered, so each image is only measured once.
+	 *
+	 * @param resourcePath The absolute classpath location of the image.
+	 * @return The width and height of the image in pixels.
+	 * @throws IllegalArgumentException If the image is not cached and the resource does not exist or is
+	 *                                  neither a PNG nor a JPEG image.
+	 */
+	public static Dimension2D getImageSize(String resourcePath) {
+		return IMAGE_SIZES.computeIfAbsent(resourcePath, ImageLoader::measure);
+	}
+
+	/**
+	 * Measures an image, preferring the cached copy over reading its header.
+	 *
+	 * @param resourcePath The absolute classpath location of the image.
+	 * @return The width and height of the image in pixels.
+	 */
+	private static Dimension2D measure(String resourcePath) {
+		Image image = IMAGES.get(resourcePath);
+		if (image != null) {
+			return new Dimension2D(image.getWidth(), image.getHeight());
+		}
+		return readHeaderSize(resourcePath);
+	}
+
+	/**
+	 * Reads the width and height of a PNG or JPEG image from its header.
+	 *
+	 * @param resourcePath The absolute classpath location of the image.
+	 * @return The width and height of the image in pixels.
+	 */
+	private static Dimension2D readHeaderSize(String resourcePath) {
+		try (InputStream stream = ImageLoader.class.getResourceAsStream(resourcePath)) {
+			if (stream == null) {
+				throw new IllegalArgumentException("Image not found: " + resourcePath);
+			}
+			DataInputStream data = new DataInputStream(stream);
+			byte[] signature = new byte[PNG_SIGNATURE.length];
+			data.readFully(signature);
+			if (Arrays.equals(signature, PNG_SIGNATURE)) {
+				data.skipNBytes(IHDR_CHUNK_HEADER_LENGTH);
+				return new Dimension2D(data.readInt(), data.readInt());
+			}
+			if (((signature[0] & 0xFF) << 8 | (signature[1] & 0xFF)) == JPEG_START_OF_IMAGE) {
+				DataInputStream rest = new DataInputStream(new SequenceInputStream(
+						new ByteArrayInputStream(signature, 2, signature.length - 2), stream));
+				return readJpegSize(rest, resourcePath);
+			}
+			throw new IllegalArgumentException("Not a PNG or JPEG image: " + resourcePath);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not read image header: " + resourcePath, e);
+		}
+	}
+
+	/**
+	 * Reads the width and height of a JPEG image from its start-of-frame segment, skipping the segments
+	 * before it.
+	 *
+	 * @param data The image, positioned just after its start-of-image marker.
+	 * @param resourcePath The absolute classpath location of the image, for error messages.
+	 * @return The width and height of the image in pixels.
+	 * @throws IOException If the image cannot be read.
+	 */
+	private static Dimension2D readJpegSize(DataInputStream data, String resourcePath) throws IOException {
+		while (true) {
+			if (data.readUnsignedByte() != JPEG_MARKER_PREFIX) {
+				throw new IllegalArgumentException("Malformed JPEG image: " + resourcePath);
+			}
+			int marker = data.readUnsignedByte();
+			while (marker == JPEG_MARKER_PREFIX) {
+				marker = data.readUnsignedByte();
+			}
+			if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) {
+				continue; // Markers without a segment
+			}
+			int length = data.readUnsignedShort();
+			boolean startOfFrame = marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8
+					&& marker != 0xCC;
+			if (startOfFrame) {
+				data.skipNBytes(1); // Sample precision
+				int height = data.readUnsignedShort();
+				int width = data.readUnsignedShort();
+				return new Dimension2D(width, height);
+			}
+			data.skipNBytes(length - 2);
+		}
+	}
+
+}
@@ -0,0 +1,149 @@
+package com.example.demo.assets;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.geometry.Dimension2D;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+/**
+ * The SpriteAtlas class packs several sprite images into one image, together with an index of where each
+ * sprite ended up.
+ * <p>
+ * A node shows a sprite from the atlas by using the atlas image with the sprite's region as its viewport, so
+ * every sprite in the atlas shares one texture. The sprites are laid out in rows, tallest first: each sprite
+ * goes to the right of the previous one, and a new row is started when the next sprite does not fit in the
+ * maximum width. Sprites are separated by a few transparent pixels so that smoothing at the edge of one
+ * region never picks up its neighbour.
+ * </p>
+ * <p>
+ * Every sprite is packed at the size it is shown at rather than at the size of its source file. The layout
+ * only needs those sizes, so it can be computed without the JavaFX toolkit. Packing decodes each sprite once,
+ * copies its pixels into the atlas and then lets the decoded sprite go.
+ * </p>
+ *
+ * @author Talya
+ */
+public final class SpriteAtlas {
+
+	private static final int PADDING = 2;
+
+	private final Image image;
+	private final Map<String, Rectangle2D> regions;
+
+	/**
+	 * Constructs a SpriteAtlas from a packed image and its region index.
+	 *
+	 * @param image The packed image.
+	 * @param regions The region of every sprite, keyed by resource path.
+	 */
+	private SpriteAtlas(Image image, Map<String, Rectangle2D> regions) {
+		this.image = image;
+		this.regions = Collections.unmodifiableMap(regions);
+	}
+
+	/**
+	 * Lays out the given sprites in rows no wider than the maximum width.
+	 *
+	 * @param sprites The size every sprite is packed at, keyed by its absolute classpath location.
+	 * @param maxWidth The width of the atlas.
+	 * @return The region of every sprite, keyed by resource path, in the order the sprites were given.
+	 * @throws IllegalArgumentException If a sprite is wider than the atlas.
+	 */
+	public static Map<String, Rectangle2D> layout(Map<String, Dimension2D> sprites, int maxWidth) {
+		List<String> tallestFirst = new ArrayList<>(sprites.keySet());
+		tallestFirst.sort(Comparator.comparingDouble((String path) -> sprites.get(path).getHeight()).reversed());
+		Map<String, Rectangle2D> placed = new LinkedHashMap<>();
+		int x = 0;
+		int y = 0;
+		int rowHeight = 0;
+		for (String path : tallestFirst) {
+			Dimension2D size = sprites.get(path);
+			int width = (int) Math.ceil(size.getWidth());
+			int height = (int) Math.ceil(size.getHeight());
+			if (width > maxWidth) {
+				throw new IllegalArgumentException("Sprite " + path + " is " + width
+						+ " pixels wide, wider than the atlas: " + maxWidth);
+			}
+			if (x + width > maxWidth) {
+				x = 0;
+				y += rowHeight + PADDING;
+				rowHeight = 0;
+			}
+			placed.put(path, new Rectangle2D(x, y, width, height));
+			x += width + PADDING;
+			rowHeight = Math.max(rowHeight, height);
+		}
+		Map<String, Rectangle2D> regions = new LinkedHashMap<>();
+		for (String path : sprites.keySet()) {
+			regions.put(path, placed.get(path));
+		}
+		return regions;
+	}
+
+	/**
+	 * Packs the given sprites into a new atlas. The atlas is as tall as the layout needs.
+	 *
+	 * @param sprites The size every sprite is packed at, keyed by its absolute classpath location.
+	 * @param maxWidth The width of the atlas.
+	 * @param smooth Whether to smooth the sprites while scaling them to their packed size.
+	 * @return The atlas.
+	 * @throws IllegalArgumentException If a sprite is wider than the atlas, or cannot be found or decoded.
+	 */
+	public static SpriteAtlas pack(Map<String, Dimension2D> sprites, int maxWidth, boolean smooth) {
+		Map<String, Rectangle2D> regions = layout(sprites, maxWidth);
+		int height = 0;
+		for (Rectangle2D region : regions.values()) {
+			height = Math.max(height, (int) region.getMaxY());
+		}
+		WritableImage atlas = new WritableImage(maxWidth, Math.max(height, 1));
+		PixelWriter writer = atlas.getPixelWriter();
+		for (Map.Entry<String, Rectangle2D> entry : regions.entrySet()) {
+			Rectangle2D region = entry.getValue();
+			Image sprite = ImageLoader.decodeUncached(entry.getKey(),
+					new Dimension2D(region.getWidth(), region.getHeight()), smooth);
+			if (sprite.isError()) {
+				throw new IllegalArgumentException("Could not decode sprite " + entry.getKey(), sprite.getException());
+			}
+			writer.setPixels((int) region.getMinX(), (int) region.getMinY(), (int) region.getWidth(),
+					(int) region.getHeight(), sprite.getPixelReader(), 0, 0);
+		}
+		return new SpriteAtlas(atlas, regions);
+	}
+
+	/**
+	 * Gets the packed image.
+	 *
+	 * @return The atlas image.
+	 */
+	public Image getImage() {
+		return image;
+	}
+
+	/**
+	 * Gets the region a sprite occupies in the atlas.
+	 *
+	 * @param resourcePath The absolute classpath location of the sprite.
+	 * @return The sprite's region, or {@code null} if the sprite is not in the atlas.
+	 */
+	public Rectangle2D getRegion(String resourcePath) {
+		return regions.get(resourcePath);
+	}
+
+	/**
+	 * Gets the index of every sprite in the atlas.
+	 *
+	 * @return A read-only map from resource path to region.
+	 */
+	public Map<String, Rectangle2D> getRegions() {
+		return regions;
+	}
+
+}
@@ -0,0 +1,142 @@
+package com.example.demo.collisions;
+
+import java.util.List;
+
+import com.example.demo.actors.ActiveActor;
+
+/**
+ * The CollisionDetector class finds every overlapping pair between two lists of actors.
+ * <p>
+ * Pairs are reported in exactly the order of a nested scan over both lists, with the second list in the
+ * outer loop, so callers can apply damage in the same order the original brute-force loop did. Small
+ * pairings are scanned directly; larger ones go through a {@link SpatialHashGrid} built over the first list.
+ * </p>
+ *
+ * @author Talya
+ */
+public class CollisionDetector {
+
+	private static final int BRUTE_FORCE_PAIR_LIMIT = 64;
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final SpatialHashGrid grid;
+	private int[] collisions;
+	private int collisionCount;
+
+	/**
+	 * Constructs a CollisionDetector for a playfield of the given size.
+	 *
+	 * @param width The width of the playfield in pixels.
+	 * @param height The height of the playfield in pixels.
+	 * @param cellSize The size of one spatial hash cell in pixels.
+	 */
+	public CollisionDetector(double width, double height, double cellSize) {
+		this.grid = new SpatialHashGrid(width, height, cellSize);
+		this.collisions = new int[INITIAL_CAPACITY * 2];
+	}
+
+	/**
+	 * Finds all overlapping pairs between the two lists.
+	 *
+	 * @param actors1 The first list of actors.
+	 * @param actors2 The second list of actors.
+	 * @return The number of collisions found, which can be read with {@link #getFirstActorIndex(int)}
+	 *         and {@link #getSecondActorIndex(int)}.
+	 */
+	public int findCollisions(List<? extends ActiveActor> actors1, List<? extends ActiveActor> actors2) {
+		if ((long) actors1.size() * actors2.size() <= BRUTE_FORCE_PAIR_LIMIT) {
+			collisions = scanAllPairs(actors1, actors2, collisions);
+			return collisionCount;
+		}
+		collisions = scanGrid(actors1, actors2, collisions);
+		return collisionCount;
+	}
+
+	/**
+	 * Gets the actor from the first list that takes part in a collision.
+	 *
+	 * @param collision The position of the collision, between zero and the count returned by
+	 *                  {@link #findCollisions(List, List)}.
+	 * @return The index of the actor in the first list.
+	 */
+	public int getFirstActorIndex(int collision) {
+		return collisions[collision * 2 + 1];
+	}
+
+	/**
+	 * Gets the actor from the second list that takes part in a collision.
+	 *
+	 * @param collision The position of the collision, between zero and the count returned by
+	 *                  {@link #findCollisions(List, List)}.
+	 * @return The index of the actor in the second list.
+	 */
+	public int getSecondActorIndex(int collision) {
+		return collisions[collision * 2];
+	}
+
+	/**
+	 * Tests every actor of the second list against every actor of the first list.
+	 *
+	 * @param actors1 The first list of actors.
+	 * @param actors2 The second list of actors.
+	 * @param output The array to store the pairs in; it is replaced if it is too small.
+	 * @return The array holding the pairs.
+	 */
+	private int[] scanAllPairs(List<? extends ActiveActor> actors1, List<? extends ActiveActor> actors2, int[] output) {
+		collisionCount = 0;
+		for (int second = 0; second < actors2.size(); second++) {
+			ActiveActor actor = actors2.get(second);
+			for (int first = 0; first < actors1.size(); first++) {
+				if (actor.intersects(actors1.get(first))) {
+					output = addCollision(output, second, first);
+				}
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * Tests every actor of the second list against the actors of the first list that share a grid cell with it.
+	 *
+	 * @param actors1 The first list of actors.
+	 * @param actors2 The second list of actors.
+	 * @param output The array to store the pairs in; it is replaced if it is too small.
+	 * @return The array holding the pairs.
+	 */
+	private int[] scanGrid(List<? extends ActiveActor> actors1, List<? extends ActiveActor> actors2, int[] output) {
+		collisionCount = 0;
+		grid.build(actors1);
+		for (int second = 0; second < actors2.size(); second++) {
+			ActiveActor actor = actors2.get(second);
+			int candidateCount = grid.query(actor);
+			for (int i = 0; i < candidateCount; i++) {
+				int first = grid.getCandidate(i);
+				if (actor.intersects(actors1.get(first))) {
+					output = addCollision(output, second, first);
+				}
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * Appends a pair to the output array, growing it if needed, and counts it.
+	 *
+	 * @param output The array holding the pairs found so far.
+	 * @param second The index of the actor in the second list.
+	 * @param first The index of the actor in the first list.
+	 * @return The array holding the pairs.
+	 */
+	private int[] addCollision(int[] output, int second, int first) {
+		if (output.length < (collisionCount + 1) * 2) {
+			int[] grown = new int[output.length * 2];
+			System.arraycopy(output, 0, grown, 0, output.length);
+			output = grown;
+		}
+		output[collisionCount * 2] = second;
+		output[collisionCount * 2 + 1] = first;
+		collisionCount++;
+		return output;
+	}
+
+}
@@ -0,0 +1,126 @@
+package com.example.demo.collisions;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.example.demo.actors.ActiveActorDestructible;
+
+/**
+ * The OffScreenCuller class retires actors that have completely left the playfield.
+ * <p>
+ * A culled actor is destroyed, so the level removes it from the scene and recycles it together with the
+ * actors destroyed in collisions. Without this, shots that miss keep flying forever, and every one of them
+ * is updated and collision-checked on every tick for the rest of the level.
+ * </p>
+ * <p>
+ * The number of culled actors is counted per actor type, which makes it easy to check in a long headless
+ * run that missed shots really are being retired. A level only ever culls a handful of types, so each one
+ * gets a slot in a plain {@code long} array the first time it is culled; type names are only looked up when
+ * the counts are read.
+ * </p>
+ *
+ * @author Talya
+ */
+public class OffScreenCuller {
+
+	private static final int INITIAL_TYPE_CAPACITY = 4;
+
+	private final double width;
+	private final double height;
+	private Class<?>[] culledTypes;
+	private long[] culledCounts;
+	private int typeCount;
+
+	/**
+	 * Constructs an OffScreenCuller for a playfield of the given size.
+	 *
+	 * @param width The width of the playfield in pixels.
+	 * @param height The height of the playfield in pixels.
+	 */
+	public OffScreenCuller(double width, double height) {
+		this.width = width;
+		this.height = height;
+		this.culledTypes = new Class<?>[INITIAL_TYPE_CAPACITY];
+		this.culledCounts = new long[INITIAL_TYPE_CAPACITY];
+	}
+
+	/**
+	 * Destroys every actor in the list that lies entirely outside the playfield. Actors that are already
+	 * destroyed are left alone and not counted.
+	 *
+	 * @param actors The actors to check.
+	 * @return The number of actors culled.
+	 */
+	public int cull(List<? extends ActiveActorDestructible> actors) {
+		int culled = 0;
+		for (ActiveActorDestructible actor : actors) {
+			if (!actor.isDestroyed() && isOffScreen(actor)) {
+				actor.destroy();
+				culledCounts[typeSlot(actor.getClass())]++;
+				culled++;
+			}
+		}
+		return culled;
+	}
+
+	/**
+	 * Finds the counter slot of an actor type, adding one the first time the type is culled.
+	 *
+	 * @param type The class of the culled actor.
+	 * @return The index of the type's counter.
+	 */
+	private int typeSlot(Class<?> type) {
+		for (int i = 0; i < typeCount; i++) {
+			if (culledTypes[i] == type) {
+				return i;
+			}
+		}
+		if (typeCount == culledTypes.length) {
+			culledTypes = Arrays.copyOf(culledTypes, typeCount * 2);
+			culledCounts = Arrays.copyOf(culledCounts, typeCount * 2);
+		}
+		culledTypes[typeCount] = type;
+		return typeCount++;
+	}
+
+	/**
+	 * Checks whether an actor lies entirely outside the playfield. An actor touching an edge is still on screen.
+	 *
+	 * @param actor The actor to check.
+	 * @return {@code true} if no part of the actor is inside the playfield, {@code false} otherwise.
+	 */
+	public boolean isOffScreen(ActiveActorDestructible actor) {
+		return actor.getPositionX() + actor.getWidth() < 0 || actor.getPositionX() > width
+				|| actor.getPositionY() + actor.getHeight() < 0 || actor.getPositionY() > height;
+	}
+
+	/**
+	 * Gets the number of actors culled so far, per actor type.
+	 *
+	 * @return A read-only map of the counts, keyed by simple class name.
+	 */
+	public Map<String, Long> getCulledCounts() {
+		Map<String, Long> counts = new TreeMap<>();
+		for (int i = 0; i < typeCount; i++) {
+			counts.merge(culledTypes[i].getSimpleName(), culledCounts[i], Long::sum);
+		}
+		return Collections.unmodifiableMap(counts);
+	}
+
+	/**
+	 * Gets the total number of actors culled so far.
+	 *
+	 * @return The number of culled actors of all types.
+	 */
+	public long getTotalCulled() {
+		long total = 0;
+		for (int i = 0; i < typeCount; i++) {
+			total += culledCounts[i];
+		}
+		return total;
+	}
+
+}
@@ -0,0 +1,198 @@
+package com.example.demo.collisions;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.example.demo.actors.ActiveActor;
+
+/**
+ * The SpatialHashGrid class is a uniform grid over the playfield that buckets actors by the cells
+ * their bounds cover, so an actor only has to be tested against the actors that share a cell with it.
+ * <p>
+ * The grid is rebuilt from scratch with {@link #build(List)} and then queried with {@link #query(ActiveActor)}.
+ * Actors outside the playfield are clamped into the border cells, which keeps every overlapping pair
+ * in at least one common cell. All storage is reused between builds, so a tick does not allocate once
+ * the arrays have grown to the level's peak actor count.
+ * </p>
+ *
+ * @author Talya
+ */
+public class SpatialHashGrid {
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private final double cellSize;
+	private final int columns;
+	private final int rows;
+	private final int[] cellStart;
+	private final int[] cellFill;
+	private int[] entries;
+	private int[] actorCells;
+	private int[] lastSeenInQuery;
+	private int[] candidates;
+	private int queryStamp;
+
+	/**
+	 * Constructs a SpatialHashGrid covering the given playfield.
+	 *
+	 * @param width The width of the playfield in pixels.
+	 * @param height The height of the playfield in pixels.
+	 * @param cellSize The width and height of one grid cell in pixels.
+	 */
+	public SpatialHashGrid(double width, double height, double cellSize) {
+		this.cellSize = cellSize;
+		this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+		this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+		this.cellStart = new int[columns * rows + 1];
+		this.cellFill = new int[columns * rows];
+		this.entries = new int[INITIAL_CAPACITY];
+		this.actorCells = new int[INITIAL_CAPACITY * 4];
+		this.lastSeenInQuery = new int[INITIAL_CAPACITY];
+		this.candidates = new int[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Rebuilds the grid so that it holds the given actors, identified by their index in the list.
+	 *
+	 * @param actors The actors to insert.
+	 */
+	public void build(List<? extends ActiveActor> actors) {
+		int actorCount = actors.size();
+		ensureActorCapacity(actorCount);
+		Arrays.fill(cellStart, 0);
+
+		int entryCount = 0;
+		for (int i = 0; i < actorCount; i++) {
+			ActiveActor actor = actors.get(i);
+			int base = i * 4;
+			actorCells[base] = column(actor.getPositionX());
+			actorCells[base + 1] = column(actor.getPositionX() + actor.getWidth());
+			actorCells[base + 2] = row(actor.getPositionY());
+			actorCells[base + 3] = row(actor.getPositionY() + actor.getHeight());
+			for (int row = actorCells[base + 2]; row <= actorCells[base + 3]; row++) {
+				for (int column = actorCells[base]; column <= actorCells[base + 1]; column++) {
+					cellStart[row * columns + column + 1]++;
+					entryCount++;
+				}
+			}
+		}
+
+		for (int cell = 0; cell < cellFill.length; cell++) {
+			cellStart[cell + 1] += cellStart[cell];
+			cellFill[cell] = cellStart[cell];
+		}
+		if (entries.length < entryCount) {
+			entries = new int[Math.max(entryCount, entries.length * 2)];
+		}
+
+		for (int i = 0; i < actorCount; i++) {
+			int base = i * 4;
+			for (int row = actorCells[base + 2]; row <= actorCells[base + 3]; row++) {
+				for (int column = actorCells[base]; column <= actorCells[base + 1]; column++) {
+					entries[cellFill[row * columns + column]++] = i;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Finds the actors that share at least one cell with the given actor. Candidates are not guaranteed
+	 * to overlap the actor, but every actor that does overlap it is a candidate. The result is sorted by
+	 * index, so testing the candidates in order visits pairs in the same order as a full scan of the list.
+	 *
+	 * @param actor The actor to look up.
+	 * @return The number of candidates, which can be read with {@link #getCandidate(int)}.
+	 */
+	public int query(ActiveActor actor) {
+		nextQueryStamp();
+		int firstColumn = column(actor.getPositionX());
+		int lastColumn = column(actor.getPositionX() + actor.getWidth());
+		int firstRow = row(actor.getPositionY());
+		int lastRow = row(actor.getPositionY() + actor.getHeight());
+
+		int candidateCount = 0;
+		for (int row = firstRow; row <= lastRow; row++) {
+			for (int column = firstColumn; column <= lastColumn; column++) {
+				int cell = row * columns + column;
+				for (int entry = cellStart[cell]; entry < cellStart[cell + 1]; entry++) {
+					int index = entries[entry];
+					if (lastSeenInQuery[index] != queryStamp) {
+						lastSeenInQuery[index] = queryStamp;
+						candidates[candidateCount++] = index;
+					}
+				}
+			}
+		}
+		Arrays.sort(candidates, 0, candidateCount);
+		return candidateCount;
+	}
+
+	/**
+	 * Gets one of the candidates found by the last {@link #query(ActiveActor)}.
+	 *
+	 * @param i The position of the candidate, between zero and the count returned by the query.
+	 * @return The index of the candidate actor in the list the grid was built from.
+	 */
+	public int getCandidate(int i) {
+		return candidates[i];
+	}
+
+	/**
+	 * Converts an x-coordinate into a grid column, clamped to the playfield.
+	 *
+	 * @param x The x-coordinate.
+	 * @return The grid column.
+	 */
+	private int column(double x) {
+		return clamp((int) Math.floor(x / cellSize), columns);
+	}
+
+	/**
+	 * Converts a y-coordinate into a grid row, clamped to the playfield.
+	 *
+	 * @param y The y-coordinate.
+	 * @return The grid row.
+	 */
+	private int row(double y) {
+		return clamp((int) Math.floor(y / cellSize), rows);
+	}
+
+	/**
+	 * Clamps a cell coordinate to the range {@code [0, limit)}.
+	 *
+	 * @param value The cell coordinate.
+	 * @param limit The number of cells along the axis.
+	 * @return The clamped cell coordinate.
+	 */
+	private static int clamp(int value, int limit) {
+		return value < 0 ? 0 : Math.min(value, limit - 1);
+	}
+
+	/**
+	 * Grows the per-actor arrays so they can hold the given number of actors.
+	 *
+	 * @param actorCount The number of actors about to be inserted.
+	 */
+	private void ensureActorCapacity(int actorCount) {
+		if (lastSeenInQuery.length >= actorCount) {
+			return;
+		}
+		int capacity = Math.max(actorCount, lastSeenInQuery.length * 2);
+		actorCells = new int[capacity * 4];
+		lastSeenInQuery = new int[capacity];
+		candidates = new int[capacity];
+		queryStamp = 0;
+	}
+
+	/**
+	 * Advances the stamp used to skip actors that were already collected by the current query.
+	 */
+	private void nextQueryStamp() {
+		queryStamp++;
+		if (queryStamp == Integer.MAX_VALUE) {
+			Arrays.fill(lastSeenInQuery, 0);
+			queryStamp = 1;
+		}
+	}
+
+}
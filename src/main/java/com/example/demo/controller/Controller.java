@@ -1,96 +1,111 @@
 package com.example.demo.controller;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.Observable;
-import java.util.Observer;
-
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.stage.Stage;
+import com.example.demo.LevelFactory;
 import com.example.demo.LevelParent;
+import com.example.demo.LevelRegistry;
+import com.example.demo.events.LevelTransitionEvent;
 
 /**
  * The Controller class manages the flow of the game by navigating between different game levels.
- * It listens for updates from the game levels and transitions between them when required.
+ * It listens for {@link LevelTransitionEvent}s on each level's event bus and transitions between levels when required.
  *
- * The class utilizes Java reflection to dynamically load and initialize game levels.
+ * Levels are created through the {@link LevelRegistry}, which is checked for missing levels when the controller
+ * is constructed. While a level is played, the level that follows it is built in the background by a
+ * {@link LevelPreloader}, so moving on only has to swap in its scene. The game starts with LevelOne unless
+ * another registered level is named with {@code -Dskybattle.startLevel}, such as
+ * {@code com.example.demo.levels.StressTestLevel}.
  *
  * @author Talya
  */
-public class Controller implements Observer {
+public class Controller {
 
 	private static final String LEVEL_ONE_CLASS_NAME = "com.example.demo.levels.LevelOne";
+	private static final String START_LEVEL_PROPERTY = "skybattle.startLevel";
 	private final Stage stage;
+	private final String firstLevelId;
+	private final LevelRegistry registry;
+	private final LevelPreloader preloader;
 
 
 	/**
 	 * Constructs a Controller with the specified Stage.
 	 *
 	 * @param stage The primary stage of the game, used to display the scenes.
+	 * @throws IllegalStateException If the first level, or a level that another level leads to, is not registered.
 	 */
 	public Controller(Stage stage) {
 		this.stage = stage;
+		this.registry = LevelRegistry.getInstance();
+		this.firstLevelId = System.getProperty(START_LEVEL_PROPERTY, LEVEL_ONE_CLASS_NAME);
+		this.registry.validate(firstLevelId);
+		this.preloader = new LevelPreloader();
 	}
 
 	/**
 	 * Starts the game by showing the primary stage and loading the first level.
-	 *
-	 * @throws ClassNotFoundException If the class for the level cannot be found.
-	 * @throws NoSuchMethodException If the constructor for the level cannot be found.
-	 * @throws SecurityException If a security manager denies access to the level class.
-	 * @throws InstantiationException If the level class cannot be instantiated.
-	 * @throws IllegalAccessException If the level constructor is inaccessible.
-	 * @throws IllegalArgumentException If the arguments to the constructor are incorrect.
-	 * @throws InvocationTargetException If the level constructor throws an exception.
 	 */
-	public void launchGame() throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException  {
+	public void launchGame() {
 
 			stage.show();
-			goToLevel(LEVEL_ONE_CLASS_NAME);
+			goToLevel(firstLevelId);
 	}
 
 
 	/**
-	 * Transitions to the specified level by dynamically loading the class using reflection.
+	 * Transitions to the specified level, taking it from the preloader if it was preloaded and otherwise
+	 * creating it through the level registry. The level after it then starts preloading.
 	 *
-	 * @param className The fully qualified name of the class representing the level to load.
-	 * @throws ClassNotFoundException If the specified class cannot be found.
-	 * @throws NoSuchMethodException If the constructor for the level cannot be found.
-	 * @throws SecurityException If a security manager denies access to the level class.
-	 * @throws InstantiationException If the level class cannot be instantiated.
-	 * @throws IllegalAccessException If the level constructor is inaccessible.
-	 * @throws IllegalArgumentException If the arguments to the constructor are incorrect.
-	 * @throws InvocationTargetException If the level constructor throws an exception.
+	 * @param levelId The id of the level to load.
+	 * @throws IllegalArgumentException If no level is registered under the id.
 	 */
-	private void goToLevel(String className) throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
-			Class<?> myClass = Class.forName(className);
-			Constructor<?> constructor = myClass.getConstructor(double.class, double.class, Stage.class);
-			LevelParent myLevel = (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth(), stage);
-			myLevel.addObserver(this);
+	private void goToLevel(String levelId) {
+			LevelFactory factory = registry.get(levelId);
+			LevelParent myLevel = preloader.take(levelId);
+			if (myLevel == null) {
+				myLevel = factory.create(stage.getHeight(), stage.getWidth(), stage);
+			}
+			myLevel.getEventBus().subscribe(LevelTransitionEvent.class, this::onLevelTransition);
 			Scene scene = myLevel.initializeScene();
 
 			stage.setScene(scene);
 			myLevel.startGame();
+			preloadNextLevel(factory);
+
+	}
 
+	/**
+	 * Starts building the level that follows the given one in the background, if there is one.
+	 *
+	 * @param factory The factory of the level that has just started.
+	 */
+	private void preloadNextLevel(LevelFactory factory) {
+		String nextLevel = factory.getNextLevelId();
+		if (nextLevel == null) {
+			return;
+		}
+		LevelFactory nextFactory = registry.get(nextLevel);
+		double height = stage.getHeight();
+		double width = stage.getWidth();
+		preloader.preload(nextLevel, () -> {
+			LevelParent preloaded = nextFactory.create(height, width, stage);
+			preloaded.prepare();
+			return preloaded;
+		});
 	}
 
 	/**
-	 * This method is called when an observable object updates the controller. It transitions to the next level
-	 * based on the information provided in the update.
+	 * This method is called when a level asks to move on. It transitions to the level named in the event.
 	 *
-	 * @param arg0 The observable object that triggered the update.
-	 * @param arg1 The object containing the information for the next level (class name).
+	 * @param event The transition, holding the id of the next level.
 	 */
-	@Override
-	public void update(Observable arg0, Object arg1) {
+	private void onLevelTransition(LevelTransitionEvent event) {
 		try {
-			goToLevel((String) arg1);
-		} catch (ClassNotFoundException | NoSuchMethodException | SecurityException | InstantiationException
-				| IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+			goToLevel(event.getNextLevelClassName());
+		} catch (IllegalArgumentException e) {
 			Alert alert = new Alert(AlertType.ERROR);
 			alert.setContentText(e.getClass().toString());
 			alert.show();
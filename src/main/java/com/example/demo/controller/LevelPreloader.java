@@ -0,0 +1,81 @@
+package com.example.demo.controller;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.example.demo.LevelParent;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+
+/**
+ * The LevelPreloader class builds levels on a background thread before they are needed.
+ * <p>
+ * A preloaded level has been constructed and {@link LevelParent#prepare() prepared}: its images are decoded
+ * and its actors and displays built, but it has no scene and nothing has been started. Handing over to it
+ * therefore only takes wrapping its root in a scene and starting its game loop. Levels are built one at a time
+ * on a single daemon thread.
+ * </p>
+ *
+ * @author Talya
+ */
+class LevelPreloader {
+
+	private static final ExecutorService LOADER = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "level-preloader");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final Map<String, CompletableFuture<LevelParent>> preloaded;
+
+	/**
+	 * Constructs a LevelPreloader with nothing preloaded.
+	 */
+	LevelPreloader() {
+		this.preloaded = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Starts building a level in the background. Nothing happens if the level is already being preloaded.
+	 *
+	 * @param className The fully qualified name of the level's class.
+	 * @param factory Builds and prepares the level; it runs on the preloading thread.
+	 */
+	void preload(String className, Callable<LevelParent> factory) {
+		preloaded.computeIfAbsent(className, key -> CompletableFuture.supplyAsync(() -> {
+			try {
+				LevelParent level = factory.call();
+				GameLog.info(LogCategory.GAME, "Preloaded {}", className);
+				return level;
+			} catch (Exception e) {
+				throw new CompletionException(e);
+			}
+		}, LOADER));
+	}
+
+	/**
+	 * Takes a preloaded level, waiting for it if it is still being built. A level can only be taken once.
+	 *
+	 * @param className The fully qualified name of the level's class.
+	 * @return The prepared level, or {@code null} if it was not preloaded or preloading it failed.
+	 */
+	LevelParent take(String className) {
+		CompletableFuture<LevelParent> level = preloaded.remove(className);
+		if (level == null) {
+			return null;
+		}
+		try {
+			return level.join();
+		} catch (CompletionException | CancellationException e) {
+			GameLog.warn(LogCategory.GAME, "Preloading {} failed: {}", className, e.getCause());
+			return null;
+		}
+	}
+
+}
@@ -1,7 +1,13 @@
 package com.example.demo.controller;
 
-import java.lang.reflect.InvocationTargetException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
+import com.example.demo.assets.ImageLoader;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import com.example.demo.menus.MenuScreen;
+import com.example.demo.menus.ScreenManager;
 import com.example.demo.menus.WelcomeScreen;
 import javafx.application.Application;
 import javafx.stage.Stage;
@@ -20,11 +26,35 @@ public class Main extends Application {
 	private static final int SCREEN_WIDTH = 1300;
 	private static final int SCREEN_HEIGHT = 750;
 	private static final String TITLE = "Sky Battle";
+	private static final String WARM_MENUS_PROPERTY = "skybattle.warmMenus";
+	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+	private static final String[] BACKGROUND_IMAGES = {"bglevel1.jpg", "bglevel2.png"};
+	private static final Map<String, Integer> SPRITE_HEIGHTS = new LinkedHashMap<>();
+	static {
+		// The height every sprite is shown at, so it is packed no larger than it is drawn
+		SPRITE_HEIGHTS.put("userplane1.png", 50);
+		SPRITE_HEIGHTS.put("enemyplane1.png", 30);
+		SPRITE_HEIGHTS.put("bossplane1.png", 100);
+		SPRITE_HEIGHTS.put("userfire.png", 15);
+		SPRITE_HEIGHTS.put("missile1.png", 20);
+		SPRITE_HEIGHTS.put("fireball.png", 50);
+		SPRITE_HEIGHTS.put("shield.png", 100);
+		SPRITE_HEIGHTS.put("heart.png", 50);
+		SPRITE_HEIGHTS.put("powerup.png", 80);
+	}
 	private Controller myController;
 
+	/**
+	 * Constructs the application. JavaFX creates it when {@link #main(String[])} launches the game.
+	 */
+	public Main() {
+	}
+
 	/**
 	 * The start method is called when the JavaFX application is launched. It initializes the WelcomeScreen
-	 * and displays it to the user.
+	 * and displays it to the user, while the gameplay images are decoded and the other menu screens are built
+	 * in the background. Building the menus ahead of time can be turned off with
+	 * {@code -Dskybattle.warmMenus=false}.
 	 *
 	 * @param stage The primary stage of the JavaFX application.
 	 */
@@ -32,9 +62,14 @@ public class Main extends Application {
 	{ try {
 		// Set application name for better macOS compatibility
 		System.setProperty("apple.awt.application.name", TITLE);
+		preloadGameplayImages();
 
 		WelcomeScreen welcomeScreen = new WelcomeScreen();
 		welcomeScreen.start(stage);
+		if (Boolean.parseBoolean(System.getProperty(WARM_MENUS_PROPERTY, "true"))) {
+			ScreenManager.forStage(stage).warm(MenuScreen.HOW_TO_PLAY, MenuScreen.TRANSITION, MenuScreen.GAME_OVER,
+					MenuScreen.YOU_WON);
+		}
 	} catch (Exception e) {
 		e.printStackTrace(); }
 	}
@@ -44,16 +79,10 @@ public class Main extends Application {
 	 * This method transitions to the game's first level.
 	 *
 	 * @param stage The primary stage of the JavaFX application, used for displaying the game scenes.
-	 * @throws ClassNotFoundException If the class for the level cannot be found.
-	 * @throws NoSuchMethodException If the constructor for the level cannot be found.
-	 * @throws SecurityException If a security manager denies access to the level class.
-	 * @throws InstantiationException If the level class cannot be instantiated.
-	 * @throws IllegalAccessException If the level constructor is inaccessible.
-	 * @throws IllegalArgumentException If the arguments to the constructor are incorrect.
-	 * @throws InvocationTargetException If the level constructor throws an exception.
+	 * @throws IllegalStateException If a level the game needs is not registered.
 	 */
-	public void launchGame(Stage stage) throws ClassNotFoundException, NoSuchMethodException, SecurityException, InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
-		System.out.println("launching game...");
+	public void launchGame(Stage stage) {
+		GameLog.info(LogCategory.GAME, "launching game...");
 		stage.setTitle(TITLE);
 		stage.setResizable(false);
 		stage.setHeight(SCREEN_HEIGHT);
@@ -61,6 +90,32 @@ public class Main extends Application {
 		myController = new Controller(stage);
 		myController.launchGame(); }
 
+	/**
+	 * Starts decoding every image used during gameplay in the background, so levels never have to load an
+	 * image from disk while they are running. The backgrounds go into the shared image cache at screen size
+	 * and the sprites are packed into the sprite atlas at the height they are drawn at.
+	 */
+	private static void preloadGameplayImages() {
+		ImageLoader.preload(SCREEN_WIDTH, SCREEN_HEIGHT, resourcePaths(BACKGROUND_IMAGES));
+		Map<String, Integer> spriteHeights = new LinkedHashMap<>();
+		SPRITE_HEIGHTS.forEach((imageName, height) -> spriteHeights.put(IMAGE_LOCATION + imageName, height));
+		ImageLoader.packAtlas(spriteHeights);
+	}
+
+	/**
+	 * Turns image file names into their absolute classpath locations.
+	 *
+	 * @param imageNames The file names, relative to the image directory.
+	 * @return The resource paths.
+	 */
+	private static String[] resourcePaths(String[] imageNames) {
+		String[] resourcePaths = new String[imageNames.length];
+		for (int i = 0; i < imageNames.length; i++) {
+			resourcePaths[i] = IMAGE_LOCATION + imageNames[i];
+		}
+		return resourcePaths;
+	}
+
 	/**
 	 * The main method is the entry point of the Java application.
 	 * It launches the JavaFX application by calling the launch() method.
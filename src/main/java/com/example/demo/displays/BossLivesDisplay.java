@@ -2,72 +2,74 @@ package com.example.demo.displays;
 
 
 import com.example.demo.actors.Boss;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import com.example.demo.events.BossDamagedEvent;
+import com.example.demo.events.EventBus;
 import javafx.scene.Group;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Text;
-import javafx.util.Duration;
 
 /**
  * The BossLivesDisplay class is responsible for displaying the number of lives left for the boss
- * in the game. It periodically updates the display to reflect changes in the boss's health.
+ * in the game. It reflects changes in the boss's health as they happen.
  *
- * This class creates a text display that shows the current number of lives the boss has left,
- * and it is updated at regular intervals based on the boss's health.
+ * This class creates a text display that shows the current number of lives the boss has left. It listens
+ * for {@link BossDamagedEvent}s on the level's event bus and marks itself dirty when the boss's health changes;
+ * the text is only rewritten by {@link #refresh()}, which the level calls once per tick.
  *
  * @author Talya
  */
 public class BossLivesDisplay {
 
-    private static final int UPDATE_INTERVAL_MS = 500;
     private final VBox container;
     private final Text bossLivesText;
-    private final Timeline updateTimeline;
     private final Boss boss;
+    private int bossLives;
+    private boolean dirty;
 
     /**
-     * Constructs a BossLivesDisplay object, initializing the display and setting up the update timeline.
+     * Constructs a BossLivesDisplay object, initializing the display and subscribing to the boss's damage.
      *
      * @param root The root Group of the scene to which this display will be added.
      * @param screenWidth The width of the screen to position the display correctly.
      * @param yPosition The vertical position of the display on the screen.
      * @param boss The boss whose health is being tracked and displayed.
+     * @param eventBus The level's event bus, on which the boss's damage is published.
      */
-    public BossLivesDisplay(Group root, double screenWidth, double yPosition, Boss boss) {
+    public BossLivesDisplay(Group root, double screenWidth, double yPosition, Boss boss, EventBus eventBus) {
         this.boss = boss;
+        this.bossLives = boss.getHealth();
 
         container = new VBox();
         container.setLayoutX(screenWidth - 200);
         container.setLayoutY(yPosition);
 
-        bossLivesText = new Text("Boss Lives Left: " + boss.getHealth());
+        bossLivesText = new Text("Boss Lives Left: " + bossLives);
         bossLivesText.setStyle("-fx-font-size: 24px; -fx-font-weight: bold; -fx-fill: white;");
         container.getChildren().add(bossLivesText);
         root.getChildren().add(container);
 
-        updateTimeline = new Timeline(new KeyFrame(Duration.millis(UPDATE_INTERVAL_MS), event -> updateBossLivesText()));
-        updateTimeline.setCycleCount(Timeline.INDEFINITE);
+        eventBus.subscribe(BossDamagedEvent.class, this::onBossDamaged);
     }
 
     /**
-     * Starts the timeline to update the boss lives display periodically.
+     * Rewrites the displayed number of boss lives if it changed since the last refresh.
      */
-    public void start() {
-        updateTimeline.play();
+    public void refresh() {
+        if (dirty) {
+            dirty = false;
+            bossLivesText.setText("Boss Lives Left: " + bossLives);
+        }
     }
 
     /**
-     * Stops the timeline, halting the periodic updates of the boss lives display.
-     */
-    public void stop() {
-        updateTimeline.stop();
-    }
-
-    /**
-     * Updates the text displayed on the screen with the current number of boss lives left.
+     * Records the boss's new health.
+     *
+     * @param event The hit on the boss.
      */
-    private void updateBossLivesText() {
-        bossLivesText.setText("Boss Lives Left: " + boss.getHealth());
+    private void onBossDamaged(BossDamagedEvent event) {
+        if (event.getBoss() == boss && event.getRemainingHealth() != bossLives) {
+            bossLives = event.getRemainingHealth();
+            dirty = true;
+        }
     }
 }
@@ -1,6 +1,8 @@
 package com.example.demo.displays;
 
-import javafx.scene.image.Image;
+import com.example.demo.assets.ImageLoader;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
@@ -54,7 +56,8 @@ public class HeartDisplay {
 	 */
 	private void initializeHearts() {
 		for (int i = 0; i < numberOfHeartsToDisplay; i++) {
-			ImageView heart = new ImageView(new Image(getClass().getResource(HEART_IMAGE_NAME).toExternalForm()));
+			ImageView heart = new ImageView();
+			ImageLoader.applySprite(heart, HEART_IMAGE_NAME, HEART_HEIGHT);
 
 			heart.setFitHeight(HEART_HEIGHT);
 			heart.setPreserveRatio(true);
@@ -85,7 +88,7 @@ public class HeartDisplay {
 	 * This method is called when the player loses all their hearts.
 	 */
 	public void gameOver() {
-		System.out.println("Game Over! You have lost all your hearts.");
+		GameLog.info(LogCategory.HUD, "Game Over! You have lost all your hearts.");
 	}
 
 }
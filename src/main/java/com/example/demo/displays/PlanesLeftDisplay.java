@@ -1,31 +1,29 @@
 package com.example.demo.displays;
 
-import com.example.demo.actors.UserPlane;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import com.example.demo.events.EnemyKilledEvent;
+import com.example.demo.events.EventBus;
 import javafx.scene.Group;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Text;
-import javafx.util.Duration;
 
 /**
  * The PlanesLeftDisplay class is responsible for displaying the number of remaining enemy planes
  * that the player needs to defeat in the game. This class updates the displayed number in real-time
  * as the player destroys enemy planes.
  *
- * It tracks the number of enemy planes left and updates the display based on the number of kills
- * made by the player. This information is shown on the screen in a visually prominent position.
+ * It listens for {@link EnemyKilledEvent}s on the level's event bus and marks itself dirty when the number
+ * of planes left changes. The text is only rewritten by {@link #refresh()}, which the level calls once per tick,
+ * so it changes in the same tick as the kill and is never touched when nothing changed.
  *
  * @author Talya
  */
 public class PlanesLeftDisplay {
 
-    private static final int UPDATE_INTERVAL_MS = 500; // Update interval in milliseconds
     private final VBox container;
     private final Text planesLeftText;
-    private final Timeline updateTimeline;
-    private final UserPlane user;
     private final int totalEnemies;
+    private int planesLeft;
+    private boolean dirty;
 
     /**
      * Constructs a PlanesLeftDisplay object to initialize the display for showing the number of
@@ -34,12 +32,12 @@ public class PlanesLeftDisplay {
      * @param root The root container (Group) to which this display will be added.
      * @param screenWidth The width of the screen to position the display appropriately.
      * @param yPosition The vertical position on the screen where the display will be placed.
-     * @param user The UserPlane object to track the number of kills.
+     * @param eventBus The level's event bus, on which kills are published.
      * @param totalEnemies The total number of enemy planes to track.
      */
-    public PlanesLeftDisplay(Group root, double screenWidth, double yPosition, UserPlane user, int totalEnemies) {
-        this.user = user;
+    public PlanesLeftDisplay(Group root, double screenWidth, double yPosition, EventBus eventBus, int totalEnemies) {
         this.totalEnemies = totalEnemies;
+        this.planesLeft = totalEnemies;
 
         container = new VBox();
         container.setLayoutX(screenWidth - 200);
@@ -50,30 +48,30 @@ public class PlanesLeftDisplay {
         container.getChildren().add(planesLeftText);
         root.getChildren().add(container);
 
-        updateTimeline = new Timeline(new KeyFrame(Duration.millis(UPDATE_INTERVAL_MS), event -> updatePlanesLeftText()));
-        updateTimeline.setCycleCount(Timeline.INDEFINITE);
+        eventBus.subscribe(EnemyKilledEvent.class, this::onEnemyKilled);
     }
 
     /**
-     * Starts the update timeline, which will update the number of planes left at regular intervals.
+     * Rewrites the displayed number of planes left if it changed since the last refresh.
      */
-    public void start() {
-        updateTimeline.play();
+    public void refresh() {
+        if (dirty) {
+            dirty = false;
+            planesLeftText.setText("Planes Left: " + planesLeft);
+        }
     }
 
     /**
-     * Stops the update timeline, halting the periodic update of the planes left text.
-     */
-    public void stop() {
-        updateTimeline.stop();
-    }
-
-    /**
-     * Updates the displayed number of planes left by calculating the difference between the
-     * total enemies and the number of kills made by the player.
+     * Recalculates the number of planes left as the difference between the total enemies and the
+     * number of kills made by the player.
+     *
+     * @param event The kill.
      */
-    private void updatePlanesLeftText() {
-        int planesLeft = totalEnemies - user.getNumberOfKills();
-        planesLeftText.setText("Planes Left: " + planesLeft);
+    private void onEnemyKilled(EnemyKilledEvent event) {
+        int remaining = totalEnemies - event.getTotalKills();
+        if (remaining != planesLeft) {
+            planesLeft = remaining;
+            dirty = true;
+        }
     }
 }
@@ -0,0 +1,56 @@
+package com.example.demo.events;
+
+import com.example.demo.actors.Boss;
+
+/**
+ * The BossDamagedEvent class is published each time a boss loses health. Hits absorbed by the shield
+ * are not published.
+ * <p>
+ * Each boss publishes the same instance every time, so listeners must not keep it.
+ * </p>
+ *
+ * @author Talya
+ */
+public final class BossDamagedEvent {
+
+	private Boss boss;
+	private int remainingHealth;
+
+	/**
+	 * Constructs an empty BossDamagedEvent, to be filled in each time before it is published.
+	 */
+	public BossDamagedEvent() {
+	}
+
+	/**
+	 * Fills in the event before it is published.
+	 *
+	 * @param boss The boss.
+	 * @param remainingHealth The boss's health after the hit.
+	 * @return This event.
+	 */
+	public BossDamagedEvent set(Boss boss, int remainingHealth) {
+		this.boss = boss;
+		this.remainingHealth = remainingHealth;
+		return this;
+	}
+
+	/**
+	 * Gets the boss that was hit.
+	 *
+	 * @return The boss.
+	 */
+	public Boss getBoss() {
+		return boss;
+	}
+
+	/**
+	 * Gets the boss's health after the hit.
+	 *
+	 * @return The remaining health.
+	 */
+	public int getRemainingHealth() {
+		return remainingHealth;
+	}
+
+}
@@ -0,0 +1,55 @@
+package com.example.demo.events;
+
+import com.example.demo.actors.Boss;
+
+/**
+ * The BossShieldEvent class is published each time a boss raises or drops its shield.
+ * <p>
+ * Each boss publishes the same instance every time, so listeners must not keep it.
+ * </p>
+ *
+ * @author Talya
+ */
+public final class BossShieldEvent {
+
+	private Boss boss;
+	private boolean shielded;
+
+	/**
+	 * Constructs an empty BossShieldEvent, to be filled in each time before it is published.
+	 */
+	public BossShieldEvent() {
+	}
+
+	/**
+	 * Fills in the event before it is published.
+	 *
+	 * @param boss The boss.
+	 * @param shielded {@code true} if the shield went up, {@code false} if it went down.
+	 * @return This event.
+	 */
+	public BossShieldEvent set(Boss boss, boolean shielded) {
+		this.boss = boss;
+		this.shielded = shielded;
+		return this;
+	}
+
+	/**
+	 * Gets the boss whose shield changed.
+	 *
+	 * @return The boss.
+	 */
+	public Boss getBoss() {
+		return boss;
+	}
+
+	/**
+	 * Checks whether the shield went up or down.
+	 *
+	 * @return {@code true} if the shield is now up, {@code false} if it is down.
+	 */
+	public boolean isShielded() {
+		return shielded;
+	}
+
+}
@@ -0,0 +1,41 @@
+package com.example.demo.events;
+
+/**
+ * The EnemyKilledEvent class is published each time the user's kill count goes up.
+ * <p>
+ * The level publishes the same instance for every kill, so listeners must not keep it.
+ * </p>
+ *
+ * @author Talya
+ */
+public final class EnemyKilledEvent {
+
+	private int totalKills;
+
+	/**
+	 * Constructs an empty EnemyKilledEvent, to be filled in each time before it is published.
+	 */
+	public EnemyKilledEvent() {
+	}
+
+	/**
+	 * Fills in the event before it is published.
+	 *
+	 * @param totalKills The user's kill count, including this kill.
+	 * @return This event.
+	 */
+	public EnemyKilledEvent set(int totalKills) {
+		this.totalKills = totalKills;
+		return this;
+	}
+
+	/**
+	 * Gets the user's kill count.
+	 *
+	 * @return The number of kills, including this one.
+	 */
+	public int getTotalKills() {
+		return totalKills;
+	}
+
+}
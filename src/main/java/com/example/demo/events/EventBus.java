@@ -0,0 +1,133 @@
+package com.example.demo.events;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+
+/**
+ * The EventBus class delivers typed events from the game to any number of listeners.
+ * <p>
+ * Listeners subscribe to one event class and receive events of exactly that class. The listeners of each class
+ * are kept in an array that is replaced, never modified, when a listener subscribes or unsubscribes, using a
+ * compare-and-set. Publishing reads the current array and calls each listener in subscription order. It takes
+ * no lock and allocates nothing, so events can be published from every tick. Listeners may subscribe and
+ * unsubscribe from any thread, including from inside a listener; the change applies from the next publish.
+ * </p>
+ * <p>
+ * Listeners run on the publishing thread, which for gameplay events is the thread that runs the level.
+ * A listener that throws is logged and skipped, and the remaining listeners still receive the event.
+ * </p>
+ *
+ * @author Talya
+ */
+public class EventBus {
+
+	private static final GameEventListener<?>[] NO_LISTENERS = new GameEventListener<?>[0];
+
+	private final Map<Class<?>, AtomicReference<GameEventListener<?>[]>> listeners;
+
+	/**
+	 * Constructs an EventBus with no listeners.
+	 */
+	public EventBus() {
+		this.listeners = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Adds a listener for one class of event.
+	 *
+	 * @param type The class of event to receive.
+	 * @param listener The listener.
+	 * @param <E> The type of event.
+	 */
+	public <E> void subscribe(Class<E> type, GameEventListener<? super E> listener) {
+		AtomicReference<GameEventListener<?>[]> current =
+				listeners.computeIfAbsent(type, key -> new AtomicReference<>(NO_LISTENERS));
+		GameEventListener<?>[] before;
+		GameEventListener<?>[] after;
+		do {
+			before = current.get();
+			after = Arrays.copyOf(before, before.length + 1);
+			after[before.length] = listener;
+		} while (!current.compareAndSet(before, after));
+	}
+
+	/**
+	 * Removes a listener that was added with {@link #subscribe(Class, GameEventListener)}.
+	 * Nothing happens if the listener is not subscribed to the class.
+	 *
+	 * @param type The class of event the listener was subscribed to.
+	 * @param listener The listener.
+	 */
+	public void unsubscribe(Class<?> type, GameEventListener<?> listener) {
+		AtomicReference<GameEventListener<?>[]> current = listeners.get(type);
+		if (current == null) {
+			return;
+		}
+		GameEventListener<?>[] before;
+		GameEventListener<?>[] after;
+		do {
+			before = current.get();
+			int index = indexOf(before, listener);
+			if (index < 0) {
+				return;
+			}
+			after = new GameEventListener<?>[before.length - 1];
+			System.arraycopy(before, 0, after, 0, index);
+			System.arraycopy(before, index + 1, after, index, after.length - index);
+		} while (!current.compareAndSet(before, after));
+	}
+
+	/**
+	 * Delivers an event to every listener subscribed to its class.
+	 *
+	 * @param event The event.
+	 * @param <E> The type of event.
+	 */
+	@SuppressWarnings("unchecked")
+	public <E> void publish(E event) {
+		AtomicReference<GameEventListener<?>[]> current = listeners.get(event.getClass());
+		if (current == null) {
+			return;
+		}
+		for (GameEventListener<?> listener : current.get()) {
+			try {
+				((GameEventListener<E>) listener).onEvent(event);
+			} catch (RuntimeException e) {
+				GameLog.error(LogCategory.GAME, "Listener for {} failed: {}", event.getClass().getSimpleName(), e);
+			}
+		}
+	}
+
+	/**
+	 * Checks whether anything listens to a class of event, so a publisher can skip preparing events nobody receives.
+	 *
+	 * @param type The class of event.
+	 * @return {@code true} if at least one listener is subscribed to the class.
+	 */
+	public boolean hasListeners(Class<?> type) {
+		AtomicReference<GameEventListener<?>[]> current = listeners.get(type);
+		return current != null && current.get().length > 0;
+	}
+
+	/**
+	 * Finds a listener in an array.
+	 *
+	 * @param array The listeners.
+	 * @param listener The listener to find.
+	 * @return The listener's index, or -1 if it is not in the array.
+	 */
+	private static int indexOf(GameEventListener<?>[] array, GameEventListener<?> listener) {
+		for (int i = 0; i < array.length; i++) {
+			if (array[i] == listener) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+}
@@ -0,0 +1,20 @@
+package com.example.demo.events;
+
+/**
+ * The GameEventListener interface receives one type of event from an {@link EventBus}.
+ *
+ * @param <E> The type of event the listener receives.
+ * @author Talya
+ */
+@FunctionalInterface
+public interface GameEventListener<E> {
+
+	/**
+	 * Handles an event. The event object may be reused by its publisher once this method returns,
+	 * so a listener that needs the event's values later must copy them.
+	 *
+	 * @param event The event.
+	 */
+	void onEvent(E event);
+
+}
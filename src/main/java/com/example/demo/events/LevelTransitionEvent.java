@@ -0,0 +1,30 @@
+package com.example.demo.events;
+
+/**
+ * The LevelTransitionEvent class is published when a level asks to move on to another level.
+ *
+ * @author Talya
+ */
+public final class LevelTransitionEvent {
+
+	private final String nextLevelClassName;
+
+	/**
+	 * Constructs a LevelTransitionEvent.
+	 *
+	 * @param nextLevelClassName The fully qualified name of the class of the level to move on to.
+	 */
+	public LevelTransitionEvent(String nextLevelClassName) {
+		this.nextLevelClassName = nextLevelClassName;
+	}
+
+	/**
+	 * Gets the level to move on to.
+	 *
+	 * @return The fully qualified name of the level's class.
+	 */
+	public String getNextLevelClassName() {
+		return nextLevelClassName;
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.example.demo.events;
+
+/**
+ * The PlayerHitEvent class is published each time the user plane takes damage, whether from a projectile,
+ * a collision or an enemy getting past it.
+ * <p>
+ * The level publishes the same instance for every hit, so listeners must not keep it.
+ * </p>
+ *
+ * @author Talya
+ */
+public final class PlayerHitEvent {
+
+	private int remainingHealth;
+
+	/**
+	 * Constructs an empty PlayerHitEvent, to be filled in each time before it is published.
+	 */
+	public PlayerHitEvent() {
+	}
+
+	/**
+	 * Fills in the event before it is published.
+	 *
+	 * @param remainingHealth The user's health after the hit.
+	 * @return This event.
+	 */
+	public PlayerHitEvent set(int remainingHealth) {
+		this.remainingHealth = remainingHealth;
+		return this;
+	}
+
+	/**
+	 * Gets the user's health after the hit.
+	 *
+	 * @return The remaining health.
+	 */
+	public int getRemainingHealth() {
+		return remainingHealth;
+	}
+
+}
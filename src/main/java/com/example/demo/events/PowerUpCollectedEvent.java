@@ -0,0 +1,43 @@
+package com.example.demo.events;
+
+import com.example.demo.actors.PowerUp;
+
+/**
+ * The PowerUpCollectedEvent class is published when the user plane picks up a power-up.
+ * <p>
+ * Publishers may reuse the instance, so listeners must not keep it.
+ * </p>
+ *
+ * @author Talya
+ */
+public final class PowerUpCollectedEvent {
+
+	private PowerUp powerUp;
+
+	/**
+	 * Constructs an empty PowerUpCollectedEvent, to be filled in each time before it is published.
+	 */
+	public PowerUpCollectedEvent() {
+	}
+
+	/**
+	 * Fills in the event before it is published.
+	 *
+	 * @param powerUp The power-up that was collected.
+	 * @return This event.
+	 */
+	public PowerUpCollectedEvent set(PowerUp powerUp) {
+		this.powerUp = powerUp;
+		return this;
+	}
+
+	/**
+	 * Gets the power-up that was collected.
+	 *
+	 * @return The power-up.
+	 */
+	public PowerUp getPowerUp() {
+		return powerUp;
+	}
+
+}
@@ -0,0 +1,55 @@
+package com.example.demo.events;
+
+import com.example.demo.actors.ActiveActorDestructible;
+
+/**
+ * The ProjectileFiredEvent class is published each time a projectile enters the level.
+ * <p>
+ * The level publishes the same instance for every shot, so listeners must not keep it.
+ * </p>
+ *
+ * @author Talya
+ */
+public final class ProjectileFiredEvent {
+
+	private ActiveActorDestructible projectile;
+	private boolean friendly;
+
+	/**
+	 * Constructs an empty ProjectileFiredEvent, to be filled in each time before it is published.
+	 */
+	public ProjectileFiredEvent() {
+	}
+
+	/**
+	 * Fills in the event before it is published.
+	 *
+	 * @param projectile The projectile that was fired.
+	 * @param friendly {@code true} if the user's side fired it, {@code false} if an enemy did.
+	 * @return This event.
+	 */
+	public ProjectileFiredEvent set(ActiveActorDestructible projectile, boolean friendly) {
+		this.projectile = projectile;
+		this.friendly = friendly;
+		return this;
+	}
+
+	/**
+	 * Gets the projectile that was fired.
+	 *
+	 * @return The projectile.
+	 */
+	public ActiveActorDestructible getProjectile() {
+		return projectile;
+	}
+
+	/**
+	 * Checks which side fired the projectile.
+	 *
+	 * @return {@code true} if the user's side fired it, {@code false} if an enemy did.
+	 */
+	public boolean isFriendly() {
+		return friendly;
+	}
+
+}
@@ -1,9 +1,15 @@
 package com.example.demo.levels;
 
+import java.util.random.RandomGenerator;
+
 import com.example.demo.actors.EnemyPlane;
 import com.example.demo.LevelParent;
+import com.example.demo.SceneLayer;
 import com.example.demo.actors.ActiveActorDestructible;
-import com.example.demo.menus.TransitionScreen;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import com.example.demo.menus.ScreenManager;
+import com.example.demo.random.RandomStream;
 import javafx.stage.Stage;
 
 /**
@@ -20,10 +26,10 @@ import javafx.stage.Stage;
 public class LevelOne extends LevelParent {
 	
 	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/bglevel1.jpg";
-	private static final String NEXT_LEVEL = "com.example.demo.levels.LevelTwo";
+	static final String NEXT_LEVEL = "com.example.demo.levels.LevelTwo";
 	private static final int TOTAL_ENEMIES = 10;
 	private static final int KILLS_TO_ADVANCE = 10;
-	private static final double ENEMY_SPAWN_PROBABILITY = .20;
+	private static final double ENEMY_SPAWN_RATE = 4.0; // Spawn chances per second for each free enemy slot
 	private static final int PLAYER_INITIAL_HEALTH = 5;
 	private boolean checkLevelTransition = false;
 	private final Stage primaryStage;
@@ -60,7 +66,7 @@ public class LevelOne extends LevelParent {
 		}
 		else if (userHasReachedKillTarget() && !checkLevelTransition){//d
 			checkLevelTransition = true;//d
-			System.out.println("level 1 complete");//d
+			GameLog.info(LogCategory.LEVEL, "level 1 complete");//d
 			goToTransitionScreen();
 		}
 
@@ -72,21 +78,23 @@ public class LevelOne extends LevelParent {
 	@Override
 	protected void initializeFriendlyUnits() {
 
-		getRoot().getChildren().add(getUser());
+		addActorToScene(SceneLayer.FRIENDLIES, getUser());
 
 	}
 
 
 	/**
-	 * Spawns enemy units at random positions based on the defined spawn probability.
+	 * Spawns enemy units at random positions based on the defined spawn rate.
 	 * The number of enemies spawned is based on the total number of enemies required.
 	 */
 	@Override
 	protected void spawnEnemyUnits() {
 		int currentNumberOfEnemies = getCurrentNumberOfEnemies();
+		double spawnProbability = ENEMY_SPAWN_RATE * getStepSeconds();
+		RandomGenerator spawnRandom = getRandom().stream(RandomStream.SPAWNING);
 		for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-			if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
-				double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
+			if (spawnRandom.nextDouble() < spawnProbability) {
+				double newEnemyInitialYPosition = spawnRandom.nextDouble() * getEnemyMaximumYPosition();
 				ActiveActorDestructible newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
 				addEnemyUnit(newEnemy);
 			}
@@ -100,16 +108,20 @@ public class LevelOne extends LevelParent {
 	 */
 	@Override
 	protected LevelView instantiateLevelView() {
-		return new LevelView(getRoot(), PLAYER_INITIAL_HEALTH);
+		return new LevelView(getLayer(SceneLayer.HUD), PLAYER_INITIAL_HEALTH);
 	}
 
 	/**
 	 * Displays the transition screen when the player completes the level.
 	 * This screen gives the player a chance to proceed to the next level.
+	 * In headless mode the level is only marked as completed.
 	 */
 	private void goToTransitionScreen() {
-		TransitionScreen transitionScreen = new TransitionScreen(primaryStage);
-		transitionScreen.display();
+		completeLevel();
+		if (isHeadless()) {
+			return;
+		}
+		ScreenManager.forStage(primaryStage).showTransition(() -> goToNextLevel(NEXT_LEVEL));
 	}
 
 	/**
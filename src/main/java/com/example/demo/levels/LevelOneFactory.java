@@ -0,0 +1,35 @@
+package com.example.demo.levels;
+
+import com.example.demo.LevelFactory;
+import com.example.demo.LevelParent;
+import javafx.stage.Stage;
+
+/**
+ * The LevelOneFactory class registers {@link LevelOne} with the level registry.
+ *
+ * @author Talya
+ */
+public class LevelOneFactory implements LevelFactory {
+
+	/**
+	 * Constructs a LevelOneFactory. The level registry creates one through {@link java.util.ServiceLoader}.
+	 */
+	public LevelOneFactory() {
+	}
+
+	@Override
+	public String getId() {
+		return LevelOne.class.getName();
+	}
+
+	@Override
+	public String getNextLevelId() {
+		return LevelOne.NEXT_LEVEL;
+	}
+
+	@Override
+	public LevelParent create(double screenHeight, double screenWidth, Stage stage) {
+		return new LevelOne(screenHeight, screenWidth, stage);
+	}
+
+}
@@ -1,34 +1,41 @@
 package com.example.demo.levels;
 
 import com.example.demo.LevelParent;
-import com.example.demo.actors.PowerUp;
+import com.example.demo.SceneLayer;
 import com.example.demo.actors.Boss;
+import com.example.demo.actors.PowerUpType;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import com.example.demo.logging.LogLevel;
+import com.example.demo.random.RandomStream;
 import javafx.stage.Stage;
-import javafx.scene.Scene; // Import Scene class
 
 /**
  * The LevelTwo class represents the second level of the game. This level introduces a boss fight,
- * where the player must defeat a boss while maintaining their health. It also includes the spawning
- * of a power-up to assist the player. The game is won if the boss is destroyed, and it is lost if
- * the player is destroyed.
+ * where the player must defeat a boss while maintaining their health. A wingman power-up is handed out
+ * at the start, and a barrier power-up that clears the boss's fireballs every
+ * {@value #BARRIER_INTERVAL_SECONDS} seconds after that. The game is won if the boss is destroyed,
+ * and it is lost if the player is destroyed.
  *
  * This class extends {@link LevelParent} and overrides several methods to initialize the boss,
  * power-ups, and handle level completion conditions.
  *
  * @author Talya
  */
-public class LevelTwo extends LevelParent {
+public final class LevelTwo extends LevelParent {
 
 	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/bglevel2.png";
 	private static final int PLAYER_INITIAL_HEALTH = 5;
+	private static final double POWER_UP_X_POSITION = 800.0;
+	private static final double POWER_UP_Y_POSITION = 300.0;
+	private static final double BARRIER_INTERVAL_SECONDS = 20.0;
 	private final Boss boss;
 	private LevelViewLevelTwo levelView;
 	private final Stage primaryStage;
-	private PowerUp powerUp; // Add PowerUp field
 
 	/**
 	 * Constructs a LevelTwo object, initializing the background, the player’s initial health, and
-	 * the boss.
+	 * the boss, and scheduling the level's power-ups.
 	 *
 	 * @param screenHeight The height of the screen for layout purposes.
 	 * @param screenWidth The width of the screen for layout purposes.
@@ -37,19 +44,22 @@ public class LevelTwo extends LevelParent {
 	public LevelTwo(double screenHeight, double screenWidth, Stage primaryStage) {
 		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
 		this.primaryStage = primaryStage;
-		boss = new Boss();
-		System.out.println("LevelTwo initialized with user health: " + getUser().getHealth());
+		boss = new Boss(getRandom().stream(RandomStream.BOSS_MOVEMENT), getEventBus());
+		spawnPowerUp(PowerUpType.WINGMAN, POWER_UP_X_POSITION, POWER_UP_Y_POSITION);
+		getScheduler().schedule("barrier power-up", 1 / BARRIER_INTERVAL_SECONDS,
+				() -> spawnPowerUp(PowerUpType.BARRIER, POWER_UP_X_POSITION, POWER_UP_Y_POSITION));
+		GameLog.debug(LogCategory.LEVEL, "LevelTwo initialized with user health: {}", getUser().getHealth());
 	}
 
 	/**
 	 * Initializes the friendly units in the level, including adding the user-controlled plane and
-	 * the boss's shield to the root container.
+	 * the boss's shield to their scene layers.
 	 */
 	@Override
 	protected void initializeFriendlyUnits() {
-		getRoot().getChildren().add(getUser());
-		System.out.println("Friendly units initialized in LevelTwo.");
-		getRoot().getChildren().add(boss.getShieldImage());//d
+		addActorToScene(SceneLayer.FRIENDLIES, getUser());
+		GameLog.debug(LogCategory.LEVEL, "Friendly units initialized in LevelTwo.");
+		getLayer(SceneLayer.EFFECTS).getChildren().add(boss.getShieldImage());//d
 	}
 
 	/**
@@ -67,15 +77,16 @@ public class LevelTwo extends LevelParent {
 	 */
 	@Override
 	protected void checkIfGameOver() {
-		System.out.println("Checking if game is over...");
-		System.out.println("User health: " + getUser().getHealth());
-		System.out.println("Boss health: " + boss.getHealth());
+		if (GameLog.isEnabled(LogCategory.LEVEL, LogLevel.TRACE)) {
+			GameLog.trace(LogCategory.LEVEL, "Checking if game is over... User health: {}, boss health: {}",
+					getUser().getHealth(), boss.getHealth());
+		}
 
 		if (userIsDestroyed()) {
-			System.out.println("User is destroyed, losing game.");
+			GameLog.info(LogCategory.LEVEL, "User is destroyed, losing game.");
 			loseGame(primaryStage);
 		} else if (boss.isDestroyed()) {
-			System.out.println("Boss is destroyed, winning game.");
+			GameLog.info(LogCategory.LEVEL, "Boss is destroyed, winning game.");
 			winGame(primaryStage);
 		}
 	}
@@ -88,46 +99,32 @@ public class LevelTwo extends LevelParent {
 	protected void spawnEnemyUnits() {
 		if (getCurrentNumberOfEnemies() == 0) {
 			addEnemyUnit(boss);
-			System.out.println("Boss added to the game.");
+			GameLog.info(LogCategory.LEVEL, "Boss added to the game.");
 		}
 	}
 
 	/**
-	 * Instantiates the level view, which represents the visual elements of the level. It also shows
-	 * the boss's shield.
+	 * Moves the boss's shield to where the boss is drawn in this frame.
 	 *
-	 * @return The instantiated level view.
+	 * @param alpha How far the display is into the next tick, from 0 to 1.
 	 */
 	@Override
-	protected LevelView instantiateLevelView() {
-		levelView = new LevelViewLevelTwo(getRoot(), PLAYER_INITIAL_HEALTH);
-		levelView.showShield();//d
-		System.out.println("LevelViewLevelTwo instantiated.");
-		return levelView;
+	protected void renderEffects(double alpha) {
+		boss.renderShield(alpha);
 	}
 
 	/**
-	 * Spawns a power-up in the level. This power-up helps the player by providing boosts or benefits
-	 * during the game.
-	 */
-	// Add method to spawn power-up
-	private void spawnPowerUp() {
-		powerUp = new PowerUp(this);
-		getRoot().getChildren().add(powerUp);
-	}
-
-	/**
-	 * Initializes the scene for the level, including the spawning of the power-up. This method is
-	 * overridden to ensure that the power-up is part of the scene from the start.
+	 * Instantiates the level view, which represents the visual elements of the level. It also shows
+	 * the boss's shield.
 	 *
-	 * @return The initialized scene with the power-up.
+	 * @return The instantiated level view.
 	 */
-	// Override initializeScene to include power-up initialization
 	@Override
-	public Scene initializeScene() {
-		Scene scene = super.initializeScene();
-		spawnPowerUp();
-		return scene;
+	protected LevelView instantiateLevelView() {
+		levelView = new LevelViewLevelTwo(getLayer(SceneLayer.HUD), PLAYER_INITIAL_HEALTH);
+		levelView.showShield();//d
+		GameLog.debug(LogCategory.LEVEL, "LevelViewLevelTwo instantiated.");
+		return levelView;
 	}
 
 }
@@ -0,0 +1,30 @@
+package com.example.demo.levels;
+
+import com.example.demo.LevelFactory;
+import com.example.demo.LevelParent;
+import javafx.stage.Stage;
+
+/**
+ * The LevelTwoFactory class registers {@link LevelTwo} with the level registry.
+ *
+ * @author Talya
+ */
+public class LevelTwoFactory implements LevelFactory {
+
+	/**
+	 * Constructs a LevelTwoFactory. The level registry creates one through {@link java.util.ServiceLoader}.
+	 */
+	public LevelTwoFactory() {
+	}
+
+	@Override
+	public String getId() {
+		return LevelTwo.class.getName();
+	}
+
+	@Override
+	public LevelParent create(double screenHeight, double screenWidth, Stage stage) {
+		return new LevelTwo(screenHeight, screenWidth, stage);
+	}
+
+}
@@ -1,8 +1,10 @@
 package com.example.demo.levels;
 
 import com.example.demo.displays.HeartDisplay;
-import com.example.demo.menus.GameOverScreen;
-import com.example.demo.menus.YouWonScreen;
+import com.example.demo.events.EventBus;
+import com.example.demo.events.PlayerHitEvent;
+import com.example.demo.menus.MenuScreen;
+import com.example.demo.menus.ScreenManager;
 import javafx.application.Platform;
 import javafx.scene.Group;
 import javafx.stage.Stage;
@@ -13,7 +15,8 @@ import javafx.stage.Stage;
  * screens when necessary.
  *
  * This class works in conjunction with the game level to display relevant information to the player
- * during gameplay.
+ * during gameplay. Once it {@link #listenTo(EventBus) listens to} the level's event bus, hits on the player
+ * mark the hearts dirty, and {@link #refresh()} only touches the heart display when they are.
  *
  * @author Talya
  */
@@ -24,6 +27,8 @@ public class LevelView {
 
 	private final Group root;
 	private final HeartDisplay heartDisplay;
+	private int heartsRemaining;
+	private boolean dirty;
 
 
 	/**
@@ -36,6 +41,38 @@ public class LevelView {
 	public LevelView(Group root, int heartsToDisplay) {
 		this.root = root;
 		this.heartDisplay = new HeartDisplay(HEART_DISPLAY_X_POSITION, HEART_DISPLAY_Y_POSITION, heartsToDisplay);
+		this.heartsRemaining = heartsToDisplay;
+	}
+
+	/**
+	 * Subscribes the heart display to hits on the player.
+	 *
+	 * @param eventBus The level's event bus.
+	 */
+	public void listenTo(EventBus eventBus) {
+		eventBus.subscribe(PlayerHitEvent.class, this::onPlayerHit);
+	}
+
+	/**
+	 * Removes hearts from the heart display if the player's health changed since the last refresh.
+	 */
+	public void refresh() {
+		if (dirty) {
+			dirty = false;
+			removeHearts(heartsRemaining);
+		}
+	}
+
+	/**
+	 * Records the player's health after a hit.
+	 *
+	 * @param event The hit.
+	 */
+	private void onPlayerHit(PlayerHitEvent event) {
+		if (event.getRemainingHealth() != heartsRemaining) {
+			heartsRemaining = event.getRemainingHealth();
+			dirty = true;
+		}
 	}
 
 
@@ -54,12 +91,8 @@ public class LevelView {
 	 * @param stage The stage on which to display the "You Won!" screen.
 	 */
 	public void showYouWonScreen(Stage stage) {
-		Platform.runLater(() -> {
-			YouWonScreen youWonScreen = new YouWonScreen();
-			try { youWonScreen.start(stage);
-			} catch (Exception e) {
-				e.printStackTrace();
-			} }); }
+		Platform.runLater(() -> ScreenManager.forStage(stage).show(MenuScreen.YOU_WON));
+	}
 
 	/**
 	 * Shows the "Game Over" screen when the player loses the game. This screen is displayed asynchronously
@@ -68,15 +101,7 @@ public class LevelView {
 	 * @param stage The stage on which to display the "Game Over" screen.
 	 */
 	public void showGameOverScreen(Stage stage) {
-		Platform.runLater(() -> {
-			GameOverScreen gameOverScreen = new GameOverScreen();
-			try {
-				gameOverScreen.start(stage);
-			}
-			catch (Exception e) {
-				e.printStackTrace();
-			}
-		});
+		Platform.runLater(() -> ScreenManager.forStage(stage).show(MenuScreen.GAME_OVER));
 	}
 
 
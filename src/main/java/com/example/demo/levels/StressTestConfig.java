@@ -0,0 +1,203 @@
+package com.example.demo.levels;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+
+/**
+ * The StressTestConfig class holds the settings of the {@link StressTestLevel}.
+ * <p>
+ * Settings are read from a properties file named with {@code -Dskybattle.stress.config}, if there is one, and
+ * any setting can be overridden with a system property of the same name prefixed with {@code skybattle.stress.},
+ * for example {@code -Dskybattle.stress.maxEnemies=20000}. Settings that are set nowhere keep their defaults:
+ * </p>
+ * <ul>
+ * <li>{@code initialEnemies}, 10: the number of enemies the first ramp step holds.</li>
+ * <li>{@code maxEnemies}, 10000: the ramp stops once it reaches this many enemies.</li>
+ * <li>{@code growthFactor}, 1.5: how much the number of enemies grows from one step to the next.</li>
+ * <li>{@code stepSeconds}, 4: how long each step lasts. Only its second half is measured, after the enemies
+ * have had time to fill their slots.</li>
+ * <li>{@code enemySpawnRate}, 4: spawn chances per second for each free enemy slot.</li>
+ * <li>{@code enemyFireRate}, 0.2: the shots per second of each enemy.</li>
+ * <li>{@code autoFireInterval}, 5: the number of ticks between the user's automatic volleys, or 0 for none.</li>
+ * <li>{@code volleySize}, 1: the number of projectiles in each volley, spread over the height of the screen.</li>
+ * <li>{@code tickThresholdMillis}, 0: the longest a tick may take; 0 means the level's tick interval.</li>
+ * <li>{@code percentile}, 95: the percentile of a step's tick times that must stay under the threshold, above 0
+ * and at most 100.</li>
+ * </ul>
+ *
+ * @author Talya
+ */
+public final class StressTestConfig {
+
+	private static final String CONFIG_FILE_PROPERTY = "skybattle.stress.config";
+	private static final String PROPERTY_PREFIX = "skybattle.stress.";
+
+	private final int initialEnemies;
+	private final int maxEnemies;
+	private final double growthFactor;
+	private final double stepSeconds;
+	private final double enemySpawnRate;
+	private final double enemyFireRate;
+	private final int autoFireInterval;
+	private final int volleySize;
+	private final double tickThresholdMillis;
+	private final double percentile;
+
+	/**
+	 * Constructs a StressTestConfig from a set of settings, using the default for every setting that is missing.
+	 *
+	 * @param settings The settings, keyed by their names without prefix.
+	 * @throws IllegalArgumentException If a setting is not a number or is out of range.
+	 */
+	private StressTestConfig(Properties settings) {
+		this.initialEnemies = Integer.parseInt(settings.getProperty("initialEnemies", "10"));
+		this.maxEnemies = Integer.parseInt(settings.getProperty("maxEnemies", "10000"));
+		this.growthFactor = Double.parseDouble(settings.getProperty("growthFactor", "1.5"));
+		this.stepSeconds = Double.parseDouble(settings.getProperty("stepSeconds", "4"));
+		this.enemySpawnRate = Double.parseDouble(settings.getProperty("enemySpawnRate", "4"));
+		this.enemyFireRate = Double.parseDouble(settings.getProperty("enemyFireRate", "0.2"));
+		this.autoFireInterval = Integer.parseInt(settings.getProperty("autoFireInterval", "5"));
+		this.volleySize = Integer.parseInt(settings.getProperty("volleySize", "1"));
+		this.tickThresholdMillis = Double.parseDouble(settings.getProperty("tickThresholdMillis", "0"));
+		this.percentile = Double.parseDouble(settings.getProperty("percentile", "95"));
+		if (initialEnemies <= 0 || maxEnemies < initialEnemies) {
+			throw new IllegalArgumentException("Enemy counts must satisfy 0 < initialEnemies <= maxEnemies: "
+					+ initialEnemies + ", " + maxEnemies);
+		}
+		if (growthFactor <= 1 || stepSeconds <= 0) {
+			throw new IllegalArgumentException("growthFactor must be above 1 and stepSeconds positive: "
+					+ growthFactor + ", " + stepSeconds);
+		}
+		if (autoFireInterval < 0 || volleySize <= 0) {
+			throw new IllegalArgumentException("autoFireInterval must not be negative and volleySize must be "
+					+ "positive: " + autoFireInterval + ", " + volleySize);
+		}
+		if (!(tickThresholdMillis >= 0) || !(percentile > 0 && percentile <= 100)) {
+			throw new IllegalArgumentException("tickThresholdMillis must not be negative and percentile must be "
+					+ "in (0, 100]: " + tickThresholdMillis + ", " + percentile);
+		}
+	}
+
+	/**
+	 * Reads the configuration from the config file, if one is named, and the system properties.
+	 * A config file that cannot be read is reported in the log and otherwise ignored.
+	 *
+	 * @return The configuration.
+	 * @throws IllegalArgumentException If a setting is not a number or is out of range.
+	 */
+	public static StressTestConfig load() {
+		Properties settings = new Properties();
+		String file = System.getProperty(CONFIG_FILE_PROPERTY);
+		if (file != null) {
+			try (Reader reader = Files.newBufferedReader(Path.of(file))) {
+				settings.load(reader);
+			} catch (IOException e) {
+				GameLog.warn(LogCategory.LEVEL, "Could not read stress test config {}: {}", file, e.getMessage());
+			}
+		}
+		for (String name : System.getProperties().stringPropertyNames()) {
+			if (name.startsWith(PROPERTY_PREFIX) && !name.equals(CONFIG_FILE_PROPERTY)) {
+				settings.setProperty(name.substring(PROPERTY_PREFIX.length()), System.getProperty(name));
+			}
+		}
+		return new StressTestConfig(settings);
+	}
+
+	/**
+	 * Gets the number of enemies the first ramp step holds.
+	 *
+	 * @return The initial enemy count.
+	 */
+	public int getInitialEnemies() {
+		return initialEnemies;
+	}
+
+	/**
+	 * Gets the number of enemies at which the ramp stops.
+	 *
+	 * @return The maximum enemy count.
+	 */
+	public int getMaxEnemies() {
+		return maxEnemies;
+	}
+
+	/**
+	 * Gets how much the number of enemies grows from one step to the next.
+	 *
+	 * @return The growth factor, above 1.
+	 */
+	public double getGrowthFactor() {
+		return growthFactor;
+	}
+
+	/**
+	 * Gets how long each ramp step lasts.
+	 *
+	 * @return The step length, in seconds.
+	 */
+	public double getStepSeconds() {
+		return stepSeconds;
+	}
+
+	/**
+	 * Gets the spawn chances per second for each free enemy slot.
+	 *
+	 * @return The spawn rate.
+	 */
+	public double getEnemySpawnRate() {
+		return enemySpawnRate;
+	}
+
+	/**
+	 * Gets how often each enemy fires.
+	 *
+	 * @return The average number of shots per second.
+	 */
+	public double getEnemyFireRate() {
+		return enemyFireRate;
+	}
+
+	/**
+	 * Gets the number of ticks between the user's automatic volleys.
+	 *
+	 * @return The interval, or zero if the user does not fire automatically.
+	 */
+	public int getAutoFireInterval() {
+		return autoFireInterval;
+	}
+
+	/**
+	 * Gets the number of projectiles in each automatic volley.
+	 *
+	 * @return The volley size.
+	 */
+	public int getVolleySize() {
+		return volleySize;
+	}
+
+	/**
+	 * Gets the longest a tick may take before the load counts as unsustainable.
+	 *
+	 * @param tickIntervalMillis The level's tick interval, used when no threshold is configured.
+	 * @return The threshold, in milliseconds.
+	 */
+	public double getTickThresholdMillis(double tickIntervalMillis) {
+		return tickThresholdMillis > 0 ? tickThresholdMillis : tickIntervalMillis;
+	}
+
+	/**
+	 * Gets the percentile of a step's tick times that is compared with the threshold.
+	 *
+	 * @return The percentile, above 0 and at most 100.
+	 */
+	public double getPercentile() {
+		return percentile;
+	}
+
+}
@@ -0,0 +1,328 @@
+package com.example.demo.levels;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import com.example.demo.LevelParent;
+import com.example.demo.SceneLayer;
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.ActorPool;
+import com.example.demo.actors.EnemyPlane;
+import com.example.demo.actors.EnemyProjectile;
+import com.example.demo.actors.PowerUp;
+import com.example.demo.actors.UserProjectile;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import com.example.demo.menus.MenuScreen;
+import com.example.demo.menus.ScreenManager;
+import com.example.demo.profiling.LatencyHistogram;
+import com.example.demo.random.RandomStream;
+import javafx.stage.Stage;
+
+/**
+ * The StressTestLevel class is a level that ramps its load up until the machine can no longer keep up, to find
+ * out how many actors the game can sustain.
+ * <p>
+ * The level plays like LevelOne, with enemies entering from the right and firing, but the number of enemy
+ * slots grows in steps. Each step lasts a fixed time; the first half lets the enemies fill their slots and
+ * the second half records how long every tick took and how many actors the level held. When the configured
+ * percentile of a step's tick times exceeds the threshold, or the maximum number of enemies is reached, the
+ * level reports every step and the largest sustainable actor count, then completes. The user never loses,
+ * however much damage they take, and can fire automatically in volleys so user projectiles scale as well.
+ * </p>
+ * <p>
+ * Everything is set through {@link StressTestConfig}. The level is played by starting the game with
+ * {@code -Dskybattle.startLevel=com.example.demo.levels.StressTestLevel}, or headlessly through the
+ * {@link com.example.demo.simulation.HeadlessRunner}, which measures the simulation alone.
+ * </p>
+ *
+ * @author Talya
+ */
+public final class StressTestLevel extends LevelParent {
+
+	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/bglevel1.jpg";
+	private static final int PLAYER_INITIAL_HEALTH = 5;
+	private static final double NANOS_PER_MILLI = 1_000_000.0;
+	private static final long NANOS_PER_MICRO = 1_000;
+	private static final String ROW_FORMAT = "%10s %10s %12s %12s%n";
+
+	private final Stage primaryStage;
+	private final StressTestConfig config;
+	private final long thresholdNanos;
+	private final long ticksPerStep;
+	private final LatencyHistogram stepTickTimes;
+	private final List<RampStep> steps;
+	private int targetEnemies;
+	private long stepStartTick;
+	private long measuredActorSum;
+	private int maxSustainableActorCount;
+	private boolean finished;
+
+	/**
+	 * Constructs a StressTestLevel with the configuration read from the config file and system properties.
+	 *
+	 * @param screenHeight The height of the screen for layout purposes.
+	 * @param screenWidth The width of the screen for layout purposes.
+	 * @param primaryStage The primary stage for displaying the game, or {@code null} when running headless.
+	 * @throws IllegalArgumentException If the configuration is invalid.
+	 */
+	public StressTestLevel(double screenHeight, double screenWidth, Stage primaryStage) {
+		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
+		this.primaryStage = primaryStage;
+		this.config = StressTestConfig.load();
+		this.thresholdNanos = (long) (config.getTickThresholdMillis(getStepSeconds() * 1000) * NANOS_PER_MILLI);
+		this.ticksPerStep = Math.max(2, Math.round(config.getStepSeconds() / getStepSeconds()));
+		this.stepTickTimes = new LatencyHistogram();
+		this.steps = new ArrayList<>();
+		this.targetEnemies = config.getInitialEnemies();
+	}
+
+	/**
+	 * Does nothing; the stress test has no extra displays.
+	 */
+	@Override
+	protected void initializeContainers() {
+	}
+
+	/**
+	 * Initializes the friendly units in the level, including adding the user-controlled plane.
+	 */
+	@Override
+	protected void initializeFriendlyUnits() {
+		addActorToScene(SceneLayer.FRIENDLIES, getUser());
+	}
+
+	/**
+	 * Fires the user's automatic volley when it is due, then spawns enemies into the free slots of the
+	 * current ramp step, each at the configured spawn rate and firing at the configured fire rate.
+	 */
+	@Override
+	protected void spawnEnemyUnits() {
+		if (config.getAutoFireInterval() > 0 && getTickCount() % config.getAutoFireInterval() == 0) {
+			fireVolley();
+		}
+		double spawnProbability = config.getEnemySpawnRate() * getStepSeconds();
+		RandomGenerator spawnRandom = getRandom().stream(RandomStream.SPAWNING);
+		for (int i = getCurrentNumberOfEnemies(); i < targetEnemies; i++) {
+			if (spawnRandom.nextDouble() < spawnProbability) {
+				double newEnemyInitialYPosition = spawnRandom.nextDouble() * getEnemyMaximumYPosition();
+				addEnemyUnit(new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition, config.getEnemyFireRate()));
+			}
+		}
+	}
+
+	/**
+	 * Fires a volley from the user's plane. A single projectile leaves from the plane itself; larger volleys
+	 * are spread evenly over the height enemies fly at.
+	 */
+	private void fireVolley() {
+		ActiveActorDestructible shot = getUser().fireProjectile();
+		int volleySize = config.getVolleySize();
+		if (volleySize == 1) {
+			addUserProjectile(shot);
+			return;
+		}
+		double x = shot.getPositionX();
+		shot.recycle();
+		for (int i = 0; i < volleySize; i++) {
+			addUserProjectile(UserProjectile.obtain(x, i * getEnemyMaximumYPosition() / (volleySize - 1)));
+		}
+	}
+
+	/**
+	 * Does nothing. The level only ends once the ramp has finished, which {@link #onTickCompleted()} checks;
+	 * the user's health is ignored.
+	 */
+	@Override
+	protected void checkIfGameOver() {
+	}
+
+	/**
+	 * Measures the tick that has just completed, now that the profiler has timed all of it, and moves on to
+	 * the next ramp step when the current one is over.
+	 */
+	@Override
+	protected void onTickCompleted() {
+		if (finished) {
+			return;
+		}
+		long ticksIntoStep = getTickCount() - stepStartTick;
+		if (ticksIntoStep >= ticksPerStep / 2) {
+			stepTickTimes.record(getTickProfiler().getLastTickNanos());
+			measuredActorSum += getActorCount();
+		}
+		if (ticksIntoStep + 1 >= ticksPerStep) {
+			endStep();
+		}
+	}
+
+	/**
+	 * Records the result of the current ramp step and either starts the next, larger one or finishes the ramp.
+	 */
+	private void endStep() {
+		int actorCount = (int) (measuredActorSum / Math.max(1, stepTickTimes.getCount()));
+		long tickNanos = stepTickTimes.getPercentile(config.getPercentile());
+		boolean sustainable = tickNanos <= thresholdNanos;
+		steps.add(new RampStep(targetEnemies, actorCount, tickNanos, sustainable));
+		GameLog.info(LogCategory.LEVEL, "Stress step measured: {} actors, tick {} us", actorCount,
+				tickNanos / NANOS_PER_MICRO);
+		if (sustainable) {
+			maxSustainableActorCount = Math.max(maxSustainableActorCount, actorCount);
+		}
+		if (!sustainable || targetEnemies >= config.getMaxEnemies()) {
+			finish();
+			return;
+		}
+		targetEnemies = (int) Math.min(config.getMaxEnemies(), Math.ceil(targetEnemies * config.getGrowthFactor()));
+		stepTickTimes.reset();
+		measuredActorSum = 0;
+		stepStartTick = getTickCount() + 1;
+	}
+
+	/**
+	 * Reports the ramp and completes the level. Unless the level is headless, the player is taken back to the
+	 * main menu.
+	 */
+	private void finish() {
+		finished = true;
+		GameLog.info(LogCategory.LEVEL, "Stress test ramp:\n{}", report());
+		completeLevel();
+		if (!isHeadless()) {
+			ScreenManager.forStage(primaryStage).show(MenuScreen.WELCOME);
+		}
+	}
+
+	/**
+	 * Builds a table of every ramp step with its enemy slots, average actor count and measured tick time,
+	 * followed by the maximum sustainable actor count. If even the last step stayed under the threshold, the
+	 * report says that the count is only a lower bound. The statistics of the projectile and power-up pools
+	 * come last.
+	 *
+	 * @return The report, one line per step and one per pool.
+	 */
+	public String report() {
+		StringBuilder report = new StringBuilder();
+		report.append(String.format(ROW_FORMAT, "enemies", "actors", "p" + formatPercentile() + " (us)",
+				"sustainable"));
+		for (RampStep step : steps) {
+			report.append(String.format(ROW_FORMAT, step.getTargetEnemies(), step.getActorCount(),
+					step.getTickNanos() / NANOS_PER_MICRO, step.isSustainable() ? "yes" : "no"));
+		}
+		report.append(String.format("Maximum sustainable actor count: %d (tick threshold %d us)%n",
+				maxSustainableActorCount, thresholdNanos / NANOS_PER_MICRO));
+		if (!steps.isEmpty() && steps.get(steps.size() - 1).isSustainable()) {
+			report.append("The ramp reached maxEnemies without exceeding the threshold; the machine can sustain more.")
+					.append(System.lineSeparator());
+		}
+		report.append(UserProjectile.getPool()).append(System.lineSeparator());
+		report.append(EnemyProjectile.getPool()).append(System.lineSeparator());
+		for (ActorPool<PowerUp> pool : PowerUp.getPools()) {
+			report.append(pool).append(System.lineSeparator());
+		}
+		return report.toString();
+	}
+
+	/**
+	 * Formats the configured percentile without a fraction when it is a whole number.
+	 *
+	 * @return The formatted percentile.
+	 */
+	private String formatPercentile() {
+		double percentile = config.getPercentile();
+		return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+	}
+
+	/**
+	 * Gets the largest average actor count of a ramp step whose ticks stayed under the threshold.
+	 *
+	 * @return The maximum sustainable actor count, or zero if not even the first step was sustainable.
+	 */
+	public int getMaxSustainableActorCount() {
+		return maxSustainableActorCount;
+	}
+
+	/**
+	 * Gets the ramp steps measured so far.
+	 *
+	 * @return A read-only list of the steps, in order.
+	 */
+	public List<RampStep> getRampSteps() {
+		return Collections.unmodifiableList(steps);
+	}
+
+	/**
+	 * Instantiates a plain level view.
+	 *
+	 * @return The level view.
+	 */
+	@Override
+	protected LevelView instantiateLevelView() {
+		return new LevelView(getLayer(SceneLayer.HUD), PLAYER_INITIAL_HEALTH);
+	}
+
+	/**
+	 * The result of one step of the ramp.
+	 */
+	public static final class RampStep {
+
+		private final int targetEnemies;
+		private final int actorCount;
+		private final long tickNanos;
+		private final boolean sustainable;
+
+		/**
+		 * Constructs a RampStep.
+		 *
+		 * @param targetEnemies The number of enemy slots during the step.
+		 * @param actorCount The average number of actors while the step was measured.
+		 * @param tickNanos The configured percentile of the measured tick times, in nanoseconds.
+		 * @param sustainable Whether the tick time stayed under the threshold.
+		 */
+		private RampStep(int targetEnemies, int actorCount, long tickNanos, boolean sustainable) {
+			this.targetEnemies = targetEnemies;
+			this.actorCount = actorCount;
+			this.tickNanos = tickNanos;
+			this.sustainable = sustainable;
+		}
+
+		/**
+		 * Gets the number of enemy slots during the step.
+		 *
+		 * @return The enemy slots.
+		 */
+		public int getTargetEnemies() {
+			return targetEnemies;
+		}
+
+		/**
+		 * Gets the average number of actors while the step was measured.
+		 *
+		 * @return The actor count.
+		 */
+		public int getActorCount() {
+			return actorCount;
+		}
+
+		/**
+		 * Gets the configured percentile of the step's measured tick times.
+		 *
+		 * @return The tick time, in nanoseconds.
+		 */
+		public long getTickNanos() {
+			return tickNanos;
+		}
+
+		/**
+		 * Checks whether the step's tick time stayed under the threshold.
+		 *
+		 * @return {@code true} if the load was sustainable.
+		 */
+		public boolean isSustainable() {
+			return sustainable;
+		}
+
+	}
+
+}
@@ -0,0 +1,30 @@
+package com.example.demo.levels;
+
+import com.example.demo.LevelFactory;
+import com.example.demo.LevelParent;
+import javafx.stage.Stage;
+
+/**
+ * The StressTestLevelFactory class registers {@link StressTestLevel} with the level registry.
+ *
+ * @author Talya
+ */
+public class StressTestLevelFactory implements LevelFactory {
+
+	/**
+	 * Constructs a StressTestLevelFactory. The level registry creates one through {@link java.util.ServiceLoader}.
+	 */
+	public StressTestLevelFactory() {
+	}
+
+	@Override
+	public String getId() {
+		return StressTestLevel.class.getName();
+	}
+
+	@Override
+	public LevelParent create(double screenHeight, double screenWidth, Stage stage) {
+		return new StressTestLevel(screenHeight, screenWidth, stage);
+	}
+
+}
@@ -0,0 +1,378 @@
+package com.example.demo.logging;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The GameLog class is the game's logging facility. Messages are written by a background thread,
+ * so logging from the game loop never waits on console output.
+ * <p>
+ * Every message has a {@link LogCategory} and a {@link LogLevel}, and each category has its own threshold.
+ * A call below its category's threshold returns after a single array lookup, without formatting or allocating
+ * anything. Messages are written as templates with {@code {}} placeholders and formatted on the writer thread.
+ * Calls with primitive arguments on the hot path should still be guarded with {@link #isEnabled(LogCategory, LogLevel)},
+ * so the arguments are not boxed when the message is discarded anyway.
+ * </p>
+ * <p>
+ * Enabled messages go into a lock-free {@link LogRingBuffer}. If the writer falls behind and the buffer fills up,
+ * new messages are dropped and counted rather than blocking the caller. The writer parks while the buffer is
+ * empty and is woken by the next message, so an idle game does not keep waking it.
+ * </p>
+ * <p>
+ * Thresholds are read from system properties when the class is loaded: {@code skybattle.log.level} sets the
+ * default for all categories, and {@code skybattle.log.<category>}, for example {@code skybattle.log.combat=trace},
+ * overrides it for one category. Both accept any {@link LogLevel} name, case-insensitively.
+ * </p>
+ *
+ * @author Talya
+ */
+public final class GameLog {
+
+	private static final String PROPERTY_PREFIX = "skybattle.log.";
+	private static final String DEFAULT_LEVEL_PROPERTY = PROPERTY_PREFIX + "level";
+	private static final LogLevel DEFAULT_LEVEL = LogLevel.INFO;
+	private static final int BUFFER_CAPACITY = 8192;
+	private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+	private static final long SHUTDOWN_FLUSH_MILLIS = 500;
+
+	private static final LogLevel[] THRESHOLDS = new LogLevel[LogCategory.values().length];
+	private static final LogRingBuffer BUFFER = new LogRingBuffer(BUFFER_CAPACITY);
+	private static final Thread WRITER = new Thread(GameLog::drain, "log-writer");
+	private static volatile boolean writerParked;
+	private static volatile long written;
+
+	static {
+		LogLevel defaultLevel = parseLevel(System.getProperty(DEFAULT_LEVEL_PROPERTY), DEFAULT_LEVEL);
+		for (LogCategory category : LogCategory.values()) {
+			String property = PROPERTY_PREFIX + category.name().toLowerCase(Locale.ROOT);
+			THRESHOLDS[category.ordinal()] = parseLevel(System.getProperty(property), defaultLevel);
+		}
+		WRITER.setDaemon(true);
+		WRITER.start();
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(SHUTDOWN_FLUSH_MILLIS), "log-flush"));
+	}
+
+	/**
+	 * Prevents instantiation of this utility class.
+	 */
+	private GameLog() {
+	}
+
+	/**
+	 * Checks whether messages of the given level are logged for a category.
+	 *
+	 * @param category The category.
+	 * @param level The level of the message.
+	 * @return {@code true} if such a message would be written, {@code false} if it would be discarded.
+	 */
+	public static boolean isEnabled(LogCategory category, LogLevel level) {
+		return level.compareTo(THRESHOLDS[category.ordinal()]) >= 0 && level != LogLevel.OFF;
+	}
+
+	/**
+	 * Sets the lowest level logged for a category. Intended for start-up and debugging; a change made on
+	 * one thread may take a moment to be seen by others.
+	 *
+	 * @param category The category.
+	 * @param threshold The lowest level to log, or {@link LogLevel#OFF} to silence the category.
+	 */
+	public static void setLevel(LogCategory category, LogLevel threshold) {
+		THRESHOLDS[category.ordinal()] = threshold;
+	}
+
+	/**
+	 * Gets the lowest level logged for a category.
+	 *
+	 * @param category The category.
+	 * @return The category's threshold.
+	 */
+	public static LogLevel getLevel(LogCategory category) {
+		return THRESHOLDS[category.ordinal()];
+	}
+
+	/**
+	 * Logs a message with no arguments.
+	 *
+	 * @param category The category of the message.
+	 * @param level The level of the message.
+	 * @param message The message.
+	 */
+	public static void log(LogCategory category, LogLevel level, String message) {
+		if (isEnabled(category, level)) {
+			offer(new LogRecord(category, level, message));
+		}
+	}
+
+	/**
+	 * Logs a message with one argument.
+	 *
+	 * @param category The category of the message.
+	 * @param level The level of the message.
+	 * @param template The message, with a {@code {}} where the argument goes.
+	 * @param argument The argument.
+	 */
+	public static void log(LogCategory category, LogLevel level, String template, Object argument) {
+		if (isEnabled(category, level)) {
+			offer(new LogRecord(category, level, template, argument));
+		}
+	}
+
+	/**
+	 * Logs a message with two arguments.
+	 *
+	 * @param category The category of the message.
+	 * @param level The level of the message.
+	 * @param template The message, with a {@code {}} for each argument.
+	 * @param first The first argument.
+	 * @param second The second argument.
+	 */
+	public static void log(LogCategory category, LogLevel level, String template, Object first, Object second) {
+		if (isEnabled(category, level)) {
+			offer(new LogRecord(category, level, template, first, second));
+		}
+	}
+
+	/**
+	 * Logs a message at {@link LogLevel#TRACE}.
+	 *
+	 * @param category The category of the message.
+	 * @param message The message.
+	 */
+	public static void trace(LogCategory category, String message) {
+		log(category, LogLevel.TRACE, message);
+	}
+
+	/**
+	 * Logs a message with two arguments at {@link LogLevel#TRACE}.
+	 *
+	 * @param category The category of the message.
+	 * @param template The message, with a {@code {}} for each argument.
+	 * @param first The first argument.
+	 * @param second The second argument.
+	 */
+	public static void trace(LogCategory category, String template, Object first, Object second) {
+		log(category, LogLevel.TRACE, template, first, second);
+	}
+
+	/**
+	 * Logs a message at {@link LogLevel#DEBUG}.
+	 *
+	 * @param category The category of the message.
+	 * @param message The message.
+	 */
+	public static void debug(LogCategory category, String message) {
+		log(category, LogLevel.DEBUG, message);
+	}
+
+	/**
+	 * Logs a message with one argument at {@link LogLevel#DEBUG}.
+	 *
+	 * @param category The category of the message.
+	 * @param template The message, with a {@code {}} where the argument goes.
+	 * @param argument The argument.
+	 */
+	public static void debug(LogCategory category, String template, Object argument) {
+		log(category, LogLevel.DEBUG, template, argument);
+	}
+
+	/**
+	 * Logs a message with two arguments at {@link LogLevel#DEBUG}.
+	 *
+	 * @param category The category of the message.
+	 * @param template The message, with a {@code {}} for each argument.
+	 * @param first The first argument.
+	 * @param second The second argument.
+	 */
+	public static void debug(LogCategory category, String template, Object first, Object second) {
+		log(category, LogLevel.DEBUG, template, first, second);
+	}
+
+	/**
+	 * Logs a message at {@link LogLevel#INFO}.
+	 *
+	 * @param category The category of the message.
+	 * @param message The message.
+	 */
+	public static void info(LogCategory category, String message) {
+		log(category, LogLevel.INFO, message);
+	}
+
+	/**
+	 * Logs a message with one argument at {@link LogLevel#INFO}.
+	 *
+	 * @param category The category of the message.
+	 * @param template The message, with a {@code {}} where the argument goes.
+	 * @param argument The argument.
+	 */
+	public static void info(LogCategory category, String template, Object argument) {
+		log(category, LogLevel.INFO, template, argument);
+	}
+
+	/**
+	 * Logs a message with two arguments at {@link LogLevel#INFO}.
+	 *
+	 * @param category The category of the message.
+	 * @param template The message, with a {@code {}} for each argument.
+	 * @param first The first argument.
+	 * @param second The second argument.
+	 */
+	public static void info(LogCategory category, String template, Object first, Object second) {
+		log(category, LogLevel.INFO, template, first, second);
+	}
+
+	/**
+	 * Logs a message at {@link LogLevel#WARN}.
+	 *
+	 * @param category The category of the message.
+	 * @param message The message.
+	 */
+	public static void warn(LogCategory category, String message) {
+		log(category, LogLevel.WARN, message);
+	}
+
+	/**
+	 * Logs a message with one argument at {@link LogLevel#WARN}.
+	 *
+	 * @param category The category of the message.
+	 * @param template The message, with a {@code {}} where the argument goes.
+	 * @param argument The argument.
+	 */
+	public static void warn(LogCategory category, String template, Object argument) {
+		log(category, LogLevel.WARN, template, argument);
+	}
+
+	/**
+	 * Logs a message with two arguments at {@link LogLevel#WARN}.
+	 *
+	 * @param category The category of the message.
+	 * @param template The message, with a {@code {}} for each argument.
+	 * @param first The first argument.
+	 * @param second The second argument.
+	 */
+	public static void warn(LogCategory category, String template, Object first, Object second) {
+		log(category, LogLevel.WARN, template, first, second);
+	}
+
+	/**
+	 * Logs a message at {@link LogLevel#ERROR}.
+	 *
+	 * @param category The category of the message.
+	 * @param message The message.
+	 */
+	public static void error(LogCategory category, String message) {
+		log(category, LogLevel.ERROR, message);
+	}
+
+	/**
+	 * Logs a message with one argument at {@link LogLevel#ERROR}.
+	 *
+	 * @param category The category of the message.
+	 * @param template The message, with a {@code {}} where the argument goes.
+	 * @param argument The argument.
+	 */
+	public static void error(LogCategory category, String template, Object argument) {
+		log(category, LogLevel.ERROR, template, argument);
+	}
+
+	/**
+	 * Logs a message with two arguments at {@link LogLevel#ERROR}.
+	 *
+	 * @param category The category of the message.
+	 * @param template The message, with a {@code {}} for each argument.
+	 * @param first The first argument.
+	 * @param second The second argument.
+	 */
+	public static void error(LogCategory category, String template, Object first, Object second) {
+		log(category, LogLevel.ERROR, template, first, second);
+	}
+
+	/**
+	 * Waits until every message logged so far has been written, or until the timeout runs out.
+	 *
+	 * @param timeoutMillis The longest time to wait, in milliseconds.
+	 * @return {@code true} if everything was written, {@code false} if the timeout ran out first.
+	 */
+	public static boolean flush(long timeoutMillis) {
+		long target = BUFFER.getAccepted();
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+		while (written < target) {
+			if (System.nanoTime() - deadline >= 0) {
+				return false;
+			}
+			LockSupport.parkNanos(IDLE_PARK_NANOS);
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the number of messages dropped because the writer could not keep up.
+	 *
+	 * @return The drop count.
+	 */
+	public static long getDroppedCount() {
+		return BUFFER.getDropped();
+	}
+
+	/**
+	 * Adds a record to the buffer and wakes the writer if it is waiting for one.
+	 *
+	 * @param record The record to write.
+	 */
+	private static void offer(LogRecord record) {
+		if (BUFFER.offer(record) && writerParked) {
+			LockSupport.unpark(WRITER);
+		}
+	}
+
+	/**
+	 * Runs on the writer thread, printing records as they arrive and reporting dropped ones. When the buffer
+	 * is empty the writer announces that it is parking and checks once more before it does, so a record
+	 * offered at the same moment either is seen by that check or unparks it.
+	 */
+	private static void drain() {
+		long reportedDrops = 0;
+		while (true) {
+			LogRecord record = BUFFER.poll();
+			if (record == null) {
+				long drops = BUFFER.getDropped();
+				if (drops != reportedDrops) {
+					System.err.println("[log] " + (drops - reportedDrops) + " messages dropped, buffer full");
+					reportedDrops = drops;
+				}
+				writerParked = true;
+				if (BUFFER.isEmpty()) {
+					LockSupport.park(GameLog.class);
+				} else {
+					Thread.onSpinWait();
+				}
+				writerParked = false;
+				continue;
+			}
+			PrintStream stream = record.getLevel().compareTo(LogLevel.WARN) >= 0 ? System.err : System.out;
+			stream.println(record.format());
+			written++;
+		}
+	}
+
+	/**
+	 * Parses a level name from a system property.
+	 *
+	 * @param value The property value, or {@code null} if it is not set.
+	 * @param fallback The level to use when the value is missing or not a level name.
+	 * @return The parsed level.
+	 */
+	private static LogLevel parseLevel(String value, LogLevel fallback) {
+		if (value == null) {
+			return fallback;
+		}
+		try {
+			return LogLevel.valueOf(value.trim().toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			System.err.println("[log] Unknown log level '" + value + "', using " + fallback);
+			return fallback;
+		}
+	}
+
+}
@@ -0,0 +1,36 @@
+package com.example.demo.logging;
+
+/**
+ * The LogCategory enum groups log messages by the part of the game they come from, so each part
+ * can be turned up or down on its own.
+ *
+ * @author Talya
+ */
+public enum LogCategory {
+
+	/**
+	 * Application start-up, screens and level changes.
+	 */
+	GAME,
+
+	/**
+	 * Level set-up, the game loop and level outcomes.
+	 */
+	LEVEL,
+
+	/**
+	 * Shots fired and collisions.
+	 */
+	COMBAT,
+
+	/**
+	 * The boss's movement and shield.
+	 */
+	BOSS,
+
+	/**
+	 * Heads-up displays.
+	 */
+	HUD
+
+}
@@ -0,0 +1,41 @@
+package com.example.demo.logging;
+
+/**
+ * The LogLevel enum lists how important a log message is, from least to most severe.
+ * A category logs every message at or above its configured level; {@link #OFF} silences it completely.
+ *
+ * @author Talya
+ */
+public enum LogLevel {
+
+	/**
+	 * Very detailed messages, typically logged on every tick.
+	 */
+	TRACE,
+
+	/**
+	 * Messages that help with debugging a single feature.
+	 */
+	DEBUG,
+
+	/**
+	 * Normal progress of the game, such as levels starting and ending.
+	 */
+	INFO,
+
+	/**
+	 * Something unexpected happened, but the game carries on.
+	 */
+	WARN,
+
+	/**
+	 * Something failed.
+	 */
+	ERROR,
+
+	/**
+	 * Used only as a threshold, to turn a category off.
+	 */
+	OFF
+
+}
@@ -0,0 +1,72 @@
+package com.example.demo.logging;
+
+/**
+ * The LogRecord class holds one log call until the writer thread formats and prints it.
+ * <p>
+ * The message is kept as a template with its arguments, so the cost of building the text is paid
+ * on the writer thread rather than by the caller. Each {@code {}} in the template is replaced by the
+ * next argument.
+ * </p>
+ *
+ * @author Talya
+ */
+final class LogRecord {
+
+	private static final String PLACEHOLDER = "{}";
+
+	private final long timeMillis;
+	private final String threadName;
+	private final LogCategory category;
+	private final LogLevel level;
+	private final String template;
+	private final Object[] arguments;
+
+	/**
+	 * Constructs a LogRecord stamped with the current time and thread.
+	 *
+	 * @param category The category the message belongs to.
+	 * @param level The level of the message.
+	 * @param template The message, with a {@code {}} for each argument.
+	 * @param arguments The values to put into the template.
+	 */
+	LogRecord(LogCategory category, LogLevel level, String template, Object... arguments) {
+		this.timeMillis = System.currentTimeMillis();
+		this.threadName = Thread.currentThread().getName();
+		this.category = category;
+		this.level = level;
+		this.template = template;
+		this.arguments = arguments;
+	}
+
+	/**
+	 * Gets the level of the message.
+	 *
+	 * @return The log level.
+	 */
+	LogLevel getLevel() {
+		return level;
+	}
+
+	/**
+	 * Builds the line that is printed for this record.
+	 *
+	 * @return The formatted log line.
+	 */
+	String format() {
+		StringBuilder line = new StringBuilder(template.length() + 64);
+		line.append(String.format("%tT.%<tL", timeMillis))
+				.append(' ').append(level)
+				.append(" [").append(category).append("] [").append(threadName).append("] ");
+		int start = 0;
+		for (Object argument : arguments) {
+			int placeholder = template.indexOf(PLACEHOLDER, start);
+			if (placeholder < 0) {
+				break;
+			}
+			line.append(template, start, placeholder).append(argument);
+			start = placeholder + PLACEHOLDER.length();
+		}
+		return line.append(template, start, template.length()).toString();
+	}
+
+}
@@ -0,0 +1,106 @@
+package com.example.demo.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The LogRingBuffer class is a bounded, lock-free queue of log records with any number of producers
+ * and a single consumer.
+ * <p>
+ * A producer claims a slot by advancing the shared tail with a compare-and-set and then publishes its
+ * record into that slot. The consumer takes records in claim order, waiting on a slot that has been
+ * claimed but not yet published. When the buffer is full a record is dropped and counted instead of
+ * making the producer wait, so logging can never stall the game loop.
+ * </p>
+ *
+ * @author Talya
+ */
+final class LogRingBuffer {
+
+	private final AtomicReferenceArray<LogRecord> slots;
+	private final int mask;
+	private final AtomicLong tail;
+	private final AtomicLong dropped;
+	private volatile long head;
+
+	/**
+	 * Constructs an empty LogRingBuffer.
+	 *
+	 * @param capacity The number of records the buffer can hold; must be a power of two.
+	 * @throws IllegalArgumentException If the capacity is not a positive power of two.
+	 */
+	LogRingBuffer(int capacity) {
+		if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+		}
+		this.slots = new AtomicReferenceArray<>(capacity);
+		this.mask = capacity - 1;
+		this.tail = new AtomicLong();
+		this.dropped = new AtomicLong();
+	}
+
+	/**
+	 * Adds a record to the buffer if there is room. Safe to call from any thread.
+	 *
+	 * @param record The record to add.
+	 * @return {@code true} if the record was added, {@code false} if the buffer was full and it was dropped.
+	 */
+	boolean offer(LogRecord record) {
+		while (true) {
+			long claim = tail.get();
+			if (claim - head >= slots.length()) {
+				dropped.incrementAndGet();
+				return false;
+			}
+			if (tail.compareAndSet(claim, claim + 1)) {
+				slots.set((int) (claim & mask), record);
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Takes the oldest record from the buffer. Must only be called from the consumer thread.
+	 *
+	 * @return The oldest record, or {@code null} if there is none ready yet.
+	 */
+	LogRecord poll() {
+		long current = head;
+		int index = (int) (current & mask);
+		LogRecord record = slots.get(index);
+		if (record == null) {
+			return null;
+		}
+		slots.set(index, null);
+		head = current + 1;
+		return record;
+	}
+
+	/**
+	 * Checks whether every claimed slot has been consumed.
+	 *
+	 * @return {@code true} if there is nothing left to consume, {@code false} otherwise.
+	 */
+	boolean isEmpty() {
+		return head == tail.get();
+	}
+
+	/**
+	 * Gets the number of records that have been added so far.
+	 *
+	 * @return The total number of records accepted by {@link #offer(LogRecord)}.
+	 */
+	long getAccepted() {
+		return tail.get();
+	}
+
+	/**
+	 * Gets the number of records dropped because the buffer was full.
+	 *
+	 * @return The drop count.
+	 */
+	long getDropped() {
+		return dropped.get();
+	}
+
+}
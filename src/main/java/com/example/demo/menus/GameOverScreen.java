@@ -1,7 +1,8 @@
 package com.example.demo.menus;
+import com.example.demo.assets.ImageLoader;
 import javafx.application.Application;
 import javafx.geometry.Pos;
-import javafx.scene.Scene;
+import javafx.scene.Parent;
 import javafx.scene.control.Button;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -30,27 +31,37 @@ public class GameOverScreen extends Application {
 	private static final String BACKGROUND_IMAGE_PATH = "/com/example/demo/images/gameover.png";
 
 	/**
-	 * The start method sets up the Game Over screen, including background, buttons, and functionality.
-	 * It sets the scene and shows the stage with the appropriate layout and button actions.
+	 * Shows the Game Over screen, building it only the first time it is shown on the stage.
 	 *
 	 * @param primaryStage The primary stage (window) for the application.
 	 */
 	@Override
 	public void start(Stage primaryStage) {
+		ScreenManager.forStage(primaryStage).show(MenuScreen.GAME_OVER);
+	}
+
+	/**
+	 * Builds the Game Over screen, including background, buttons, and functionality.
+	 * The {@link ScreenManager} wraps the layout in a scene and shows it.
+	 *
+	 * @param primaryStage The primary stage (window), which the buttons navigate on.
+	 * @return The root of the layout.
+	 */
+	Parent buildLayout(Stage primaryStage) {
 		// Load the background image
-		Image backgroundImage = new Image(getClass().getResourceAsStream(BACKGROUND_IMAGE_PATH));
+		Image backgroundImage = ImageLoader.load(BACKGROUND_IMAGE_PATH, SCREEN_WIDTH, SCREEN_HEIGHT);
 		ImageView backgroundImageView = new ImageView(backgroundImage);
 		backgroundImageView.setFitWidth(SCREEN_WIDTH);
 		backgroundImageView.setFitHeight(SCREEN_HEIGHT);
 
 
 		// Load the images for the buttons
-		Image menuButtonImage = new Image(getClass().getResourceAsStream(MENU_BUTTON_IMAGE_PATH));
+		Image menuButtonImage = ImageLoader.load(MENU_BUTTON_IMAGE_PATH, 140, 70);
 		ImageView menuButtonImageView = new ImageView(menuButtonImage);
 		menuButtonImageView.setFitWidth(140); // Set desired width
 		menuButtonImageView.setFitHeight(70); // Set desired height
 
-		Image quitButtonImage = new Image(getClass().getResourceAsStream(QUIT_BUTTON_IMAGE_PATH));
+		Image quitButtonImage = ImageLoader.load(QUIT_BUTTON_IMAGE_PATH, 120, 60);
 		ImageView quitButtonImageView = new ImageView(quitButtonImage);
 		quitButtonImageView.setFitWidth(120); // Set desired width
 		quitButtonImageView.setFitHeight(60); // Set desired height
@@ -93,16 +104,7 @@ public class GameOverScreen extends Application {
 		vbox.getChildren().addAll(menuButton, quitButton);
 		layout.getChildren().addAll(backgroundImageView, vbox);
 
-		// Create the scene with the layout
-		Scene scene = new Scene(layout, SCREEN_WIDTH, SCREEN_HEIGHT);
-
-		// Set up the stage (window) with the scene and show it
-		primaryStage.setTitle("Game Over");
-		primaryStage.setScene(scene);
-		primaryStage.show();
-
-		// Consume space bar event on the scene
-		scene.addEventFilter(KeyEvent.KEY_PRESSED, event -> { if (event.getCode() == KeyCode.SPACE) { event.consume(); } });
+		return layout;
 	}
 
 	/**
@@ -112,11 +114,6 @@ public class GameOverScreen extends Application {
 	 */
 	// Method to show the welcome screen
 	private void showWelcomeScreen(Stage primaryStage) {
-		WelcomeScreen welcomeScreen = new WelcomeScreen();
-		try {
-			welcomeScreen.start(primaryStage);
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
+		ScreenManager.forStage(primaryStage).show(MenuScreen.WELCOME);
 	}
 }
@@ -1,9 +1,10 @@
 package com.example.demo.menus;
 
 import com.example.demo.menus.WelcomeScreen;
+import com.example.demo.assets.ImageLoader;
 import javafx.application.Application;
 import javafx.geometry.Pos;
-import javafx.scene.Scene;
+import javafx.scene.Parent;
 import javafx.scene.control.Button;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -34,15 +35,25 @@ public class HowToPlayScreen extends Application {
     private static final String MENU_BUTTON_IMAGE_PATH = "/com/example/demo/images/MenuButton.png";
 
     /**
-     * The start method sets up the How to Play screen, including background, instructions text,
-     * and the menu button. It sets the scene and shows the stage with the appropriate layout and button actions.
+     * Shows the How to Play screen, building it only the first time it is shown on the stage.
      *
      * @param primaryStage The primary stage (window) for the application.
      */
     @Override
     public void start(Stage primaryStage) {
+        ScreenManager.forStage(primaryStage).show(MenuScreen.HOW_TO_PLAY);
+    }
+
+    /**
+     * Builds the How to Play screen, including background, instructions text, and the menu button.
+     * The {@link ScreenManager} wraps the layout in a scene and shows it.
+     *
+     * @param primaryStage The primary stage (window), which the buttons navigate on.
+     * @return The root of the layout.
+     */
+    Parent buildLayout(Stage primaryStage) {
         // Load the background image
-        Image backgroundImage = new Image(getClass().getResourceAsStream(BACKGROUND_IMAGE_PATH));
+        Image backgroundImage = ImageLoader.load(BACKGROUND_IMAGE_PATH, SCREEN_WIDTH, SCREEN_HEIGHT);
         ImageView backgroundImageView = new ImageView(backgroundImage);
         backgroundImageView.setFitWidth(SCREEN_WIDTH);
         backgroundImageView.setFitHeight(SCREEN_HEIGHT);
@@ -64,7 +75,7 @@ public class HowToPlayScreen extends Application {
         textBackground.setFill(Color.rgb(0, 0, 0, 0.7)); // Semi-transparent black
 
         // Load the image for the menu button
-        Image menuButtonImage = new Image(getClass().getResourceAsStream(MENU_BUTTON_IMAGE_PATH));
+        Image menuButtonImage = ImageLoader.load(MENU_BUTTON_IMAGE_PATH, 100, 50);
         ImageView menuButtonImageView = new ImageView(menuButtonImage);
         menuButtonImageView.setFitWidth(100); // Set desired width
         menuButtonImageView.setFitHeight(50); // Set desired height
@@ -88,16 +99,7 @@ public class HowToPlayScreen extends Application {
         vbox.getChildren().addAll(textPane, menuButton);
         layout.getChildren().addAll(backgroundImageView, vbox);
 
-        // Create the scene with the layout
-        Scene scene = new Scene(layout, SCREEN_WIDTH, SCREEN_HEIGHT);
-
-        // Set up the stage (window) with the scene and show it
-        primaryStage.setTitle("How to Play");
-        primaryStage.setScene(scene);
-        primaryStage.show();
-
-        // Consume space bar event on the scene
-        scene.addEventFilter(KeyEvent.KEY_PRESSED, event -> { if (event.getCode() == KeyCode.SPACE) { event.consume(); } });
+        return layout;
     }
 
     /**
@@ -107,12 +109,7 @@ public class HowToPlayScreen extends Application {
      */
     // Method to show the welcome screen
     private void showWelcomeScreen(Stage primaryStage) {
-        WelcomeScreen welcomeScreen = new WelcomeScreen();
-        try {
-            welcomeScreen.start(primaryStage);
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        ScreenManager.forStage(primaryStage).show(MenuScreen.WELCOME);
     }
 
 }
@@ -0,0 +1,56 @@
+package com.example.demo.menus;
+
+/**
+ * The MenuScreen enum lists the menu screens the {@link ScreenManager} can show, together with the window
+ * title each of them sets.
+ *
+ * @author Talya
+ */
+public enum MenuScreen {
+
+	/**
+	 * The main menu, shown when the game starts.
+	 */
+	WELCOME("Welcome to Sky Battle"),
+
+	/**
+	 * The game instructions.
+	 */
+	HOW_TO_PLAY("How to Play"),
+
+	/**
+	 * The screen between two levels. It keeps the window title of the level before it.
+	 */
+	TRANSITION(null),
+
+	/**
+	 * The screen shown when the player has lost.
+	 */
+	GAME_OVER("Game Over"),
+
+	/**
+	 * The screen shown when the player has won.
+	 */
+	YOU_WON("You Won!");
+
+	private final String title;
+
+	/**
+	 * Constructs a MenuScreen with the given window title.
+	 *
+	 * @param title The window title, or {@code null} to leave the title unchanged.
+	 */
+	MenuScreen(String title) {
+		this.title = title;
+	}
+
+	/**
+	 * Gets the window title the screen sets.
+	 *
+	 * @return The title, or {@code null} if the screen leaves the title unchanged.
+	 */
+	public String getTitle() {
+		return title;
+	}
+
+}
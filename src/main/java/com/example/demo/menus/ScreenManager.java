@@ -0,0 +1,169 @@
+package com.example.demo.menus;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.stage.Stage;
+
+/**
+ * The ScreenManager class builds every menu screen of a stage once and shows the same scene again each time
+ * the screen is needed.
+ * <p>
+ * Going from the game over screen back to the main menu, and from there into a new game, is something players
+ * do constantly. Instead of loading the images and building the node tree of a menu on every visit, the
+ * manager keeps the layout of each {@link MenuScreen} and the scene around it, so showing a menu again is a
+ * single {@link Stage#setScene(Scene)}. {@link #warm(MenuScreen...)} builds the layouts of menus that have
+ * not been shown yet on a background thread, so even the first visit is instant. The scenes themselves are
+ * always created on the JavaFX application thread, the first time they are shown.
+ * </p>
+ * <p>
+ * There is one manager per stage, obtained with {@link #forStage(Stage)}. The transition screen is the only
+ * menu whose behaviour changes between visits: {@link #showTransition(Runnable)} sets what its next level
+ * button does before showing it.
+ * </p>
+ *
+ * @author Talya
+ */
+public final class ScreenManager {
+
+	private static final int SCREEN_WIDTH = 1300;
+	private static final int SCREEN_HEIGHT = 750;
+	private static final Map<Stage, ScreenManager> MANAGERS = new WeakHashMap<>();
+	private static final Runnable NO_ACTION = () -> { };
+	private static final ExecutorService WARMER = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "menu-warmer");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final Stage stage;
+	private final Map<MenuScreen, Parent> layouts;
+	private final Map<MenuScreen, Scene> scenes;
+	private volatile Runnable nextLevelAction;
+
+	/**
+	 * Constructs a ScreenManager for the given stage, with no menu built yet.
+	 *
+	 * @param stage The stage the menus are shown on.
+	 */
+	private ScreenManager(Stage stage) {
+		this.stage = stage;
+		this.layouts = new ConcurrentHashMap<>();
+		this.scenes = new EnumMap<>(MenuScreen.class);
+		this.nextLevelAction = NO_ACTION;
+	}
+
+	/**
+	 * Gets the screen manager of a stage, creating it the first time.
+	 *
+	 * @param stage The stage the menus are shown on.
+	 * @return The stage's screen manager.
+	 */
+	public static synchronized ScreenManager forStage(Stage stage) {
+		return MANAGERS.computeIfAbsent(stage, ScreenManager::new);
+	}
+
+	/**
+	 * Shows a menu on the stage, building it first if it has not been built yet.
+	 * This must be called on the JavaFX application thread.
+	 *
+	 * @param screen The menu to show.
+	 */
+	public void show(MenuScreen screen) {
+		Scene scene = scenes.computeIfAbsent(screen, this::createScene);
+		if (screen.getTitle() != null) {
+			stage.setTitle(screen.getTitle());
+		}
+		stage.setScene(scene);
+		stage.show();
+	}
+
+	/**
+	 * Shows the transition screen between two levels.
+	 * This must be called on the JavaFX application thread.
+	 *
+	 * @param nextLevelAction What to do when the player chooses to go on to the next level.
+	 */
+	public void showTransition(Runnable nextLevelAction) {
+		this.nextLevelAction = nextLevelAction;
+		show(MenuScreen.TRANSITION);
+	}
+
+	/**
+	 * Runs the action given to {@link #showTransition(Runnable)}, clearing it first so the manager does not
+	 * keep the finished level it refers to reachable, and so a second click does nothing.
+	 */
+	private void runNextLevelAction() {
+		Runnable action = nextLevelAction;
+		nextLevelAction = NO_ACTION;
+		action.run();
+	}
+
+	/**
+	 * Builds the layouts of the given menus on a background thread. Menus that are already built are skipped.
+	 *
+	 * @param screens The menus to build.
+	 * @return A future that completes once all menus are built.
+	 */
+	public CompletableFuture<Void> warm(MenuScreen... screens) {
+		return CompletableFuture.runAsync(() -> {
+			long start = System.nanoTime();
+			for (MenuScreen screen : screens) {
+				layouts.computeIfAbsent(screen, this::buildLayout);
+			}
+			GameLog.info(LogCategory.GAME, "Built {} menu screens in {} ms.", screens.length,
+					(System.nanoTime() - start) / 1_000_000);
+		}, WARMER);
+	}
+
+	/**
+	 * Checks whether a menu has been built, in the background or by showing it.
+	 *
+	 * @param screen The menu.
+	 * @return {@code true} if the menu's layout exists, {@code false} otherwise.
+	 */
+	public boolean isBuilt(MenuScreen screen) {
+		return layouts.containsKey(screen);
+	}
+
+	/**
+	 * Wraps the layout of a menu in a scene the size of the game window. The space bar is swallowed on every
+	 * menu, so it cannot press whichever button has the focus.
+	 *
+	 * @param screen The menu.
+	 * @return The menu's scene.
+	 */
+	private Scene createScene(MenuScreen screen) {
+		Scene scene = new Scene(layouts.computeIfAbsent(screen, this::buildLayout), SCREEN_WIDTH, SCREEN_HEIGHT);
+		scene.addEventFilter(KeyEvent.KEY_PRESSED, event -> { if (event.getCode() == KeyCode.SPACE) { event.consume(); } });
+		return scene;
+	}
+
+	/**
+	 * Builds the node tree of a menu.
+	 *
+	 * @param screen The menu.
+	 * @return The root of the menu's layout.
+	 */
+	private Parent buildLayout(MenuScreen screen) {
+		return switch (screen) {
+			case WELCOME -> new WelcomeScreen().buildLayout(stage);
+			case HOW_TO_PLAY -> new HowToPlayScreen().buildLayout(stage);
+			case TRANSITION -> new TransitionScreen(stage, this::runNextLevelAction).buildLayout();
+			case GAME_OVER -> new GameOverScreen().buildLayout(stage);
+			case YOU_WON -> new YouWonScreen().buildLayout(stage);
+		};
+	}
+
+}
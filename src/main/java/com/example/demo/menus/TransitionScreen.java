@@ -1,8 +1,8 @@
 package com.example.demo.menus;
 
-import com.example.demo.levels.LevelTwo;
+import com.example.demo.assets.ImageLoader;
 import javafx.geometry.Pos;
-import javafx.scene.Scene;
+import javafx.scene.Parent;
 import javafx.scene.control.Button;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -17,6 +17,9 @@ import javafx.scene.input.KeyCode;
  * allowing the player to navigate to the next level, the main menu, or quit the game.
  * It includes buttons for transitioning to Level Two, returning to the welcome screen, and quitting the game.
  * The background and button images are loaded dynamically, and actions are triggered by button clicks or keyboard events.
+ * Moving on to the next level is left to the finished level, which hands over to the next one
+ * (usually already preloaded) through the controller. The screen is built once per stage and shown through
+ * {@link ScreenManager#showTransition(Runnable)}, which sets the next level action for each visit.
  *
  * @author Talya
  */
@@ -29,40 +32,46 @@ public class TransitionScreen {
     private static final String QUIT_BUTTON_IMAGE_PATH = "/com/example/demo/images/QuitButton.png";
 
     private Stage primaryStage;
+    private final Runnable nextLevelAction;
 
     /**
      * Constructor for the TransitionScreen class.
      *
      * @param primaryStage The primary stage (window) of the application.
+     * @param nextLevelAction What to do when the player chooses to go on to the next level.
      */
-    public TransitionScreen(Stage primaryStage) {
+    public TransitionScreen(Stage primaryStage, Runnable nextLevelAction) {
         this.primaryStage = primaryStage;
+        this.nextLevelAction = nextLevelAction;
     }
 
     /**
-     * Displays the transition screen, which includes a background image,
+     * Builds the transition screen, which includes a background image,
      * buttons for transitioning to Level 2, returning to the main menu,
      * and quitting the game. Button events are set up to handle each action.
+     * The {@link ScreenManager} wraps the layout in a scene and shows it.
+     *
+     * @return The root of the layout.
      */
-    public void display() {
+    Parent buildLayout() {
         // Load the background image
-        Image backgroundImage = new Image(getClass().getResourceAsStream(BACKGROUND_IMAGE_PATH));
+        Image backgroundImage = ImageLoader.load(BACKGROUND_IMAGE_PATH, SCREEN_WIDTH, SCREEN_HEIGHT);
         ImageView backgroundImageView = new ImageView(backgroundImage);
         backgroundImageView.setFitWidth(SCREEN_WIDTH);
         backgroundImageView.setFitHeight(SCREEN_HEIGHT);
 
         // Load the images for the buttons
-        Image level2ButtonImage = new Image(getClass().getResourceAsStream(LEVEL2_BUTTON_IMAGE_PATH));
+        Image level2ButtonImage = ImageLoader.load(LEVEL2_BUTTON_IMAGE_PATH, 300, 100);
         ImageView level2ButtonImageView = new ImageView(level2ButtonImage);
         level2ButtonImageView.setFitWidth(300); // Set desired width
         level2ButtonImageView.setFitHeight(100); // Set desired height
 
-        Image mainMenuButtonImage = new Image(getClass().getResourceAsStream(MAIN_MENU_BUTTON_IMAGE_PATH));
+        Image mainMenuButtonImage = ImageLoader.load(MAIN_MENU_BUTTON_IMAGE_PATH, 200, 100);
         ImageView mainMenuButtonImageView = new ImageView(mainMenuButtonImage);
         mainMenuButtonImageView.setFitWidth(200); // Set desired width
         mainMenuButtonImageView.setFitHeight(100); // Set desired height
 
-        Image quitButtonImage = new Image(getClass().getResourceAsStream(QUIT_BUTTON_IMAGE_PATH));
+        Image quitButtonImage = ImageLoader.load(QUIT_BUTTON_IMAGE_PATH, 200, 100);
         ImageView quitButtonImageView = new ImageView(quitButtonImage);
         quitButtonImageView.setFitWidth(200); // Set desired width
         quitButtonImageView.setFitHeight(100); // Set desired height
@@ -108,24 +117,14 @@ public class TransitionScreen {
         StackPane root = new StackPane();
         root.getChildren().addAll(backgroundImageView, layout);
 
-        // Create scene and set it on the stage
-        Scene scene = new Scene(root, SCREEN_WIDTH, SCREEN_HEIGHT);
-        primaryStage.setScene(scene);
-        primaryStage.show();
-
-        // Consume space bar event on the scene
-        scene.addEventFilter(KeyEvent.KEY_PRESSED, event -> { if (event.getCode() == KeyCode.SPACE) { event.consume(); } });
+        return root;
     }
 
     /**
      * Navigates to Level 2 when the corresponding button is clicked.
-     * Initializes the LevelTwo scene and starts the game.
      */
     private void goToLevelTwo() {
-        LevelTwo levelTwo = new LevelTwo(750, 1300, primaryStage); // Adjust screen size if necessary
-        Scene levelTwoScene = levelTwo.initializeScene();
-        primaryStage.setScene(levelTwoScene);
-        levelTwo.startGame();
+        nextLevelAction.run();
     }
 
     /**
@@ -134,12 +133,7 @@ public class TransitionScreen {
      * @param primaryStage The primary stage (window) for the application.
      */
     private void showWelcomeScreen(Stage primaryStage) {
-        WelcomeScreen welcomeScreen = new WelcomeScreen();
-        try {
-            welcomeScreen.start(primaryStage);
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        ScreenManager.forStage(primaryStage).show(MenuScreen.WELCOME);
     }
 
     /**
@@ -1,9 +1,10 @@
 package com.example.demo.menus;
 
 import com.example.demo.controller.Main;
+import com.example.demo.assets.ImageLoader;
 import javafx.application.Application;
 import javafx.geometry.Pos;
-import javafx.scene.Scene;
+import javafx.scene.Parent;
 import javafx.scene.control.Button;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -30,32 +31,41 @@ public class WelcomeScreen extends Application {
 
 
     /**
-     * Starts the welcome screen, which includes background image and buttons for starting the game,
-     * quitting, or viewing instructions.
+     * Shows the welcome screen, building it only the first time it is shown on the stage.
      *
      * @param primaryStage The primary stage (window) for the application.
      */
     @Override
     public void start(Stage primaryStage) {
+        ScreenManager.forStage(primaryStage).show(MenuScreen.WELCOME);
+    }
 
+    /**
+     * Builds the welcome screen, which includes background image and buttons for starting the game,
+     * quitting, or viewing instructions. The {@link ScreenManager} wraps the layout in a scene and shows it.
+     *
+     * @param primaryStage The primary stage (window), which the buttons navigate on.
+     * @return The root of the layout.
+     */
+    Parent buildLayout(Stage primaryStage) {
         // Load the background image
-        Image backgroundImage = new Image(getClass().getResourceAsStream(BACKGROUND_IMAGE_PATH));
+        Image backgroundImage = ImageLoader.load(BACKGROUND_IMAGE_PATH, SCREEN_WIDTH, SCREEN_HEIGHT);
         ImageView backgroundImageView = new ImageView(backgroundImage);
         backgroundImageView.setFitWidth(SCREEN_WIDTH);
         backgroundImageView.setFitHeight(SCREEN_HEIGHT);
 
         // Load the images for the buttons
-        Image startButtonImage = new Image(getClass().getResourceAsStream(START_BUTTON_IMAGE_PATH));
+        Image startButtonImage = ImageLoader.load(START_BUTTON_IMAGE_PATH, 300, 150);
         ImageView startButtonImageView = new ImageView(startButtonImage);
         startButtonImageView.setFitWidth(300); // Set desired width
         startButtonImageView.setFitHeight(150); //Set desired height
 
-        Image quitButtonImage = new Image(getClass().getResourceAsStream(QUIT_BUTTON_IMAGE_PATH));
+        Image quitButtonImage = ImageLoader.load(QUIT_BUTTON_IMAGE_PATH, 200, 100);
         ImageView quitButtonImageView = new ImageView(quitButtonImage);
         quitButtonImageView.setFitWidth(200); // Set desired width
         quitButtonImageView.setFitHeight(100); // Set desired height
 
-        Image howToPlayButtonImage = new Image(getClass().getResourceAsStream(HOW_TO_PLAY_BUTTON_IMAGE_PATH));
+        Image howToPlayButtonImage = ImageLoader.load(HOW_TO_PLAY_BUTTON_IMAGE_PATH, 400, 150);
         ImageView howToPlayButtonImageView = new ImageView(howToPlayButtonImage);
         howToPlayButtonImageView.setFitWidth(400); // Set desired width
         howToPlayButtonImageView.setFitHeight(150); // Set desired height
@@ -102,16 +112,7 @@ public class WelcomeScreen extends Application {
         vbox.getChildren().addAll(startButton, howToPlayButton, quitButton);
         layout.getChildren().addAll(backgroundImageView, vbox);
 
-        // Create the scene with the layout, matching the game screen size
-        Scene scene = new Scene(layout, SCREEN_WIDTH, SCREEN_HEIGHT);
-
-        // Set up the stage (window) with the scene and show it
-        primaryStage.setTitle("Welcome to Sky Battle");
-        primaryStage.setScene(scene);
-        primaryStage.show();
-
-        // Consume space bar event on the scene
-        scene.addEventFilter(KeyEvent.KEY_PRESSED, event -> { if (event.getCode() == KeyCode.SPACE) { event.consume(); } });
+        return layout;
     }
 
     /**
@@ -137,13 +138,7 @@ public class WelcomeScreen extends Application {
      */
     // Method to show the How to Play screen
     private void showHowToPlayScreen(Stage primaryStage) {
-        HowToPlayScreen howToPlayScreen = new HowToPlayScreen();
-        try {
-            howToPlayScreen.start(primaryStage);
-        }
-        catch (Exception e) {
-            e.printStackTrace();
-        }
+        ScreenManager.forStage(primaryStage).show(MenuScreen.HOW_TO_PLAY);
     }
 
     /**
@@ -2,9 +2,10 @@ package com.example.demo.menus;
 
 
 import com.example.demo.menus.WelcomeScreen;
+import com.example.demo.assets.ImageLoader;
 import javafx.application.Application;
 import javafx.geometry.Pos;
-import javafx.scene.Scene;
+import javafx.scene.Parent;
 import javafx.scene.control.Button;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -30,26 +31,37 @@ public class YouWonScreen extends Application {
     private static final String MENU_BUTTON_IMAGE_PATH = "/com/example/demo/images/MenuButton.png";
 
     /**
-     * Starts the "You Won!" screen, which includes a background image and buttons for the player
-     * to either return to the menu or quit the game.
+     * Shows the "You Won!" screen, building it only the first time it is shown on the stage.
      *
      * @param primaryStage The primary stage (window) for the application.
      */
     @Override
     public void start(Stage primaryStage) {
+        ScreenManager.forStage(primaryStage).show(MenuScreen.YOU_WON);
+    }
+
+    /**
+     * Builds the "You Won!" screen, which includes a background image and buttons for the player
+     * to either return to the menu or quit the game. The {@link ScreenManager} wraps the layout in a scene
+     * and shows it.
+     *
+     * @param primaryStage The primary stage (window), which the buttons navigate on.
+     * @return The root of the layout.
+     */
+    Parent buildLayout(Stage primaryStage) {
         // Load the background image
-        Image backgroundImage = new Image(getClass().getResourceAsStream(BACKGROUND_IMAGE_PATH));
+        Image backgroundImage = ImageLoader.load(BACKGROUND_IMAGE_PATH, SCREEN_WIDTH, SCREEN_HEIGHT);
         ImageView backgroundImageView = new ImageView(backgroundImage);
         backgroundImageView.setFitWidth(SCREEN_WIDTH);
         backgroundImageView.setFitHeight(SCREEN_HEIGHT);
 
 
-        Image quitButtonImage = new Image(getClass().getResourceAsStream(QUIT_BUTTON_IMAGE_PATH));
+        Image quitButtonImage = ImageLoader.load(QUIT_BUTTON_IMAGE_PATH, 200, 100);
         ImageView quitButtonImageView = new ImageView(quitButtonImage);
         quitButtonImageView.setFitWidth(200); // Set desired width
         quitButtonImageView.setFitHeight(100); // Set desired height
 
-        Image menuButtonImage = new Image(getClass().getResourceAsStream(MENU_BUTTON_IMAGE_PATH));
+        Image menuButtonImage = ImageLoader.load(MENU_BUTTON_IMAGE_PATH, 200, 100);
         ImageView menuButtonImageView = new ImageView(menuButtonImage);
         menuButtonImageView.setFitWidth(200); // Set desired width
         menuButtonImageView.setFitHeight(100); // Set desired height
@@ -84,16 +96,7 @@ public class YouWonScreen extends Application {
         vbox.getChildren().addAll(menuButton, quitButton);
         layout.getChildren().addAll(backgroundImageView, vbox);
 
-        // Create the scene with the layout, matching the game screen size
-        Scene scene = new Scene(layout, SCREEN_WIDTH, SCREEN_HEIGHT);
-
-        // Set up the stage (window) with the scene and show it
-        primaryStage.setTitle("You Won!");
-        primaryStage.setScene(scene);
-        primaryStage.show();
-
-        // Consume space bar event on the scene
-        scene.addEventFilter(KeyEvent.KEY_PRESSED, event -> { if (event.getCode() == KeyCode.SPACE) { event.consume(); } });
+        return layout;
     }
 
 
@@ -103,12 +106,7 @@ public class YouWonScreen extends Application {
      * @param primaryStage The primary stage (window) for the application.
      */
     private void showMenuScreen(Stage primaryStage) {
-        try {
-            WelcomeScreen welcomeScreen = new WelcomeScreen();
-            welcomeScreen.start(primaryStage);
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        ScreenManager.forStage(primaryStage).show(MenuScreen.WELCOME);
     }
 
     /**
@@ -0,0 +1,154 @@
+package com.example.demo.profiling;
+
+import java.util.Arrays;
+
+/**
+ * The LatencyHistogram class records durations into fixed, logarithmically sized buckets.
+ * <p>
+ * Every power of two is split into {@value #SUB_BUCKETS} equal buckets, so any recorded value is reported to
+ * within about three percent. Recording is a few shifts and an array increment and never allocates, which
+ * makes it cheap enough to call several times per tick. The exact minimum, maximum and sum are kept as well.
+ * Values are assumed to be non-negative; anything above about 18 minutes lands in the last bucket.
+ * </p>
+ * <p>
+ * A histogram is not thread-safe and must only be recorded into from one thread.
+ * </p>
+ *
+ * @author Talya
+ */
+public final class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_EXPONENT = 40;
+	private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+	private final long[] counts;
+	private long count;
+	private long sum;
+	private long min;
+	private long max;
+
+	/**
+	 * Constructs an empty LatencyHistogram.
+	 */
+	public LatencyHistogram() {
+		this.counts = new long[BUCKET_COUNT];
+		reset();
+	}
+
+	/**
+	 * Records one value.
+	 *
+	 * @param value The value to record, typically a duration in nanoseconds.
+	 */
+	public void record(long value) {
+		long clamped = Math.max(0, value);
+		counts[bucketOf(clamped)]++;
+		count++;
+		sum += clamped;
+		min = Math.min(min, clamped);
+		max = Math.max(max, clamped);
+	}
+
+	/**
+	 * Removes every recorded value.
+	 */
+	public void reset() {
+		Arrays.fill(counts, 0);
+		count = 0;
+		sum = 0;
+		min = Long.MAX_VALUE;
+		max = 0;
+	}
+
+	/**
+	 * Gets the number of recorded values.
+	 *
+	 * @return The count.
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Gets the largest recorded value.
+	 *
+	 * @return The maximum, or zero if nothing was recorded.
+	 */
+	public long getMax() {
+		return max;
+	}
+
+	/**
+	 * Gets the smallest recorded value.
+	 *
+	 * @return The minimum, or zero if nothing was recorded.
+	 */
+	public long getMin() {
+		return count == 0 ? 0 : min;
+	}
+
+	/**
+	 * Gets the average of the recorded values.
+	 *
+	 * @return The mean, or zero if nothing was recorded.
+	 */
+	public double getMean() {
+		return count == 0 ? 0 : (double) sum / count;
+	}
+
+	/**
+	 * Gets the value below which the given share of recorded values fall.
+	 *
+	 * @param percentile The share, from 0 to 100.
+	 * @return The percentile, reported as the top of its bucket but never above the maximum,
+	 *         or zero if nothing was recorded.
+	 */
+	public long getPercentile(double percentile) {
+		if (count == 0) {
+			return 0;
+		}
+		long target = Math.max(1, (long) Math.ceil(count * Math.min(100, Math.max(0, percentile)) / 100));
+		long seen = 0;
+		for (int bucket = 0; bucket < counts.length; bucket++) {
+			seen += counts[bucket];
+			if (seen >= target) {
+				return Math.min(max, highestValueIn(bucket));
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * Finds the bucket a value belongs in.
+	 *
+	 * @param value The non-negative value.
+	 * @return The bucket index.
+	 */
+	private static int bucketOf(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int exponent = Math.min(63 - Long.numberOfLeadingZeros(value), MAX_EXPONENT);
+		int shift = exponent - SUB_BUCKET_BITS;
+		int subBucket = (int) Math.min((value >>> shift) - SUB_BUCKETS, SUB_BUCKETS - 1);
+		return (shift + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	/**
+	 * Gets the highest value that falls into a bucket.
+	 *
+	 * @param bucket The bucket index.
+	 * @return The bucket's upper bound.
+	 */
+	private static long highestValueIn(int bucket) {
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		int shift = bucket / SUB_BUCKETS - 1;
+		long subBucket = bucket % SUB_BUCKETS;
+		return ((SUB_BUCKETS + subBucket + 1) << shift) - 1;
+	}
+
+}
@@ -0,0 +1,217 @@
+package com.example.demo.profiling;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.example.demo.TickPhase;
+
+/**
+ * The TickProfiler class times every {@link TickPhase} of a level's ticks and the ticks as a whole.
+ * <p>
+ * Each phase has its own {@link LatencyHistogram}, from which the median, 99th percentile and maximum are
+ * reported. A tick that takes longer than the level's tick interval counts as an overrun, and the overrun is
+ * attributed to the phase that took longest in that tick, so a slow frame can be traced to a specific phase.
+ * </p>
+ * <p>
+ * When the level is shown, the time between displayed frames is recorded as well. It covers everything
+ * JavaFX does for a frame, including drawing the scene, so it is how the render modes are compared.
+ * </p>
+ * <p>
+ * The profiler is driven by the level: {@link #recordPhase(TickPhase, long)} after each phase and
+ * {@link #endTick()} once all phases have run. It must only be used from the thread that runs the level.
+ * </p>
+ *
+ * @author Talya
+ */
+public class TickProfiler {
+
+	private static final double NANOS_PER_MICRO = 1_000.0;
+	private static final TickPhase[] PHASES = TickPhase.values();
+	private static final String ROW_FORMAT = "%-28s %10s %10s %10s %10s %10s%n";
+
+	private final long budgetNanos;
+	private final Map<TickPhase, LatencyHistogram> phaseHistograms;
+	private final LatencyHistogram tickHistogram;
+	private final LatencyHistogram frameHistogram;
+	private final long[] currentTick;
+	private final long[] overrunsByPhase;
+	private long overruns;
+	private long lastTickNanos;
+
+	/**
+	 * Constructs a TickProfiler for a level with the given tick interval.
+	 *
+	 * @param budgetNanos The tick interval in nanoseconds; ticks that take longer count as overruns.
+	 */
+	public TickProfiler(long budgetNanos) {
+		this.budgetNanos = budgetNanos;
+		this.phaseHistograms = new EnumMap<>(TickPhase.class);
+		for (TickPhase phase : PHASES) {
+			phaseHistograms.put(phase, new LatencyHistogram());
+		}
+		this.tickHistogram = new LatencyHistogram();
+		this.frameHistogram = new LatencyHistogram();
+		this.currentTick = new long[PHASES.length];
+		this.overrunsByPhase = new long[PHASES.length];
+	}
+
+	/**
+	 * Records how long a phase of the current tick took.
+	 *
+	 * @param phase The phase.
+	 * @param nanos The phase's duration, in nanoseconds.
+	 */
+	public void recordPhase(TickPhase phase, long nanos) {
+		phaseHistograms.get(phase).record(nanos);
+		currentTick[phase.ordinal()] = nanos;
+	}
+
+	/**
+	 * Completes the current tick, recording its total duration and checking it against the tick interval.
+	 */
+	public void endTick() {
+		long total = 0;
+		int slowest = 0;
+		for (int i = 0; i < currentTick.length; i++) {
+			total += currentTick[i];
+			if (currentTick[i] > currentTick[slowest]) {
+				slowest = i;
+			}
+		}
+		tickHistogram.record(total);
+		lastTickNanos = total;
+		if (total > budgetNanos) {
+			overruns++;
+			overrunsByPhase[slowest]++;
+		}
+		Arrays.fill(currentTick, 0);
+	}
+
+	/**
+	 * Records the time since the previous displayed frame.
+	 *
+	 * @param nanos The frame interval, in nanoseconds.
+	 */
+	public void recordFrame(long nanos) {
+		frameHistogram.record(nanos);
+	}
+
+	/**
+	 * Gets the histogram of one phase.
+	 *
+	 * @param phase The phase.
+	 * @return The phase's durations, in nanoseconds.
+	 */
+	public LatencyHistogram getPhaseHistogram(TickPhase phase) {
+		return phaseHistograms.get(phase);
+	}
+
+	/**
+	 * Gets the histogram of whole ticks.
+	 *
+	 * @return The tick durations, in nanoseconds.
+	 */
+	public LatencyHistogram getTickHistogram() {
+		return tickHistogram;
+	}
+
+	/**
+	 * Gets the histogram of intervals between displayed frames. It is empty in headless mode.
+	 *
+	 * @return The frame intervals, in nanoseconds.
+	 */
+	public LatencyHistogram getFrameHistogram() {
+		return frameHistogram;
+	}
+
+	/**
+	 * Gets the duration of the most recently completed tick.
+	 *
+	 * @return The tick's duration, in nanoseconds, or zero if no tick has completed yet.
+	 */
+	public long getLastTickNanos() {
+		return lastTickNanos;
+	}
+
+	/**
+	 * Gets the number of ticks that took longer than the tick interval.
+	 *
+	 * @return The overrun count.
+	 */
+	public long getOverruns() {
+		return overruns;
+	}
+
+	/**
+	 * Gets the number of overrunning ticks in which the given phase was the slowest.
+	 *
+	 * @param phase The phase.
+	 * @return The number of overruns attributed to the phase.
+	 */
+	public long getOverruns(TickPhase phase) {
+		return overrunsByPhase[phase.ordinal()];
+	}
+
+	/**
+	 * Removes everything recorded so far.
+	 */
+	public void reset() {
+		phaseHistograms.values().forEach(LatencyHistogram::reset);
+		tickHistogram.reset();
+		frameHistogram.reset();
+		Arrays.fill(currentTick, 0);
+		Arrays.fill(overrunsByPhase, 0);
+		overruns = 0;
+		lastTickNanos = 0;
+	}
+
+	/**
+	 * Builds a table with the median, 99th percentile and maximum of every phase and of whole ticks,
+	 * together with the overruns attributed to each phase.
+	 *
+	 * @return The report, one line per phase.
+	 */
+	public String report() {
+		StringBuilder report = new StringBuilder();
+		report.append(String.format(ROW_FORMAT, "phase (us)", "p50", "p99", "max", "mean", "overruns"));
+		for (TickPhase phase : PHASES) {
+			appendRow(report, phase.name(), phaseHistograms.get(phase), overrunsByPhase[phase.ordinal()]);
+		}
+		appendRow(report, "TICK", tickHistogram, overruns);
+		if (frameHistogram.getCount() > 0) {
+			appendRow(report, "FRAME", frameHistogram, 0);
+		}
+		report.append(String.format("%d ticks, budget %.0f us per tick%n", tickHistogram.getCount(),
+				budgetNanos / NANOS_PER_MICRO));
+		return report.toString();
+	}
+
+	/**
+	 * Appends one row of the report.
+	 *
+	 * @param report The report being built.
+	 * @param name The name of the row.
+	 * @param histogram The durations to summarise.
+	 * @param overrunCount The overruns to show for the row.
+	 */
+	private static void appendRow(StringBuilder report, String name, LatencyHistogram histogram, long overrunCount) {
+		report.append(String.format(ROW_FORMAT, name,
+				micros(histogram.getPercentile(50)),
+				micros(histogram.getPercentile(99)),
+				micros(histogram.getMax()),
+				String.format("%.1f", histogram.getMean() / NANOS_PER_MICRO),
+				overrunCount));
+	}
+
+	/**
+	 * Formats a duration in microseconds.
+	 *
+	 * @param nanos The duration, in nanoseconds.
+	 * @return The formatted duration.
+	 */
+	private static String micros(long nanos) {
+		return String.format("%.1f", nanos / NANOS_PER_MICRO);
+	}
+
+}
@@ -0,0 +1,139 @@
+package com.example.demo.random;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * The RandomService class is the single source of randomness for a level.
+ * <p>
+ * It is created from one seed and hands out a separate generator per {@link RandomStream}. Each stream's seed is
+ * derived from the level seed and the stream's name alone, so the numbers a stream produces do not depend on
+ * which other streams exist or in what order they are first used. Running a level again with the same seed and
+ * the same player input therefore reproduces it exactly. Generators are not thread-safe; a stream must only be
+ * used from the thread that runs the level.
+ * </p>
+ * <p>
+ * Level seeds are derived in turn from a session seed and the level's class name. The session seed is taken from
+ * the {@code skybattle.seed} system property if it is set, and is otherwise picked at random when the game starts.
+ * </p>
+ *
+ * @author Talya
+ */
+public class RandomService {
+
+	private static final String SEED_PROPERTY = "skybattle.seed";
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+	private static volatile long sessionSeed = initialSessionSeed();
+
+	private final long seed;
+	private final Map<RandomStream, RandomGenerator> streams;
+
+	/**
+	 * Constructs a RandomService with the given seed.
+	 *
+	 * @param seed The seed all streams are derived from.
+	 */
+	public RandomService(long seed) {
+		this.seed = seed;
+		this.streams = new EnumMap<>(RandomStream.class);
+	}
+
+	/**
+	 * Constructs the RandomService for a level, seeded from the session seed and the level's class name.
+	 *
+	 * @param levelClass The class of the level.
+	 * @return A new RandomService for the level.
+	 */
+	public static RandomService forLevel(Class<?> levelClass) {
+		return new RandomService(mix(sessionSeed ^ mix(levelClass.getName().hashCode())));
+	}
+
+	/**
+	 * Sets the session seed that newly created levels derive their seeds from.
+	 *
+	 * @param seed The new session seed.
+	 */
+	public static void setSessionSeed(long seed) {
+		sessionSeed = seed;
+	}
+
+	/**
+	 * Gets the session seed that newly created levels derive their seeds from.
+	 *
+	 * @return The session seed.
+	 */
+	public static long getSessionSeed() {
+		return sessionSeed;
+	}
+
+	/**
+	 * Gets the seed this service was created with.
+	 *
+	 * @return The seed.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Gets the generator for a stream, creating it on first use.
+	 *
+	 * @param stream The stream.
+	 * @return The stream's generator; the same instance is returned on every call.
+	 */
+	public RandomGenerator stream(RandomStream stream) {
+		return streams.computeIfAbsent(stream, s -> new SplittableRandom(mix(seed ^ mix(s.name().hashCode()))));
+	}
+
+	/**
+	 * Shuffles a list in place with the given generator, using the Fisher-Yates algorithm.
+	 *
+	 * @param list The list to shuffle.
+	 * @param random The generator to draw from.
+	 */
+	public static void shuffle(List<?> list, RandomGenerator random) {
+		for (int i = list.size() - 1; i > 0; i--) {
+			swap(list, i, random.nextInt(i + 1));
+		}
+	}
+
+	/**
+	 * Swaps two elements of a list.
+	 *
+	 * @param list The list.
+	 * @param i The index of the first element.
+	 * @param j The index of the second element.
+	 * @param <T> The type of the list's elements.
+	 */
+	private static <T> void swap(List<T> list, int i, int j) {
+		list.set(i, list.set(j, list.get(i)));
+	}
+
+	/**
+	 * Scrambles a value into a well-distributed seed, using the SplitMix64 finalizer.
+	 *
+	 * @param value The value to scramble.
+	 * @return The scrambled value.
+	 */
+	private static long mix(long value) {
+		long z = value + GOLDEN_GAMMA;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * Picks the session seed at start-up, from the system property if it is set.
+	 *
+	 * @return The initial session seed.
+	 * @throws NumberFormatException If the system property is set but is not a number.
+	 */
+	private static long initialSessionSeed() {
+		String property = System.getProperty(SEED_PROPERTY);
+		return property != null ? Long.parseLong(property.trim()) : new SplittableRandom().nextLong();
+	}
+
+}
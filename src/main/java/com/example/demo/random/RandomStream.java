@@ -0,0 +1,29 @@
+package com.example.demo.random;
+
+/**
+ * The RandomStream enum names the independent random number streams a level draws from.
+ * <p>
+ * Each subsystem has a stream of its own, so changing how often one of them draws numbers does not
+ * shift the numbers any other one sees. Adding a constant never changes the existing streams.
+ * </p>
+ *
+ * @author Talya
+ */
+public enum RandomStream {
+
+	/**
+	 * When and where enemies appear.
+	 */
+	SPAWNING,
+
+	/**
+	 * When enemies and the boss fire on their own.
+	 */
+	ENEMY_FIRE,
+
+	/**
+	 * The boss's movement pattern.
+	 */
+	BOSS_MOVEMENT
+
+}
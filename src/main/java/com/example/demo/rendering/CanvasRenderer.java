@@ -0,0 +1,106 @@
+package com.example.demo.rendering;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.demo.actors.ActiveActor;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+/**
+ * The CanvasRenderer class draws a level's actors into a single {@link Canvas}.
+ * <p>
+ * The actors are registered as batches, one live actor list each, and drawn back to front in the order the
+ * batches were added. Every frame the canvas is cleared and each actor is drawn with one
+ * {@link GraphicsContext#drawImage(Image, double, double, double, double)} call at the point between its
+ * previous and current positions, exactly where the scene-graph renderer would have moved its node. Only the
+ * actor's image, viewport, position and size are read; its node is never part of the scene. A sprite from
+ * the sprite atlas is drawn from its region of the atlas image.
+ * </p>
+ * <p>
+ * The canvas itself is an ordinary node and is placed in the level's scene like one. Drawing must happen on
+ * the JavaFX application thread.
+ * </p>
+ *
+ * @author Talya
+ */
+public class CanvasRenderer {
+
+	private final Canvas canvas;
+	private final GraphicsContext graphics;
+	private final List<List<? extends ActiveActor>> batches;
+	private int lastDrawCount;
+
+	/**
+	 * Constructs a CanvasRenderer with an empty canvas of the given size.
+	 *
+	 * @param width The width of the canvas.
+	 * @param height The height of the canvas.
+	 */
+	public CanvasRenderer(double width, double height) {
+		this.canvas = new Canvas(width, height);
+		this.graphics = canvas.getGraphicsContext2D();
+		this.batches = new ArrayList<>();
+	}
+
+	/**
+	 * Gets the canvas the actors are drawn into.
+	 *
+	 * @return The canvas.
+	 */
+	public Canvas getCanvas() {
+		return canvas;
+	}
+
+	/**
+	 * Adds a list of actors to draw above every batch added before it. The list is read afresh every frame,
+	 * so actors added to or removed from it need no further registration.
+	 *
+	 * @param actors The actors.
+	 */
+	public void addBatch(List<? extends ActiveActor> actors) {
+		batches.add(actors);
+	}
+
+	/**
+	 * Clears the canvas and draws every actor.
+	 *
+	 * @param alpha How far the display is into the next tick, from 0 to 1.
+	 */
+	public void draw(double alpha) {
+		graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+		int drawn = 0;
+		for (List<? extends ActiveActor> batch : batches) {
+			for (int i = 0, size = batch.size(); i < size; i++) {
+				ActiveActor actor = batch.get(i);
+				Image image = actor.getImage();
+				if (image == null) {
+					continue;
+				}
+				Rectangle2D viewport = actor.getViewport();
+				if (viewport == null) {
+					graphics.drawImage(image, actor.getRenderX(alpha), actor.getRenderY(alpha),
+							actor.getWidth(), actor.getHeight());
+				} else {
+					graphics.drawImage(image, viewport.getMinX(), viewport.getMinY(), viewport.getWidth(),
+							viewport.getHeight(), actor.getRenderX(alpha), actor.getRenderY(alpha),
+							actor.getWidth(), actor.getHeight());
+				}
+				drawn++;
+			}
+		}
+		lastDrawCount = drawn;
+	}
+
+	/**
+	 * Gets the number of actors drawn in the last frame.
+	 *
+	 * @return The draw count.
+	 */
+	public int getLastDrawCount() {
+		return lastDrawCount;
+	}
+
+}
@@ -0,0 +1,299 @@
+package com.example.demo.replay;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import com.example.demo.LevelOutcome;
+
+/**
+ * The InputRecording class holds everything needed to play a level again exactly as it was played:
+ * the level, its seeds, its tick rate and every recorded key press and release with the tick it happened before.
+ * Once the level has ended it also holds the end state, so a replay can check that it got there too.
+ * <p>
+ * Recordings are stored in a compact binary file. After a short header each event takes a variable-length
+ * tick delta, usually a single byte, and one byte for the key and whether it was pressed or released.
+ * </p>
+ * <p>
+ * A recording is filled from the thread that runs the level and is not thread-safe.
+ * </p>
+ *
+ * @author Talya
+ */
+public class InputRecording {
+
+	private static final int MAGIC = 0x53425250; // "SBRP"
+	private static final int VERSION = 1;
+	private static final int INITIAL_CAPACITY = 256;
+	private static final int PRESSED_FLAG = 1;
+	private static final LevelOutcome[] OUTCOMES = LevelOutcome.values();
+
+	private final String levelClassName;
+	private final long sessionSeed;
+	private final long levelSeed;
+	private final int ticksPerSecond;
+	private long[] eventTicks;
+	private byte[] eventCodes;
+	private int eventCount;
+	private long endTick;
+	private LevelOutcome endOutcome;
+	private long endFingerprint;
+
+	/**
+	 * Constructs an empty InputRecording for a level.
+	 *
+	 * @param levelClassName The fully qualified name of the level class.
+	 * @param sessionSeed The session seed the level was created under.
+	 * @param levelSeed The seed the level derived from it.
+	 * @param ticksPerSecond The rate the level is simulated at.
+	 */
+	public InputRecording(String levelClassName, long sessionSeed, long levelSeed, int ticksPerSecond) {
+		this.levelClassName = levelClassName;
+		this.sessionSeed = sessionSeed;
+		this.levelSeed = levelSeed;
+		this.ticksPerSecond = ticksPerSecond;
+		this.eventTicks = new long[INITIAL_CAPACITY];
+		this.eventCodes = new byte[INITIAL_CAPACITY];
+		this.endOutcome = LevelOutcome.IN_PROGRESS;
+	}
+
+	/**
+	 * Records a key press or release.
+	 *
+	 * @param tick The number of ticks the level had run when the key event arrived.
+	 * @param key The key.
+	 * @param pressed {@code true} for a press, {@code false} for a release.
+	 * @throws IllegalArgumentException If the tick is before the previous event's tick.
+	 */
+	public void record(long tick, RecordedKey key, boolean pressed) {
+		if (eventCount > 0 && tick < eventTicks[eventCount - 1]) {
+			throw new IllegalArgumentException("Events must be recorded in tick order: " + tick);
+		}
+		if (eventCount == eventTicks.length) {
+			eventTicks = Arrays.copyOf(eventTicks, eventCount * 2);
+			eventCodes = Arrays.copyOf(eventCodes, eventCount * 2);
+		}
+		eventTicks[eventCount] = tick;
+		eventCodes[eventCount] = (byte) (key.ordinal() << 1 | (pressed ? PRESSED_FLAG : 0));
+		eventCount++;
+	}
+
+	/**
+	 * Records the state the level ended in.
+	 *
+	 * @param tick The number of ticks the level ran for.
+	 * @param outcome How the level ended.
+	 * @param fingerprint The level's state fingerprint after its last tick.
+	 */
+	public void finish(long tick, LevelOutcome outcome, long fingerprint) {
+		this.endTick = tick;
+		this.endOutcome = outcome;
+		this.endFingerprint = fingerprint;
+	}
+
+	/**
+	 * Gets the fully qualified name of the recorded level's class.
+	 *
+	 * @return The class name.
+	 */
+	public String getLevelClassName() {
+		return levelClassName;
+	}
+
+	/**
+	 * Gets the session seed the level was created under.
+	 *
+	 * @return The session seed.
+	 */
+	public long getSessionSeed() {
+		return sessionSeed;
+	}
+
+	/**
+	 * Gets the seed of the recorded level.
+	 *
+	 * @return The level seed.
+	 */
+	public long getLevelSeed() {
+		return levelSeed;
+	}
+
+	/**
+	 * Gets the rate the recorded level was simulated at.
+	 *
+	 * @return The tick rate, in ticks per second.
+	 */
+	public int getTicksPerSecond() {
+		return ticksPerSecond;
+	}
+
+	/**
+	 * Gets the number of recorded key events.
+	 *
+	 * @return The event count.
+	 */
+	public int getEventCount() {
+		return eventCount;
+	}
+
+	/**
+	 * Gets the tick before which an event happened.
+	 *
+	 * @param index The event's index.
+	 * @return The number of ticks the level had run when the event arrived.
+	 */
+	public long getEventTick(int index) {
+		return eventTicks[index];
+	}
+
+	/**
+	 * Gets the key of an event.
+	 *
+	 * @param index The event's index.
+	 * @return The key.
+	 */
+	public RecordedKey getEventKey(int index) {
+		return RecordedKey.fromOrdinal(eventCodes[index] >> 1);
+	}
+
+	/**
+	 * Checks whether an event was a press or a release.
+	 *
+	 * @param index The event's index.
+	 * @return {@code true} for a press, {@code false} for a release.
+	 */
+	public boolean isEventPressed(int index) {
+		return (eventCodes[index] & PRESSED_FLAG) != 0;
+	}
+
+	/**
+	 * Gets the number of ticks the level ran for.
+	 *
+	 * @return The final tick count.
+	 */
+	public long getEndTick() {
+		return endTick;
+	}
+
+	/**
+	 * Gets how the level ended.
+	 *
+	 * @return The outcome, or {@link LevelOutcome#IN_PROGRESS} if the recording was never finished.
+	 */
+	public LevelOutcome getEndOutcome() {
+		return endOutcome;
+	}
+
+	/**
+	 * Gets the level's state fingerprint after its last tick.
+	 *
+	 * @return The fingerprint.
+	 */
+	public long getEndFingerprint() {
+		return endFingerprint;
+	}
+
+	/**
+	 * Writes the recording to a file, replacing the file if it exists.
+	 *
+	 * @param file The file to write.
+	 * @throws IOException If the file cannot be written.
+	 */
+	public void write(Path file) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+			out.writeInt(MAGIC);
+			out.writeByte(VERSION);
+			out.writeUTF(levelClassName);
+			out.writeLong(sessionSeed);
+			out.writeLong(levelSeed);
+			writeVarLong(out, ticksPerSecond);
+			writeVarLong(out, eventCount);
+			long previousTick = 0;
+			for (int i = 0; i < eventCount; i++) {
+				writeVarLong(out, eventTicks[i] - previousTick);
+				out.writeByte(eventCodes[i]);
+				previousTick = eventTicks[i];
+			}
+			writeVarLong(out, endTick);
+			out.writeByte(endOutcome.ordinal());
+			out.writeLong(endFingerprint);
+		}
+	}
+
+	/**
+	 * Reads a recording from a file.
+	 *
+	 * @param file The file to read.
+	 * @return The recording.
+	 * @throws IOException If the file cannot be read or is not a recording this version understands.
+	 */
+	public static InputRecording read(Path file) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != MAGIC) {
+				throw new IOException("Not an input recording: " + file);
+			}
+			int version = in.readUnsignedByte();
+			if (version != VERSION) {
+				throw new IOException("Unsupported input recording version " + version + ": " + file);
+			}
+			InputRecording recording = new InputRecording(in.readUTF(), in.readLong(), in.readLong(),
+					(int) readVarLong(in));
+			long eventCount = readVarLong(in);
+			long tick = 0;
+			for (long i = 0; i < eventCount; i++) {
+				tick += readVarLong(in);
+				byte code = in.readByte();
+				recording.record(tick, RecordedKey.fromOrdinal(code >> 1), (code & PRESSED_FLAG) != 0);
+			}
+			long endTick = readVarLong(in);
+			int outcome = in.readUnsignedByte();
+			if (outcome >= OUTCOMES.length) {
+				throw new IOException("Unknown outcome " + outcome + ": " + file);
+			}
+			recording.finish(endTick, OUTCOMES[outcome], in.readLong());
+			return recording;
+		} catch (IllegalArgumentException e) {
+			throw new IOException("Corrupt input recording: " + file, e);
+		}
+	}
+
+	/**
+	 * Writes a non-negative number seven bits at a time, lowest bits first.
+	 *
+	 * @param out The stream to write to.
+	 * @param value The number.
+	 * @throws IOException If the stream cannot be written.
+	 */
+	private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int) (value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte((int) value);
+	}
+
+	/**
+	 * Reads a number written by {@link #writeVarLong(DataOutputStream, long)}.
+	 *
+	 * @param in The stream to read from.
+	 * @return The number.
+	 * @throws IOException If the stream cannot be read or the number is malformed.
+	 */
+	private static long readVarLong(DataInputStream in) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < Long.SIZE; shift += 7) {
+			int b = in.readUnsignedByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Malformed number in input recording");
+	}
+
+}
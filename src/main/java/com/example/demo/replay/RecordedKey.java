@@ -0,0 +1,79 @@
+package com.example.demo.replay;
+
+import javafx.scene.input.KeyCode;
+
+/**
+ * The RecordedKey enum lists the keys that affect a level and are therefore recorded.
+ * Keys are stored by their position in this enum, so new keys must only ever be added at the end.
+ *
+ * @author Talya
+ */
+public enum RecordedKey {
+
+	/**
+	 * Moves the user plane up.
+	 */
+	UP(KeyCode.UP),
+
+	/**
+	 * Moves the user plane down.
+	 */
+	DOWN(KeyCode.DOWN),
+
+	/**
+	 * Fires a projectile.
+	 */
+	SPACE(KeyCode.SPACE);
+
+	private static final RecordedKey[] KEYS = values();
+
+	private final KeyCode keyCode;
+
+	/**
+	 * Constructs a RecordedKey for a JavaFX key code.
+	 *
+	 * @param keyCode The key code.
+	 */
+	RecordedKey(KeyCode keyCode) {
+		this.keyCode = keyCode;
+	}
+
+	/**
+	 * Gets the JavaFX key code of this key.
+	 *
+	 * @return The key code.
+	 */
+	public KeyCode getKeyCode() {
+		return keyCode;
+	}
+
+	/**
+	 * Finds the recorded key for a JavaFX key code.
+	 *
+	 * @param keyCode The key code.
+	 * @return The matching key, or {@code null} if the key is not recorded.
+	 */
+	public static RecordedKey of(KeyCode keyCode) {
+		for (RecordedKey key : KEYS) {
+			if (key.keyCode == keyCode) {
+				return key;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Finds the recorded key stored under a number.
+	 *
+	 * @param ordinal The stored number.
+	 * @return The key.
+	 * @throws IllegalArgumentException If no key is stored under the number.
+	 */
+	static RecordedKey fromOrdinal(int ordinal) {
+		if (ordinal < 0 || ordinal >= KEYS.length) {
+			throw new IllegalArgumentException("Unknown recorded key: " + ordinal);
+		}
+		return KEYS[ordinal];
+	}
+
+}
@@ -0,0 +1,147 @@
+package com.example.demo.replay;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.locks.LockSupport;
+
+import com.example.demo.LevelOutcome;
+import com.example.demo.LevelParent;
+import com.example.demo.logging.GameLog;
+import com.example.demo.random.RandomService;
+import com.example.demo.simulation.HeadlessRunner;
+import com.example.demo.simulation.SimulationResult;
+
+/**
+ * The ReplayRunner class plays an {@link InputRecording} back headlessly and checks that the level ends in
+ * the recorded state.
+ * <p>
+ * The level is recreated under the recorded session seed, and every recorded key event is applied before the
+ * tick it originally arrived before. By default the replay runs as fast as the CPU allows, which turns a
+ * recorded session into a repeatable benchmark; with {@code --realtime} it is paced at the level's tick rate.
+ * </p>
+ * <p>
+ * Usage: {@code ReplayRunner recordingFile [--realtime]}. The process exits with status 1 if the replay ends
+ * in a different state than the recording.
+ * </p>
+ *
+ * @author Talya
+ */
+public class ReplayRunner {
+
+	private static final String REALTIME_OPTION = "--realtime";
+	private static final String PRISM_ORDER_PROPERTY = "prism.order";
+	private static final String SOFTWARE_PIPELINE = "sw";
+	private static final long LOG_FLUSH_TIMEOUT_MILLIS = 1000;
+	private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+	private final InputRecording recording;
+	private final LevelParent level;
+	private final boolean realtime;
+
+	/**
+	 * Constructs a ReplayRunner for a recording and a level that was created for it in headless mode.
+	 *
+	 * @param recording The recording to play back.
+	 * @param level The freshly created level.
+	 * @param realtime {@code true} to pace the replay at the level's tick rate, {@code false} to run unthrottled.
+	 * @throws IllegalArgumentException If the level does not match the recording's seed or tick rate.
+	 */
+	public ReplayRunner(InputRecording recording, LevelParent level, boolean realtime) {
+		if (level.getRandom().getSeed() != recording.getLevelSeed()) {
+			throw new IllegalArgumentException("Level seed " + level.getRandom().getSeed()
+					+ " does not match the recorded seed " + recording.getLevelSeed());
+		}
+		if (Math.round(1 / level.getStepSeconds()) != recording.getTicksPerSecond()) {
+			throw new IllegalArgumentException("Level runs at " + Math.round(1 / level.getStepSeconds())
+					+ " ticks per second but was recorded at " + recording.getTicksPerSecond());
+		}
+		this.recording = recording;
+		this.level = level;
+		this.realtime = realtime;
+	}
+
+	/**
+	 * Plays the recording back until the level ends or the recorded tick count is reached.
+	 *
+	 * @return The result of the replay.
+	 */
+	public SimulationResult run() {
+		long stepNanos = Math.round(level.getStepSeconds() * NANOS_PER_SECOND);
+		long startTime = System.nanoTime();
+		int nextEvent = 0;
+		while (level.getOutcome() == LevelOutcome.IN_PROGRESS && level.getTickCount() < recording.getEndTick()) {
+			long tick = level.getTickCount();
+			while (nextEvent < recording.getEventCount() && recording.getEventTick(nextEvent) == tick) {
+				applyEvent(nextEvent++);
+			}
+			if (realtime) {
+				LockSupport.parkNanos(startTime + tick * stepNanos - System.nanoTime());
+			}
+			level.updateScene();
+		}
+		return new SimulationResult(level.getOutcome(), level.getTickCount(), System.nanoTime() - startTime);
+	}
+
+	/**
+	 * Checks whether the level ended in the recorded state.
+	 *
+	 * @return {@code true} if the outcome, tick count and state fingerprint all match the recording.
+	 */
+	public boolean matchesRecording() {
+		return level.getOutcome() == recording.getEndOutcome()
+				&& level.getTickCount() == recording.getEndTick()
+				&& level.getStateFingerprint() == recording.getEndFingerprint();
+	}
+
+	/**
+	 * Applies one recorded key event to the level.
+	 *
+	 * @param index The event's index in the recording.
+	 */
+	private void applyEvent(int index) {
+		RecordedKey key = recording.getEventKey(index);
+		if (recording.isEventPressed(index)) {
+			level.handleKeyPressed(key.getKeyCode());
+		} else {
+			level.handleKeyReleased(key.getKeyCode());
+		}
+	}
+
+	/**
+	 * Replays a recording and prints whether it reached the recorded end state.
+	 *
+	 * @param args The recording file, optionally followed by {@code --realtime}.
+	 * @throws IOException If the recording cannot be read.
+	 * @throws IllegalArgumentException If the recorded level is not registered.
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length == 0) {
+			System.err.println("Usage: ReplayRunner recordingFile [" + REALTIME_OPTION + "]");
+			System.exit(2);
+		}
+		// JavaFX classes still load the toolkit; stop it from probing for a GPU that is not there
+		System.setProperty(PRISM_ORDER_PROPERTY, SOFTWARE_PIPELINE);
+		InputRecording recording = InputRecording.read(Path.of(args[0]));
+		boolean realtime = args.length > 1 && REALTIME_OPTION.equals(args[1]);
+		RandomService.setSessionSeed(recording.getSessionSeed());
+
+		LevelParent level = HeadlessRunner.createLevel(recording.getLevelClassName());
+		ReplayRunner runner = new ReplayRunner(recording, level, realtime);
+		SimulationResult result = runner.run();
+		// Let the level's own log messages come out before the report
+		GameLog.flush(LOG_FLUSH_TIMEOUT_MILLIS);
+		System.out.println(recording.getLevelClassName() + ": " + result + ", " + recording.getEventCount()
+				+ " key events");
+		if (runner.matchesRecording()) {
+			System.out.println("Replay matches the recording.");
+		} else {
+			System.out.println("Replay diverged: expected " + recording.getEndOutcome() + " after "
+					+ recording.getEndTick() + " ticks with fingerprint "
+					+ Long.toHexString(recording.getEndFingerprint()) + ", got " + level.getOutcome() + " after "
+					+ level.getTickCount() + " ticks with fingerprint "
+					+ Long.toHexString(level.getStateFingerprint()));
+			System.exit(1);
+		}
+	}
+
+}
@@ -0,0 +1,123 @@
+package com.example.demo.simulation;
+
+import java.util.function.DoubleConsumer;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * The FixedStepLoop class drives a level at a fixed simulation rate from the display's frame pulse.
+ * <p>
+ * Every frame the time that has passed since the previous frame is added to an accumulator, and the
+ * simulation is stepped as many times as whole steps fit into it. Whatever is left over is handed to the
+ * render callback as a fraction of a step, so actors can be drawn between their previous and current
+ * positions. The simulation therefore behaves the same whether the display runs at 30, 60 or 144 Hz.
+ * </p>
+ * <p>
+ * A frame that arrives very late, for example after the window was dragged or the machine stalled, is
+ * cut down to {@link #MAX_FRAME_SECONDS} so the loop does not try to catch up with hundreds of steps at once.
+ * </p>
+ * <p>
+ * The underlying {@link AnimationTimer} needs the JavaFX toolkit, so it is only created the first time the
+ * loop is started. A loop that is never started, as in headless mode, never touches the toolkit.
+ * </p>
+ *
+ * @author Talya
+ */
+public class FixedStepLoop {
+
+	private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+	private static final double MAX_FRAME_SECONDS = 0.25;
+
+	private final double stepSeconds;
+	private final Runnable step;
+	private final DoubleConsumer render;
+	private AnimationTimer timer;
+	private boolean running;
+	private long lastFrameNanos;
+	private double accumulator;
+
+	/**
+	 * Constructs a FixedStepLoop that is not running yet.
+	 *
+	 * @param ticksPerSecond The number of simulation steps per second.
+	 * @param step Advances the simulation by one step.
+	 * @param render Draws the current state, given how far the display is into the next step, from 0 to 1.
+	 * @throws IllegalArgumentException If the rate is not positive.
+	 */
+	public FixedStepLoop(int ticksPerSecond, Runnable step, DoubleConsumer render) {
+		if (ticksPerSecond <= 0) {
+			throw new IllegalArgumentException("Ticks per second must be positive: " + ticksPerSecond);
+		}
+		this.stepSeconds = 1.0 / ticksPerSecond;
+		this.step = step;
+		this.render = render;
+	}
+
+	/**
+	 * Starts stepping the simulation on every display frame.
+	 */
+	public void start() {
+		if (timer == null) {
+			timer = new AnimationTimer() {
+				@Override
+				public void handle(long now) {
+					advance(now);
+				}
+			};
+		}
+		running = true;
+		lastFrameNanos = -1;
+		accumulator = 0;
+		timer.start();
+	}
+
+	/**
+	 * Stops the loop. It is safe to call this from inside a simulation step, in which case no further
+	 * steps are run for the current frame.
+	 */
+	public void stop() {
+		running = false;
+		if (timer != null) {
+			timer.stop();
+		}
+	}
+
+	/**
+	 * Checks whether the loop is running.
+	 *
+	 * @return {@code true} if the loop has been started and not stopped since, {@code false} otherwise.
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Gets the length of one simulation step.
+	 *
+	 * @return The step length, in seconds.
+	 */
+	public double getStepSeconds() {
+		return stepSeconds;
+	}
+
+	/**
+	 * Runs the simulation steps that are due at the given frame time and renders the result.
+	 *
+	 * @param now The timestamp of the current frame, in nanoseconds.
+	 */
+	private void advance(long now) {
+		if (lastFrameNanos < 0) {
+			lastFrameNanos = now;
+			return;
+		}
+		double frameSeconds = Math.min((now - lastFrameNanos) / NANOS_PER_SECOND, MAX_FRAME_SECONDS);
+		lastFrameNanos = now;
+		accumulator += frameSeconds;
+		while (running && accumulator >= stepSeconds) {
+			step.run();
+			accumulator -= stepSeconds;
+		}
+		render.accept(Math.min(accumulator / stepSeconds, 1.0));
+	}
+
+}
@@ -0,0 +1,208 @@
+package com.example.demo.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+
+/**
+ * The GameScheduler class runs a level's periodic tasks, each at its own rate, from the level's simulation tick.
+ * <p>
+ * The level's tick is the master clock: every call to {@link #tick()} advances each task by one tick's worth of
+ * its rate, and runs the task once whenever a whole period has built up. A task at 20 runs per second in a level
+ * simulated at 60 ticks per second therefore runs on every third tick. Because time is counted in ticks rather
+ * than read from a clock, the tasks run at exactly the same ticks in a headless run, a replay and the game.
+ * Tasks run in the order they were scheduled, on the thread that runs the level.
+ * </p>
+ * <p>
+ * The scheduler belongs to one level and is {@link #dispose() disposed} together with it, which cancels every
+ * task that is still scheduled. Anything that still uses the scheduler after that, whether by scheduling a task
+ * or by ticking it, has outlived its level; it is reported in the log as a leak and otherwise ignored.
+ * </p>
+ *
+ * @author Talya
+ */
+public class GameScheduler {
+
+	private final String owner;
+	private final int ticksPerSecond;
+	private final List<ScheduledTask> tasks;
+	private boolean disposed;
+	private boolean leakReported;
+
+	/**
+	 * Constructs a GameScheduler with no tasks.
+	 *
+	 * @param owner The name of the level that owns the scheduler, used in log messages.
+	 * @param ticksPerSecond The rate at which the scheduler is ticked.
+	 * @throws IllegalArgumentException If the rate is not positive.
+	 */
+	public GameScheduler(String owner, int ticksPerSecond) {
+		if (ticksPerSecond <= 0) {
+			throw new IllegalArgumentException("Ticks per second must be positive: " + ticksPerSecond);
+		}
+		this.owner = owner;
+		this.ticksPerSecond = ticksPerSecond;
+		this.tasks = new ArrayList<>();
+	}
+
+	/**
+	 * Schedules a task to run at a fixed rate, starting from the next tick. The first run happens once a whole
+	 * period has passed.
+	 *
+	 * @param name The name of the task, used in log messages.
+	 * @param runsPerSecond How often the task runs. It can be at most the tick rate.
+	 * @param task The task.
+	 * @return The scheduled task, which can be used to cancel it. If the scheduler has been disposed, the task
+	 *         is reported as a leak and returned already cancelled.
+	 * @throws IllegalArgumentException If the rate is not positive or is faster than the tick rate.
+	 */
+	public ScheduledTask schedule(String name, double runsPerSecond, Runnable task) {
+		if (!(runsPerSecond > 0) || runsPerSecond > ticksPerSecond) {
+			throw new IllegalArgumentException("Task " + name + " must run between 0 and " + ticksPerSecond
+					+ " times per second: " + runsPerSecond);
+		}
+		ScheduledTask scheduled = new ScheduledTask(name, runsPerSecond, ticksPerSecond, task);
+		if (disposed) {
+			scheduled.cancel();
+			GameLog.warn(LogCategory.LEVEL, "Leak: task {} was scheduled after {} was disposed.", name, owner);
+			return scheduled;
+		}
+		tasks.add(scheduled);
+		return scheduled;
+	}
+
+	/**
+	 * Advances every task by one tick and runs those that are due. Tasks scheduled while this runs start on the
+	 * next tick, and cancelled tasks are dropped.
+	 */
+	public void tick() {
+		if (disposed) {
+			if (!leakReported) {
+				leakReported = true;
+				GameLog.warn(LogCategory.LEVEL, "Leak: the scheduler of {} is still being ticked after the level was "
+						+ "disposed.", owner);
+			}
+			return;
+		}
+		int size = tasks.size();
+		for (int i = 0; i < size; i++) {
+			tasks.get(i).advance();
+		}
+		tasks.removeIf(ScheduledTask::isCancelled);
+	}
+
+	/**
+	 * Gets the number of tasks that are scheduled and not cancelled.
+	 *
+	 * @return The number of active tasks.
+	 */
+	public int getActiveTaskCount() {
+		int count = 0;
+		for (ScheduledTask task : tasks) {
+			if (!task.isCancelled()) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Cancels every task and stops the scheduler. Calling it again has no effect.
+	 */
+	public void dispose() {
+		if (disposed) {
+			return;
+		}
+		disposed = true;
+		List<String> cancelled = new ArrayList<>();
+		for (ScheduledTask task : tasks) {
+			if (!task.isCancelled()) {
+				task.cancel();
+				cancelled.add(task.getName());
+			}
+		}
+		tasks.clear();
+		GameLog.debug(LogCategory.LEVEL, "Scheduler of {} disposed, cancelled tasks: {}", owner, cancelled);
+	}
+
+	/**
+	 * Checks whether the scheduler has been disposed.
+	 *
+	 * @return {@code true} if {@link #dispose()} has been called.
+	 */
+	public boolean isDisposed() {
+		return disposed;
+	}
+
+	/**
+	 * A task that runs at a fixed rate until it is cancelled.
+	 */
+	public static final class ScheduledTask {
+
+		private final String name;
+		private final double runsPerSecond;
+		private final int ticksPerSecond;
+		private final Runnable task;
+		private double credit;
+		private boolean cancelled;
+
+		/**
+		 * Constructs a ScheduledTask.
+		 *
+		 * @param name The name of the task.
+		 * @param runsPerSecond How often the task runs.
+		 * @param ticksPerSecond The rate at which the task is advanced.
+		 * @param task The task.
+		 */
+		private ScheduledTask(String name, double runsPerSecond, int ticksPerSecond, Runnable task) {
+			this.name = name;
+			this.runsPerSecond = runsPerSecond;
+			this.ticksPerSecond = ticksPerSecond;
+			this.task = task;
+		}
+
+		/**
+		 * Advances the task by one tick, running it if a whole period has built up.
+		 */
+		private void advance() {
+			if (cancelled) {
+				return;
+			}
+			// Counted in runs per second rather than fractions of a run, so whole-number rates never round
+			credit += runsPerSecond;
+			if (credit >= ticksPerSecond) {
+				credit -= ticksPerSecond;
+				task.run();
+			}
+		}
+
+		/**
+		 * Stops the task from running again. It is safe to call this from inside the task.
+		 */
+		public void cancel() {
+			cancelled = true;
+		}
+
+		/**
+		 * Checks whether the task has been cancelled.
+		 *
+		 * @return {@code true} if the task will not run again.
+		 */
+		public boolean isCancelled() {
+			return cancelled;
+		}
+
+		/**
+		 * Gets the name of the task.
+		 *
+		 * @return The name.
+		 */
+		public String getName() {
+			return name;
+		}
+
+	}
+
+}
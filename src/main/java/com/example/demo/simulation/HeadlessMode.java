@@ -0,0 +1,43 @@
+package com.example.demo.simulation;
+
+/**
+ * The HeadlessMode class holds the switch that decides whether the game runs with or without
+ * a JavaFX toolkit. When headless mode is enabled, levels never create a {@code Scene}, never decode
+ * images and never start a {@code Timeline}; the game logic is advanced directly by a
+ * {@link HeadlessRunner} instead.
+ *
+ * Headless mode can be enabled programmatically or by starting the JVM with
+ * {@code -Dskybattle.headless=true}.
+ *
+ * @author Talya
+ */
+public final class HeadlessMode {
+
+	private static final String HEADLESS_PROPERTY = "skybattle.headless";
+	private static volatile boolean enabled = Boolean.getBoolean(HEADLESS_PROPERTY);
+
+	/**
+	 * Prevents instantiation of this utility class.
+	 */
+	private HeadlessMode() {
+	}
+
+	/**
+	 * Checks whether the game is running without a JavaFX toolkit.
+	 *
+	 * @return {@code true} if headless mode is enabled, {@code false} otherwise.
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Enables or disables headless mode. This must be called before any level or actor is created.
+	 *
+	 * @param headless {@code true} to run without a JavaFX toolkit, {@code false} to render normally.
+	 */
+	public static void setEnabled(boolean headless) {
+		enabled = headless;
+	}
+
+}
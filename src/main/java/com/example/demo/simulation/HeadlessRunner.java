@@ -0,0 +1,111 @@
+package com.example.demo.simulation;
+
+import com.example.demo.LevelOutcome;
+import com.example.demo.LevelParent;
+import com.example.demo.LevelRegistry;
+import com.example.demo.actors.BossProjectile;
+import com.example.demo.actors.EnemyProjectile;
+import com.example.demo.actors.PowerUp;
+import com.example.demo.actors.UserProjectile;
+import com.example.demo.logging.GameLog;
+import com.example.demo.random.RandomService;
+import javafx.scene.input.KeyCode;
+
+/**
+ * The HeadlessRunner class plays a level without a JavaFX toolkit, as fast as the CPU allows.
+ * It is meant for soak-testing and tuning levels on machines that have no display.
+ * <p>
+ * Usage: {@code HeadlessRunner [levelClassName] [maxTicks] [autoFireInterval] [seed]}. The level defaults to
+ * LevelOne. When {@code autoFireInterval} is greater than zero the user plane fires every that many ticks,
+ * otherwise it never fires. Runs with the same seed and arguments play out identically.
+ * </p>
+ *
+ * @author Talya
+ */
+public class HeadlessRunner {
+
+	private static final double SCREEN_WIDTH = 1300;
+	private static final double SCREEN_HEIGHT = 750;
+	private static final String DEFAULT_LEVEL_CLASS_NAME = "com.example.demo.levels.LevelOne";
+	private static final long DEFAULT_MAX_TICKS = 100_000;
+	private static final int DEFAULT_AUTO_FIRE_INTERVAL = 5;
+	private static final String PRISM_ORDER_PROPERTY = "prism.order";
+	private static final String SOFTWARE_PIPELINE = "sw";
+	private static final long LOG_FLUSH_TIMEOUT_MILLIS = 1000;
+
+	private final LevelParent level;
+	private final int autoFireInterval;
+
+	/**
+	 * Constructs a HeadlessRunner for a level that was created in headless mode.
+	 *
+	 * @param level The level to simulate.
+	 * @param autoFireInterval The number of ticks between automatic shots, or zero to never fire.
+	 */
+	public HeadlessRunner(LevelParent level, int autoFireInterval) {
+		this.level = level;
+		this.autoFireInterval = autoFireInterval;
+	}
+
+	/**
+	 * Simulates the level until it ends or the tick limit is reached.
+	 *
+	 * @param maxTicks The maximum number of ticks to simulate.
+	 * @return The result of the run.
+	 */
+	public SimulationResult run(long maxTicks) {
+		long startTime = System.nanoTime();
+		long ticks = 0;
+		while (level.getOutcome() == LevelOutcome.IN_PROGRESS && ticks < maxTicks) {
+			if (autoFireInterval > 0 && ticks % autoFireInterval == 0) {
+				level.handleKeyPressed(KeyCode.SPACE);
+			}
+			level.updateScene();
+			ticks++;
+		}
+		return new SimulationResult(level.getOutcome(), ticks, System.nanoTime() - startTime);
+	}
+
+	/**
+	 * Creates and initializes a level in headless mode, through the same level registry the Controller uses.
+	 *
+	 * @param className The level id, the fully qualified name of the class representing the level.
+	 * @return The initialized level, ready to be simulated.
+	 * @throws IllegalArgumentException If no level is registered under the id.
+	 */
+	public static LevelParent createLevel(String className) {
+		HeadlessMode.setEnabled(true);
+		LevelParent level = LevelRegistry.getInstance().create(className, SCREEN_HEIGHT, SCREEN_WIDTH, null);
+		level.initializeScene();
+		return level;
+	}
+
+	/**
+	 * Runs a single level headlessly and prints the result together with the projectile pool statistics.
+	 *
+	 * @param args Optional level class name, tick limit, auto-fire interval and session seed.
+	 * @throws IllegalArgumentException If the level is not registered.
+	 */
+	public static void main(String[] args) {
+		// JavaFX classes still load the toolkit; stop it from probing for a GPU that is not there
+		System.setProperty(PRISM_ORDER_PROPERTY, SOFTWARE_PIPELINE);
+		String className = args.length > 0 ? args[0] : DEFAULT_LEVEL_CLASS_NAME;
+		long maxTicks = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_MAX_TICKS;
+		int autoFireInterval = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_AUTO_FIRE_INTERVAL;
+		if (args.length > 3) {
+			RandomService.setSessionSeed(Long.parseLong(args[3]));
+		}
+
+		LevelParent level = createLevel(className);
+		SimulationResult result = new HeadlessRunner(level, autoFireInterval).run(maxTicks);
+		// Let the level's own log messages come out before the report
+		GameLog.flush(LOG_FLUSH_TIMEOUT_MILLIS);
+		System.out.println(className + ": " + result + " seed=" + RandomService.getSessionSeed());
+		System.out.println(UserProjectile.getPool());
+		System.out.println(EnemyProjectile.getPool());
+		System.out.println(BossProjectile.getPool());
+		PowerUp.getPools().forEach(System.out::println);
+		System.out.println("Culled off-screen: " + level.getCulledActorCounts());
+	}
+
+}
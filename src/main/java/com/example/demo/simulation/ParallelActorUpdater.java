@@ -0,0 +1,147 @@
+package com.example.demo.simulation;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.example.demo.actors.ActiveActorDestructible;
+
+/**
+ * The ParallelActorUpdater class advances a list of actors by one tick, splitting large lists across a
+ * fork/join pool.
+ * <p>
+ * Only actors whose {@link ActiveActorDestructible#isUpdateIsolated()} returns {@code true} are updated in
+ * parallel. Such an actor reads and writes nothing but its own simulation state, so the order in which these
+ * actors are updated cannot change the result, and a tick produces exactly the same state with any number of
+ * threads. Every other actor is updated afterwards on the calling thread, in list order. Updates never touch
+ * the scene graph; the new positions reach the JavaFX nodes in one step when the level renders.
+ * </p>
+ * <p>
+ * Lists shorter than {@value #PARALLEL_THRESHOLD} actors are updated sequentially, since splitting them costs
+ * more than it saves. The number of threads used by the shared updater is taken from the
+ * {@code skybattle.updateThreads} system property; it defaults to 1, which updates every list sequentially.
+ * The property is read whenever a level asks for the shared updater, so a level built after it changes gets an
+ * updater with the new thread count.
+ * </p>
+ *
+ * @author Talya
+ */
+public class ParallelActorUpdater {
+
+	private static final String THREADS_PROPERTY = "skybattle.updateThreads";
+	private static final int PARALLEL_THRESHOLD = 1024;
+	private static final int CHUNK_SIZE = 256;
+	private static volatile ParallelActorUpdater shared;
+
+	private final ForkJoinPool pool;
+	private final int threads;
+
+	/**
+	 * Constructs a ParallelActorUpdater with its own pool.
+	 *
+	 * @param threads The number of threads to update actors on; 1 or less updates sequentially.
+	 */
+	public ParallelActorUpdater(int threads) {
+		this.threads = Math.max(1, threads);
+		this.pool = this.threads > 1 ? new ForkJoinPool(this.threads) : null;
+	}
+
+	/**
+	 * Gets the updater shared by all levels, creating it on first use, or when the configured number of threads
+	 * has changed since it was created.
+	 *
+	 * @return The shared updater.
+	 */
+	public static ParallelActorUpdater shared() {
+		int configured = Math.max(1, Integer.getInteger(THREADS_PROPERTY, 1));
+		ParallelActorUpdater updater = shared;
+		if (updater == null || updater.threads != configured) {
+			synchronized (ParallelActorUpdater.class) {
+				updater = shared;
+				if (updater == null || updater.threads != configured) {
+					updater = new ParallelActorUpdater(configured);
+					shared = updater;
+				}
+			}
+		}
+		return updater;
+	}
+
+	/**
+	 * Gets the number of threads this updater uses.
+	 *
+	 * @return The thread count, 1 if it updates sequentially.
+	 */
+	public int getThreads() {
+		return threads;
+	}
+
+	/**
+	 * Updates every actor in a list by one tick.
+	 *
+	 * @param actors The actors to update. The list must not change while it is being updated.
+	 * @param deltaSeconds The length of the tick, in seconds.
+	 */
+	public void update(List<ActiveActorDestructible> actors, double deltaSeconds) {
+		int size = actors.size();
+		if (pool == null || size < PARALLEL_THRESHOLD) {
+			for (int i = 0; i < size; i++) {
+				actors.get(i).updateActor(deltaSeconds);
+			}
+			return;
+		}
+		pool.invoke(new IsolatedUpdate(actors, deltaSeconds, 0, size));
+		for (int i = 0; i < size; i++) {
+			ActiveActorDestructible actor = actors.get(i);
+			if (!actor.isUpdateIsolated()) {
+				actor.updateActor(deltaSeconds);
+			}
+		}
+	}
+
+	/**
+	 * Updates the isolated actors in a range of a list, splitting the range in half until it is small enough.
+	 * The task never leaves its pool, so it is never serialized.
+	 */
+	@SuppressWarnings("serial")
+	private static final class IsolatedUpdate extends RecursiveAction {
+
+		private final List<ActiveActorDestructible> actors;
+		private final double deltaSeconds;
+		private final int from;
+		private final int to;
+
+		/**
+		 * Constructs an IsolatedUpdate for a range of a list.
+		 *
+		 * @param actors The actors.
+		 * @param deltaSeconds The length of the tick, in seconds.
+		 * @param from The first index to update.
+		 * @param to The index after the last one to update.
+		 */
+		IsolatedUpdate(List<ActiveActorDestructible> actors, double deltaSeconds, int from, int to) {
+			this.actors = actors;
+			this.deltaSeconds = deltaSeconds;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= CHUNK_SIZE) {
+				for (int i = from; i < to; i++) {
+					ActiveActorDestructible actor = actors.get(i);
+					if (actor.isUpdateIsolated()) {
+						actor.updateActor(deltaSeconds);
+					}
+				}
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new IsolatedUpdate(actors, deltaSeconds, from, middle),
+					new IsolatedUpdate(actors, deltaSeconds, middle, to));
+		}
+
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.example.demo.simulation;
+
+import com.example.demo.LevelOutcome;
+
+/**
+ * The SimulationResult class summarises one headless run of a level: how it ended, how many ticks
+ * were simulated and how long that took.
+ *
+ * @author Talya
+ */
+public class SimulationResult {
+
+	private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+	private final LevelOutcome outcome;
+	private final long ticks;
+	private final long elapsedNanos;
+
+	/**
+	 * Constructs a SimulationResult.
+	 *
+	 * @param outcome How the level ended, or {@link LevelOutcome#IN_PROGRESS} if the tick limit was reached first.
+	 * @param ticks The number of ticks that were simulated.
+	 * @param elapsedNanos The wall-clock time the simulation took, in nanoseconds.
+	 */
+	public SimulationResult(LevelOutcome outcome, long ticks, long elapsedNanos) {
+		this.outcome = outcome;
+		this.ticks = ticks;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * Gets how the level ended.
+	 *
+	 * @return The outcome of the level, or {@link LevelOutcome#IN_PROGRESS} if the tick limit was reached first.
+	 */
+	public LevelOutcome getOutcome() {
+		return outcome;
+	}
+
+	/**
+	 * Gets the number of ticks that were simulated.
+	 *
+	 * @return The tick count.
+	 */
+	public long getTicks() {
+		return ticks;
+	}
+
+	/**
+	 * Gets the wall-clock time the simulation took.
+	 *
+	 * @return The elapsed time in nanoseconds.
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Gets the average simulation speed.
+	 *
+	 * @return The number of ticks simulated per second of wall-clock time.
+	 */
+	public double getTicksPerSecond() {
+		return elapsedNanos == 0 ? 0 : ticks * NANOS_PER_SECOND / elapsedNanos;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("outcome=%s ticks=%d elapsed=%.1fms ticks/s=%.0f",
+				outcome, ticks, elapsedNanos / 1_000_000.0, getTicksPerSecond());
+	}
+
+}
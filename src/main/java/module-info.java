@@ -1,12 +1,27 @@
 module com.example.demo {
-    requires javafx.controls;
+    requires transitive javafx.controls;
     requires javafx.fxml;
-    requires javafx.graphics;
-    requires javafx.base;
+    requires transitive javafx.graphics;
+    requires transitive javafx.base;
+
+    uses com.example.demo.LevelFactory;
+    provides com.example.demo.LevelFactory with
+            com.example.demo.levels.LevelOneFactory,
+            com.example.demo.levels.LevelTwoFactory,
+            com.example.demo.levels.StressTestLevelFactory;
 
     opens com.example.demo to javafx.graphics, javafx.fxml;
     //opens com.example.demo to javafx.fxml;
     exports com.example.demo.controller;
+    // Levels in other modules extend LevelParent and provide a LevelFactory
+    exports com.example.demo;
+    exports com.example.demo.levels;
+    exports com.example.demo.actors;
+    // Types that LevelParent hands to its subclasses
+    exports com.example.demo.events;
+    exports com.example.demo.profiling;
+    exports com.example.demo.random;
+    exports com.example.demo.simulation;
     opens com.example.demo.actors to javafx.fxml, javafx.graphics;
     opens com.example.demo.menus to javafx.fxml, javafx.graphics;
     opens com.example.demo.displays to javafx.fxml, javafx.graphics;
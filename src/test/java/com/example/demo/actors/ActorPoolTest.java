@@ -0,0 +1,89 @@
+package com.example.demo.actors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.demo.simulation.HeadlessMode;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that an {@link ActorPool} hands recycled actors out again and keeps its statistics right.
+ *
+ * @author Talya
+ */
+class ActorPoolTest {
+
+	@BeforeAll
+	static void enableHeadlessMode() {
+		HeadlessMode.setEnabled(true);
+	}
+
+	@Test
+	void reusesRecycledProjectile() {
+		ActorPool<UserProjectile> pool = new ActorPool<>("test", UserProjectile::new);
+		UserProjectile first = pool.obtain(10, 20);
+		first.destroy();
+		first.recycle();
+
+		UserProjectile second = pool.obtain(30, 40);
+
+		assertSame(first, second);
+		assertFalse(second.isDestroyed());
+		assertEquals(30, second.getPositionX());
+		assertEquals(40, second.getPositionY());
+	}
+
+	@Test
+	void countsHitsMissesAndHighWaterMark() {
+		ActorPool<UserProjectile> pool = new ActorPool<>("test", UserProjectile::new);
+		UserProjectile first = pool.obtain(0, 0);
+		UserProjectile second = pool.obtain(0, 0);
+		UserProjectile third = pool.obtain(0, 0);
+		assertNotSame(first, second);
+		first.recycle();
+		second.recycle();
+		pool.obtain(0, 0);
+
+		assertEquals(1, pool.getHits());
+		assertEquals(3, pool.getMisses());
+		assertEquals(2, pool.getInUse());
+		assertEquals(1, pool.getAvailable());
+		assertEquals(3, pool.getHighWaterMark());
+		third.recycle();
+		assertEquals(1, pool.getInUse());
+	}
+
+	@Test
+	void ignoresSecondRecycle() {
+		ActorPool<UserProjectile> pool = new ActorPool<>("test", UserProjectile::new);
+		UserProjectile projectile = pool.obtain(0, 0);
+		projectile.recycle();
+		projectile.recycle();
+
+		assertEquals(0, pool.getInUse());
+		assertEquals(1, pool.getAvailable());
+	}
+
+	@Test
+	void recycledWingmanReturnsAsPlainPowerUp() {
+		ActorPool<PowerUp> pool = PowerUp.getPool(PowerUpType.WINGMAN);
+		PowerUp first = PowerUp.obtain(PowerUpType.WINGMAN, 0, 0, null);
+		long hits = pool.getHits();
+		first.collect();
+		first.destroy();
+		first.recycle();
+
+		PowerUp second = PowerUp.obtain(PowerUpType.WINGMAN, 30, 40, null);
+
+		assertSame(first, second);
+		assertFalse(second.isAttached());
+		assertTrue(second.isCollectable());
+		assertEquals(hits + 1, pool.getHits());
+		assertEquals(0, PowerUp.getPool(PowerUpType.BARRIER).getAvailable());
+	}
+
+}
@@ -0,0 +1,116 @@
+package com.example.demo.bench;
+
+import java.util.random.RandomGenerator;
+
+import com.example.demo.LevelParent;
+import com.example.demo.SceneLayer;
+import com.example.demo.actors.EnemyPlane;
+import com.example.demo.actors.EnemyProjectile;
+import com.example.demo.actors.UserProjectile;
+import com.example.demo.levels.LevelView;
+import com.example.demo.random.RandomStream;
+
+/**
+ * The BenchmarkLevel class is a level that can be filled with any number of actors, for measuring the
+ * tick phases at a chosen load.
+ * <p>
+ * Actors are scattered over the whole playfield rather than entering from the right, so the collision
+ * passes see a steady density of overlaps. The level never ends on its own.
+ * </p>
+ *
+ * @author Talya
+ */
+public class BenchmarkLevel extends LevelParent {
+
+	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/bglevel1.jpg";
+	private static final int PLAYER_INITIAL_HEALTH = 5;
+
+	private final int actorCount;
+	private final RandomGenerator placementRandom;
+
+	/**
+	 * Constructs a BenchmarkLevel and initializes its scene.
+	 *
+	 * @param screenHeight The height of the playfield.
+	 * @param screenWidth The width of the playfield.
+	 * @param actorCount The number of actors of each kind the level is filled with.
+	 */
+	public BenchmarkLevel(double screenHeight, double screenWidth, int actorCount) {
+		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
+		this.actorCount = actorCount;
+		this.placementRandom = getRandom().stream(RandomStream.SPAWNING);
+		initializeScene();
+	}
+
+	/**
+	 * Fills the level with the configured number of enemies, user projectiles and enemy projectiles.
+	 */
+	public void populate() {
+		spawnEnemyUnits();
+		for (int i = 0; i < actorCount; i++) {
+			addUserProjectile(UserProjectile.obtain(randomX(), randomY()));
+			spawnEnemyProjectile(EnemyProjectile.obtain(randomX(), randomY()));
+		}
+	}
+
+	/**
+	 * Adds enemies at random positions until the level holds the configured number of them.
+	 */
+	@Override
+	protected void spawnEnemyUnits() {
+		for (int i = getCurrentNumberOfEnemies(); i < actorCount; i++) {
+			addEnemyUnit(new EnemyPlane(randomX(), randomY()));
+		}
+	}
+
+	/**
+	 * Does nothing, so the level keeps running however much damage the user takes.
+	 */
+	@Override
+	protected void checkIfGameOver() {
+	}
+
+	/**
+	 * Adds the user's plane to the scene.
+	 */
+	@Override
+	protected void initializeFriendlyUnits() {
+		addActorToScene(SceneLayer.FRIENDLIES, getUser());
+	}
+
+	/**
+	 * Does nothing; the benchmark level has no extra displays.
+	 */
+	@Override
+	protected void initializeContainers() {
+	}
+
+	/**
+	 * Instantiates a plain level view.
+	 *
+	 * @return The level view.
+	 */
+	@Override
+	protected LevelView instantiateLevelView() {
+		return new LevelView(getLayer(SceneLayer.HUD), PLAYER_INITIAL_HEALTH);
+	}
+
+	/**
+	 * Picks a random x-coordinate inside the playfield.
+	 *
+	 * @return The x-coordinate.
+	 */
+	private double randomX() {
+		return placementRandom.nextDouble() * getScreenWidth();
+	}
+
+	/**
+	 * Picks a random y-coordinate within the range enemies are allowed in.
+	 *
+	 * @return The y-coordinate.
+	 */
+	private double randomY() {
+		return placementRandom.nextDouble() * getEnemyMaximumYPosition();
+	}
+
+}
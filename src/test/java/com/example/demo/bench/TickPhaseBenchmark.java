@@ -0,0 +1,102 @@
+package com.example.demo.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import com.example.demo.TickPhase;
+import com.example.demo.logging.GameLog;
+import com.example.demo.logging.LogCategory;
+import com.example.demo.logging.LogLevel;
+import com.example.demo.random.RandomService;
+import com.example.demo.simulation.HeadlessMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The TickPhaseBenchmark class measures each {@link TickPhase} of a level on its own, at a range of actor counts.
+ * <p>
+ * A phase changes the level it runs on, so every iteration gets a fresh {@link BenchmarkLevel} holding the given
+ * number of enemies, user projectiles and enemy projectiles, runs the phases that come before the measured one so
+ * it sees the state it would see in a real tick, and then times the measured phase exactly once.
+ * {@link TickPhase#SPAWN} is the exception: it starts from an empty level and spawns all the enemies.
+ * </p>
+ * <p>
+ * Run it with {@code mvn -Pbench test-compile exec:exec}, which adds JMH's GC profiler for the allocation
+ * figures. Extra JMH options go in {@code -Djmh.args}, for example {@code -Djmh.args="-p phase=UPDATE"}.
+ * The profiler counts each iteration as a whole, so its bytes per operation include building the level; compare
+ * them between phases at the same actor count rather than reading them as a phase's own allocation.
+ * </p>
+ *
+ * @author Talya
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 100)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-Dprism.order=sw"})
+public class TickPhaseBenchmark {
+
+	private static final double SCREEN_WIDTH = 1300;
+	private static final double SCREEN_HEIGHT = 750;
+	private static final long SEED = 20240101L;
+
+	@Param({"10", "100", "1000", "10000"})
+	private int actorCount;
+
+	@Param
+	private TickPhase phase;
+
+	private BenchmarkLevel level;
+
+	/**
+	 * Runs the levels headlessly with a fixed seed, and keeps their log messages out of the results.
+	 */
+	@Setup(Level.Trial)
+	public void configure() {
+		HeadlessMode.setEnabled(true);
+		RandomService.setSessionSeed(SEED);
+		GameLog.setLevel(LogCategory.LEVEL, LogLevel.WARN);
+	}
+
+	/**
+	 * Builds a fresh level and brings it to the state the measured phase would see in a real tick.
+	 */
+	@Setup(Level.Iteration)
+	public void prepareLevel() {
+		level = new BenchmarkLevel(SCREEN_HEIGHT, SCREEN_WIDTH, actorCount);
+		if (phase == TickPhase.SPAWN) {
+			return;
+		}
+		level.populate();
+		for (TickPhase earlier : TickPhase.values()) {
+			if (earlier == phase) {
+				break;
+			}
+			if (earlier != TickPhase.SPAWN) {
+				level.runPhase(earlier);
+			}
+		}
+	}
+
+	/**
+	 * Runs the measured phase once.
+	 *
+	 * @return The level, so the phase's work cannot be optimized away.
+	 */
+	@Benchmark
+	public Object runPhase() {
+		level.runPhase(phase);
+		return level;
+	}
+
+}
@@ -0,0 +1,128 @@
+package com.example.demo.collisions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.simulation.HeadlessMode;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the {@link CollisionDetector} reports exactly the pairs, in exactly the order, of a brute-force
+ * scan over both lists, whether it scans them directly or through its spatial hash grid.
+ *
+ * @author Talya
+ */
+class CollisionDetectorTest {
+
+	private static final double WIDTH = 1300;
+	private static final double HEIGHT = 750;
+	private static final double CELL_SIZE = 100;
+	private static final String IMAGE_NAME = "enemyFire.png";
+	private static final int SMALL_HEIGHT = 30;
+	private static final int LARGE_HEIGHT = 320;
+
+	@BeforeAll
+	static void enableHeadlessMode() {
+		HeadlessMode.setEnabled(true);
+	}
+
+	@Test
+	void matchesBruteForceOnRandomLayouts() {
+		for (long seed = 1; seed <= 20; seed++) {
+			Random random = new Random(seed);
+			List<ActiveActor> actors1 = randomActors(random, 20 + random.nextInt(200));
+			List<ActiveActor> actors2 = randomActors(random, 20 + random.nextInt(200));
+			assertMatchesBruteForce(actors1, actors2, "seed " + seed);
+		}
+	}
+
+	@Test
+	void matchesBruteForceOnCellBorders() {
+		List<ActiveActor> actors1 = new ArrayList<>();
+		List<ActiveActor> actors2 = new ArrayList<>();
+		double width = new TestActor(0, 0, SMALL_HEIGHT).getWidth();
+		for (int column = 1; column < WIDTH / CELL_SIZE; column++) {
+			for (int row = 1; row < HEIGHT / CELL_SIZE; row++) {
+				double border = column * CELL_SIZE;
+				double y = row * CELL_SIZE;
+				actors1.add(new TestActor(border - width, y - SMALL_HEIGHT, SMALL_HEIGHT));
+				actors2.add(new TestActor(border, y, SMALL_HEIGHT));
+			}
+		}
+		assertMatchesBruteForce(actors1, actors2, "cell borders");
+	}
+
+	@Test
+	void matchesBruteForceWithLargeActors() {
+		Random random = new Random(42);
+		List<ActiveActor> actors1 = randomActors(random, 150);
+		List<ActiveActor> actors2 = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			actors2.add(new TestActor(random.nextDouble() * WIDTH, random.nextDouble() * HEIGHT, LARGE_HEIGHT));
+		}
+		assertMatchesBruteForce(actors1, actors2, "large actors second");
+		assertMatchesBruteForce(actors2, actors1, "large actors first");
+	}
+
+	@Test
+	void findsNothingInEmptyLists() {
+		CollisionDetector detector = new CollisionDetector(WIDTH, HEIGHT, CELL_SIZE);
+		List<ActiveActor> actors = randomActors(new Random(7), 100);
+		assertEquals(0, detector.findCollisions(List.of(), List.of()));
+		assertEquals(0, detector.findCollisions(actors, List.of()));
+		assertEquals(0, detector.findCollisions(List.of(), actors));
+	}
+
+	/**
+	 * Creates actors scattered over the playfield and a margin around it, so that some of them are clamped
+	 * into the border cells of the grid.
+	 */
+	private static List<ActiveActor> randomActors(Random random, int count) {
+		List<ActiveActor> actors = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			double x = random.nextDouble() * (WIDTH + 200) - 100;
+			double y = random.nextDouble() * (HEIGHT + 200) - 100;
+			actors.add(new TestActor(x, y, random.nextInt(10) == 0 ? LARGE_HEIGHT : SMALL_HEIGHT));
+		}
+		return actors;
+	}
+
+	private static void assertMatchesBruteForce(List<ActiveActor> actors1, List<ActiveActor> actors2, String layout) {
+		List<String> expected = new ArrayList<>();
+		for (int second = 0; second < actors2.size(); second++) {
+			for (int first = 0; first < actors1.size(); first++) {
+				if (actors2.get(second).intersects(actors1.get(first))) {
+					expected.add(second + "-" + first);
+				}
+			}
+		}
+		CollisionDetector detector = new CollisionDetector(WIDTH, HEIGHT, CELL_SIZE);
+		int count = detector.findCollisions(actors1, actors2);
+		List<String> actual = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			actual.add(detector.getSecondActorIndex(i) + "-" + detector.getFirstActorIndex(i));
+		}
+		assertEquals(expected, actual, layout);
+	}
+
+	/**
+	 * An actor that stays where it was created.
+	 */
+	private static final class TestActor extends ActiveActor {
+
+		TestActor(double x, double y, int height) {
+			super(IMAGE_NAME, height, x, y);
+		}
+
+		@Override
+		public void updatePosition(double deltaSeconds) {
+		}
+
+	}
+
+}
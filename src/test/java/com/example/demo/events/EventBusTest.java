@@ -0,0 +1,95 @@
+package com.example.demo.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the order in which the {@link EventBus} delivers events, and that changes to its listeners and failing
+ * listeners do not disturb a publish in progress.
+ *
+ * @author Talya
+ */
+class EventBusTest {
+
+	private final EventBus bus = new EventBus();
+	private final List<String> received = new ArrayList<>();
+
+	@Test
+	void deliversInSubscriptionOrder() {
+		bus.subscribe(TestEvent.class, event -> received.add("first " + event.value()));
+		bus.subscribe(TestEvent.class, event -> received.add("second " + event.value()));
+		bus.subscribe(OtherEvent.class, event -> received.add("other"));
+
+		bus.publish(new TestEvent(1));
+		bus.publish(new TestEvent(2));
+
+		assertEquals(List.of("first 1", "second 1", "first 2", "second 2"), received);
+		assertTrue(bus.hasListeners(OtherEvent.class));
+	}
+
+	@Test
+	void unsubscribeDuringDispatchAppliesFromNextPublish() {
+		GameEventListener<TestEvent> second = event -> received.add("second " + event.value());
+		bus.subscribe(TestEvent.class, event -> {
+			received.add("first " + event.value());
+			bus.unsubscribe(TestEvent.class, second);
+		});
+		bus.subscribe(TestEvent.class, second);
+
+		bus.publish(new TestEvent(1));
+		bus.publish(new TestEvent(2));
+
+		assertEquals(List.of("first 1", "second 1", "first 2"), received);
+	}
+
+	@Test
+	void listenerCanUnsubscribeItself() {
+		bus.subscribe(TestEvent.class, new GameEventListener<TestEvent>() {
+			@Override
+			public void onEvent(TestEvent event) {
+				received.add("once " + event.value());
+				bus.unsubscribe(TestEvent.class, this);
+			}
+		});
+
+		bus.publish(new TestEvent(1));
+		bus.publish(new TestEvent(2));
+
+		assertEquals(List.of("once 1"), received);
+		assertFalse(bus.hasListeners(TestEvent.class));
+	}
+
+	@Test
+	void throwingListenerDoesNotStopOthers() {
+		bus.subscribe(TestEvent.class, event -> received.add("before"));
+		bus.subscribe(TestEvent.class, event -> {
+			throw new IllegalStateException("listener failure");
+		});
+		bus.subscribe(TestEvent.class, event -> received.add("after"));
+
+		bus.publish(new TestEvent(1));
+
+		assertEquals(List.of("before", "after"), received);
+	}
+
+	/**
+	 * An event used only by these tests.
+	 *
+	 * @param value A value that identifies the event.
+	 */
+	private record TestEvent(int value) {
+	}
+
+	/**
+	 * A second event class, to check that listeners receive only the class they subscribed to.
+	 */
+	private record OtherEvent() {
+	}
+
+}
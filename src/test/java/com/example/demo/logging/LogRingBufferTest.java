@@ -0,0 +1,104 @@
+package com.example.demo.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that a {@link LogRingBuffer} hands records out in the order they were offered and counts the ones
+ * it drops when full.
+ *
+ * @author Talya
+ */
+class LogRingBufferTest {
+
+	@Test
+	void pollsInOfferOrder() {
+		LogRingBuffer buffer = new LogRingBuffer(8);
+		List<LogRecord> records = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			LogRecord record = record(i);
+			records.add(record);
+			assertTrue(buffer.offer(record));
+		}
+		for (LogRecord record : records) {
+			assertSame(record, buffer.poll());
+		}
+		assertNull(buffer.poll());
+		assertTrue(buffer.isEmpty());
+	}
+
+	@Test
+	void dropsAndCountsWhenFull() {
+		LogRingBuffer buffer = new LogRingBuffer(4);
+		LogRecord first = record(0);
+		buffer.offer(first);
+		for (int i = 1; i < 4; i++) {
+			buffer.offer(record(i));
+		}
+
+		assertFalse(buffer.offer(record(4)));
+		assertFalse(buffer.offer(record(5)));
+		assertEquals(2, buffer.getDropped());
+		assertEquals(4, buffer.getAccepted());
+
+		assertSame(first, buffer.poll());
+		assertTrue(buffer.offer(record(6)));
+		assertEquals(2, buffer.getDropped());
+	}
+
+	@Test
+	void keepsEveryRecordOfConcurrentProducers() throws InterruptedException {
+		int producers = 4;
+		int perProducer = 1_024;
+		LogRingBuffer buffer = new LogRingBuffer(producers * perProducer);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<>();
+		for (int p = 0; p < producers; p++) {
+			Thread thread = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				for (int i = 0; i < perProducer; i++) {
+					buffer.offer(record(i));
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		int polled = 0;
+		while (buffer.poll() != null) {
+			polled++;
+		}
+		assertEquals(producers * perProducer, polled);
+		assertEquals(0, buffer.getDropped());
+	}
+
+	@Test
+	void rejectsCapacityThatIsNotAPowerOfTwo() {
+		assertThrows(IllegalArgumentException.class, () -> new LogRingBuffer(6));
+		assertThrows(IllegalArgumentException.class, () -> new LogRingBuffer(0));
+	}
+
+	private static LogRecord record(int index) {
+		return new LogRecord(LogCategory.GAME, LogLevel.INFO, "record {}", index);
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.example.demo.random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.random.RandomGenerator;
+
+import com.example.demo.LevelParent;
+import com.example.demo.simulation.HeadlessRunner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that seeded runs are reproducible: the same session seed, which {@code skybattle.seed} sets at start-up,
+ * always plays a level out the same way, and a different seed plays it differently.
+ *
+ * @author Talya
+ */
+class RandomServiceTest {
+
+	private static final String LEVEL = "com.example.demo.levels.LevelOne";
+	private static final long MAX_TICKS = 600;
+	private static final int AUTO_FIRE_INTERVAL = 5;
+
+	private final long originalSessionSeed = RandomService.getSessionSeed();
+
+	@AfterEach
+	void restoreSessionSeed() {
+		RandomService.setSessionSeed(originalSessionSeed);
+	}
+
+	@Test
+	void sameSeedGivesSameRun() {
+		assertEquals(fingerprintOfRun(42), fingerprintOfRun(42));
+	}
+
+	@Test
+	void differentSeedsGiveDifferentRuns() {
+		assertNotEquals(fingerprintOfRun(42), fingerprintOfRun(43));
+	}
+
+	@Test
+	void streamsDoNotDependOnEachOther() {
+		RandomService first = new RandomService(7);
+		RandomGenerator spawning = first.stream(RandomStream.SPAWNING);
+		double expected = spawning.nextDouble();
+
+		RandomService second = new RandomService(7);
+		second.stream(RandomStream.BOSS_MOVEMENT).nextDouble();
+		assertEquals(expected, second.stream(RandomStream.SPAWNING).nextDouble());
+	}
+
+	private static long fingerprintOfRun(long seed) {
+		RandomService.setSessionSeed(seed);
+		LevelParent level = HeadlessRunner.createLevel(LEVEL);
+		new HeadlessRunner(level, AUTO_FIRE_INTERVAL).run(MAX_TICKS);
+		return level.getStateFingerprint();
+	}
+
+}
@@ -0,0 +1,150 @@
+package com.example.demo.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.example.demo.LevelOutcome;
+import com.example.demo.LevelParent;
+import com.example.demo.random.RandomService;
+import com.example.demo.simulation.HeadlessRunner;
+import com.example.demo.simulation.SimulationResult;
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks that a recorded session survives a round trip through its file and replays to exactly the state the
+ * level was recorded in, and that damaged recording files are rejected.
+ *
+ * @author Talya
+ */
+class ReplayRunnerTest {
+
+	private static final String RECORD_DIRECTORY_PROPERTY = "skybattle.record";
+	private static final String LEVEL = "com.example.demo.levels.LevelOne";
+	private static final long SESSION_SEED = 42;
+	private static final long MAX_TICKS = 20_000;
+	private static final int FINGERPRINT_BYTES = Long.BYTES;
+
+	@TempDir
+	Path directory;
+
+	private final long originalSessionSeed = RandomService.getSessionSeed();
+	private LevelParent recordedLevel;
+	private Path recordingFile;
+
+	@BeforeEach
+	void recordSession() throws IOException {
+		System.setProperty(RECORD_DIRECTORY_PROPERTY, directory.toString());
+		try {
+			RandomService.setSessionSeed(SESSION_SEED);
+			recordedLevel = HeadlessRunner.createLevel(LEVEL);
+			playScriptedInput(recordedLevel);
+		} finally {
+			System.clearProperty(RECORD_DIRECTORY_PROPERTY);
+		}
+		try (Stream<Path> files = Files.list(directory)) {
+			List<Path> recordings = files.toList();
+			assertEquals(1, recordings.size(), "the level should write one recording when it ends");
+			recordingFile = recordings.get(0);
+		}
+	}
+
+	@AfterEach
+	void restoreSessionSeed() {
+		RandomService.setSessionSeed(originalSessionSeed);
+	}
+
+	@Test
+	void replayReachesRecordedEndState() throws IOException {
+		InputRecording recording = InputRecording.read(recordingFile);
+		assertTrue(recording.getEventCount() > 0);
+		assertEquals(recordedLevel.getOutcome(), recording.getEndOutcome());
+		assertEquals(recordedLevel.getTickCount(), recording.getEndTick());
+		assertEquals(recordedLevel.getStateFingerprint(), recording.getEndFingerprint());
+
+		ReplayRunner runner = replay(recording);
+		SimulationResult result = runner.run();
+
+		assertEquals(recordedLevel.getOutcome(), result.getOutcome());
+		assertEquals(recordedLevel.getTickCount(), result.getTicks());
+		assertTrue(runner.matchesRecording());
+	}
+
+	@Test
+	void replayDetectsChangedFingerprint() throws IOException {
+		byte[] bytes = Files.readAllBytes(recordingFile);
+		bytes[bytes.length - 1] ^= 1;
+		Files.write(recordingFile, bytes);
+
+		ReplayRunner runner = replay(InputRecording.read(recordingFile));
+		runner.run();
+
+		assertFalse(runner.matchesRecording());
+	}
+
+	@Test
+	void rejectsTruncatedFile() throws IOException {
+		byte[] bytes = Files.readAllBytes(recordingFile);
+		Files.write(recordingFile, Arrays.copyOf(bytes, bytes.length / 2));
+
+		assertThrows(IOException.class, () -> InputRecording.read(recordingFile));
+	}
+
+	@Test
+	void rejectsCorruptedFile() throws IOException {
+		byte[] bytes = Files.readAllBytes(recordingFile);
+		byte[] badMagic = bytes.clone();
+		badMagic[0] ^= 0x55;
+		Files.write(recordingFile, badMagic);
+		assertThrows(IOException.class, () -> InputRecording.read(recordingFile));
+
+		byte[] badOutcome = bytes.clone();
+		badOutcome[bytes.length - FINGERPRINT_BYTES - 1] = Byte.MAX_VALUE;
+		Files.write(recordingFile, badOutcome);
+		assertThrows(IOException.class, () -> InputRecording.read(recordingFile));
+	}
+
+	/**
+	 * Plays the level to its end, moving the user up and down and firing on a fixed schedule.
+	 */
+	private static void playScriptedInput(LevelParent level) {
+		while (level.getOutcome() == LevelOutcome.IN_PROGRESS && level.getTickCount() < MAX_TICKS) {
+			long tick = level.getTickCount();
+			switch ((int) (tick % 60)) {
+				case 0 -> level.handleKeyPressed(KeyCode.UP);
+				case 20 -> {
+					level.handleKeyReleased(KeyCode.UP);
+					level.handleKeyPressed(KeyCode.DOWN);
+				}
+				case 45 -> level.handleKeyReleased(KeyCode.DOWN);
+				default -> { }
+			}
+			if (tick % 7 == 0) {
+				level.handleKeyPressed(KeyCode.SPACE);
+				level.handleKeyReleased(KeyCode.SPACE);
+			}
+			level.updateScene();
+		}
+		assertNotEquals(LevelOutcome.IN_PROGRESS, level.getOutcome(), "the scripted session should end the level");
+	}
+
+	private static ReplayRunner replay(InputRecording recording) {
+		RandomService.setSessionSeed(recording.getSessionSeed());
+		LevelParent level = HeadlessRunner.createLevel(recording.getLevelClassName());
+		return new ReplayRunner(recording, level, false);
+	}
+
+}
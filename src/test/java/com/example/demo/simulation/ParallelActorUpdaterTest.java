@@ -0,0 +1,73 @@
+package com.example.demo.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.demo.bench.BenchmarkLevel;
+import com.example.demo.random.RandomService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that a level holding more actors than the parallel threshold reaches exactly the same state whether
+ * its actors are updated on one thread or on several.
+ *
+ * @author Talya
+ */
+class ParallelActorUpdaterTest {
+
+	private static final String THREADS_PROPERTY = "skybattle.updateThreads";
+	private static final double SCREEN_WIDTH = 1300;
+	private static final double SCREEN_HEIGHT = 750;
+	private static final int ACTOR_COUNT = 2_000;
+	private static final int TICKS = 60;
+	private static final long SEED = 20240101L;
+
+	private final long originalSessionSeed = RandomService.getSessionSeed();
+
+	@BeforeAll
+	static void enableHeadlessMode() {
+		HeadlessMode.setEnabled(true);
+	}
+
+	@AfterEach
+	void restoreConfiguration() {
+		System.clearProperty(THREADS_PROPERTY);
+		RandomService.setSessionSeed(originalSessionSeed);
+	}
+
+	@Test
+	void threadCountDoesNotChangeResult() {
+		long sequential = fingerprintOfRun(1);
+		long parallel = fingerprintOfRun(4);
+
+		assertEquals(sequential, parallel);
+	}
+
+	@Test
+	void sharedUpdaterFollowsProperty() {
+		System.setProperty(THREADS_PROPERTY, "4");
+		assertEquals(4, ParallelActorUpdater.shared().getThreads());
+
+		System.setProperty(THREADS_PROPERTY, "1");
+		assertEquals(1, ParallelActorUpdater.shared().getThreads());
+	}
+
+	/**
+	 * Fills a seeded level with actors and runs it for a fixed number of ticks.
+	 *
+	 * @param threads The number of threads to update actors on.
+	 * @return The level's fingerprint after the last tick.
+	 */
+	private static long fingerprintOfRun(int threads) {
+		System.setProperty(THREADS_PROPERTY, Integer.toString(threads));
+		RandomService.setSessionSeed(SEED);
+		BenchmarkLevel level = new BenchmarkLevel(SCREEN_HEIGHT, SCREEN_WIDTH, ACTOR_COUNT);
+		level.populate();
+		for (int tick = 0; tick < TICKS; tick++) {
+			level.updateScene();
+		}
+		return level.getStateFingerprint();
+	}
+
+}